@@ -0,0 +1,85 @@
+package ddog.benchmarks.chat;
+
+import ddog.domain.chat.ChatMessage;
+import ddog.domain.chat.enums.ChatType;
+import ddog.persistence.nosql.entity.ChatMessageDynamoEntity;
+import org.openjdk.jmh.annotations.*;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 저장/조회 한 건마다 드는 스키마 비용: 예전처럼 호출마다 fromBean 으로 만들기 vs 미리 만든 정적 스키마
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatMessageSchemaBenchmark {
+
+    private ChatMessage message;
+    private LegacyChatMessageBean legacyItem;
+    private Map<String, AttributeValue> legacyAttributes;
+    private Map<String, AttributeValue> attributes;
+
+    @Setup
+    public void setup() {
+        message = ChatMessage.builder()
+                .chatRoomId(42L)
+                .messageId(1_700_000_000_000L)
+                .messageType(ChatType.TEXT_MESSAGE)
+                .senderId(7L)
+                .recipientId(8L)
+                .timestamp(LocalDateTime.of(2024, 11, 20, 14, 3, 27, 123_456_000))
+                .content("내일 오후 두 시에 미용 예약 가능할까요?")
+                .build();
+
+        legacyItem = new LegacyChatMessageBean();
+        legacyItem.setChatRoomId(message.getChatRoomId());
+        legacyItem.setMessageId(message.getMessageId());
+        legacyItem.setMessageType(message.getMessageType());
+        legacyItem.setSenderId(message.getSenderId());
+        legacyItem.setRecipientId(message.getRecipientId());
+        legacyItem.setTimestamp(message.getTimestamp().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        legacyItem.setContent(message.getContent());
+
+        legacyAttributes = TableSchema.fromBean(LegacyChatMessageBean.class).itemToMap(legacyItem, true);
+        attributes = ChatMessageDynamoEntity.TABLE_SCHEMA.itemToMap(ChatMessageDynamoEntity.from(message), true);
+    }
+
+    @Benchmark
+    public TableSchema<LegacyChatMessageBean> beanSchemaPerCall() {
+        return TableSchema.fromBean(LegacyChatMessageBean.class);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> writeWithBeanSchemaPerCall() {
+        return TableSchema.fromBean(LegacyChatMessageBean.class).itemToMap(legacyItem, true);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> writeWithStaticSchema() {
+        return ChatMessageDynamoEntity.TABLE_SCHEMA.itemToMap(ChatMessageDynamoEntity.from(message), true);
+    }
+
+    // 예전 읽기 경로: 호출마다 스키마를 만들고 timestamp 문자열을 파싱한다
+    @Benchmark
+    public ChatMessage readWithBeanSchemaPerCall() {
+        LegacyChatMessageBean item = TableSchema.fromBean(LegacyChatMessageBean.class).mapToItem(legacyAttributes);
+        return ChatMessage.builder()
+                .chatRoomId(item.getChatRoomId())
+                .messageId(item.getMessageId())
+                .messageType(item.getMessageType())
+                .senderId(item.getSenderId())
+                .recipientId(item.getRecipientId())
+                .timestamp(LocalDateTime.parse(item.getTimestamp(), DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .content(item.getContent())
+                .build();
+    }
+
+    @Benchmark
+    public ChatMessage readWithStaticSchema() {
+        return ChatMessageDynamoEntity.TABLE_SCHEMA.mapToItem(attributes).toModel();
+    }
+}
@@ -0,0 +1,76 @@
+package ddog.benchmarks.chat;
+
+import ddog.domain.chat.enums.ChatType;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
+
+// 비교용으로 남겨 둔 예전 빈 매핑 (TableSchema.fromBean 으로 읽던 ChatMessageDynamoEntity 와 같은 속성)
+@DynamoDbBean
+public class LegacyChatMessageBean {
+    private Long messageId;
+    private Long chatRoomId;
+    private ChatType messageType;
+    private Long senderId;
+    private Long recipientId;
+    private String timestamp;
+    private String content;
+
+    public Long getMessageId() {
+        return messageId;
+    }
+
+    public void setMessageId(Long messageId) {
+        this.messageId = messageId;
+    }
+
+    @DynamoDbPartitionKey
+    public Long getChatRoomId() {
+        return chatRoomId;
+    }
+
+    public void setChatRoomId(Long chatRoomId) {
+        this.chatRoomId = chatRoomId;
+    }
+
+    public ChatType getMessageType() {
+        return messageType;
+    }
+
+    public void setMessageType(ChatType messageType) {
+        this.messageType = messageType;
+    }
+
+    public Long getSenderId() {
+        return senderId;
+    }
+
+    public void setSenderId(Long senderId) {
+        this.senderId = senderId;
+    }
+
+    public Long getRecipientId() {
+        return recipientId;
+    }
+
+    public void setRecipientId(Long recipientId) {
+        this.recipientId = recipientId;
+    }
+
+    @DynamoDbSortKey
+    public String getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(String timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+}
@@ -0,0 +1,70 @@
+package ddog.benchmarks.filtering;
+
+import ddog.domain.filtering.AhoCorasickMatcher;
+import ddog.domain.filtering.ContentNormalizer;
+import ddog.domain.filtering.DoubleArrayAutomaton;
+import ddog.domain.filtering.MatchListener;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AhoCorasickMatcherBenchmark {
+
+    @Param({FilteringFixtures.BUNDLED, "100000"})
+    public String dictionarySize;
+
+    @Param({"100", "400", "2000"})
+    public int textLength;
+
+    @Param({"0", "0.01", "0.05"})
+    public double matchDensity;
+
+    private AhoCorasickMatcher matcher;
+    private DoubleArrayAutomaton automaton;
+    private String text;
+    private char[] textChars;
+    private CountingListener listener;
+
+    @Setup
+    public void setup() {
+        Set<String> banWords = FilteringFixtures.banWords(dictionarySize);
+        matcher = new AhoCorasickMatcher();
+        banWords.forEach(word -> matcher.addKeyword("banWord", word));
+        FilteringFixtures.allowWords().forEach(word -> matcher.addKeyword("allowWord", word));
+        automaton = matcher.compile();
+
+        text = ContentNormalizer.normalize(FilteringFixtures.text(textLength, matchDensity, banWords));
+        textChars = text.toCharArray();
+        listener = new CountingListener();
+    }
+
+    @Benchmark
+    public List<int[]> search() {
+        List<int[]> outputWordPositionData = new ArrayList<>();
+        matcher.search(text, outputWordPositionData, new ArrayList<>());
+        return outputWordPositionData;
+    }
+
+    @Benchmark
+    public int searchStreaming() {
+        listener.matches = 0;
+        automaton.search(textChars, textChars.length, listener);
+        return listener.matches;
+    }
+
+    private static final class CountingListener implements MatchListener {
+        private int matches;
+
+        @Override
+        public boolean onMatch(String word, boolean banWord, int startPosition, int endPosition) {
+            matches++;
+            return true;
+        }
+    }
+}
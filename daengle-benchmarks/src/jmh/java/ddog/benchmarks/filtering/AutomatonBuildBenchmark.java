@@ -0,0 +1,67 @@
+package ddog.benchmarks.filtering;
+
+import ddog.domain.filtering.AutomatonSnapshot;
+import ddog.domain.filtering.BanWordValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class AutomatonBuildBenchmark {
+
+    @Param({FilteringFixtures.BUNDLED, "10000", "100000"})
+    public String dictionarySize;
+
+    private Set<String> banWords;
+    private Set<String> allowWords;
+    private Path banWordsFile;
+    private Path allowWordsFile;
+    private Path snapshot;
+
+    @Setup
+    public void setup() throws IOException {
+        banWords = FilteringFixtures.banWords(dictionarySize);
+        allowWords = FilteringFixtures.allowWords();
+
+        banWordsFile = Files.write(Files.createTempFile("badWords", ".txt"), banWords);
+        allowWordsFile = Files.write(Files.createTempFile("allowWords", ".txt"), allowWords);
+        snapshot = Files.createTempFile("banWords", ".snapshot");
+        AutomatonSnapshot.write(BanWordValidator.compile(banWords, allowWords, false), snapshot, fingerprint(),
+                banWords.size(), allowWords.size());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshot);
+        Files.deleteIfExists(banWordsFile);
+        Files.deleteIfExists(allowWordsFile);
+    }
+
+    @Benchmark
+    public BanWordValidator build() {
+        return new BanWordValidator(banWords, allowWords);
+    }
+
+    @Benchmark
+    // 기동 시와 같이 단어 파일을 해시해 스냅샷과 맞는지 확인하고 매핑한다
+    public Optional<AutomatonSnapshot.Mapping> mapSnapshot() throws IOException {
+        return AutomatonSnapshot.map(snapshot, fingerprint());
+    }
+
+    private long fingerprint() throws IOException {
+        try (InputStream banWordsInput = Files.newInputStream(banWordsFile);
+             InputStream allowWordsInput = Files.newInputStream(allowWordsFile)) {
+            return AutomatonSnapshot.fingerprint(banWordsInput, allowWordsInput, false);
+        }
+    }
+}
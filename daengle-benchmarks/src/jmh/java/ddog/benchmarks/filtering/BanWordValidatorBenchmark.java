@@ -0,0 +1,45 @@
+package ddog.benchmarks.filtering;
+
+import ddog.domain.filtering.BanWordMatch;
+import ddog.domain.filtering.BanWordValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BanWordValidatorBenchmark {
+
+    @Param({FilteringFixtures.BUNDLED, "100000"})
+    public String dictionarySize;
+
+    @Param({"100", "400", "2000"})
+    public int textLength;
+
+    @Param({"0", "0.01", "0.05"})
+    public double matchDensity;
+
+    private BanWordValidator banWordValidator;
+    private String content;
+
+    @Setup
+    public void setup() {
+        Set<String> banWords = FilteringFixtures.banWords(dictionarySize);
+        Set<String> allowWords = FilteringFixtures.allowWords();
+        banWordValidator = new BanWordValidator(banWords, allowWords);
+        content = FilteringFixtures.text(textLength, matchDensity, banWords);
+    }
+
+    @Benchmark
+    public boolean checkBanWord() {
+        return banWordValidator.checkBanWord(content);
+    }
+
+    @Benchmark
+    public List<BanWordMatch> findAllBanWords() {
+        return banWordValidator.findAllBanWords(content);
+    }
+}
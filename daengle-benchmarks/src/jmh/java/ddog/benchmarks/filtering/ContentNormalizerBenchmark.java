@@ -0,0 +1,41 @@
+package ddog.benchmarks.filtering;
+
+import ddog.domain.filtering.ContentNormalizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ContentNormalizerBenchmark {
+
+    @Param({"100", "400", "2000"})
+    public int textLength;
+
+    private String text;
+    private ContentNormalizer normalizer;
+    private ContentNormalizer foldingNormalizer;
+
+    @Setup
+    public void setup() {
+        text = FilteringFixtures.text(textLength, 0.01, FilteringFixtures.banWords(FilteringFixtures.BUNDLED));
+        normalizer = new ContentNormalizer();
+        foldingNormalizer = new ContentNormalizer(true, true);
+    }
+
+    @Benchmark
+    public String normalize() {
+        return ContentNormalizer.normalize(text);
+    }
+
+    @Benchmark
+    public int normalizeIntoBuffer() {
+        return normalizer.load(text).length();
+    }
+
+    @Benchmark
+    public int normalizeIntoBufferWithFolding() {
+        return foldingNormalizer.load(text).length();
+    }
+}
@@ -0,0 +1,80 @@
+package ddog.benchmarks.filtering;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+final class FilteringFixtures {
+
+    static final String BUNDLED = "bundled";
+
+    private static final String CLEAN_SENTENCE = "처음 이용했는데 친절하게 잘 해주셨어요 아이도 편안해 보여서 다음에도 예약할게요 ";
+
+    private FilteringFixtures() {
+    }
+
+    // bundled 는 배포되는 사전 그대로, 숫자는 배포 사전에 임의의 한글 단어를 더해 그 크기로 맞춘다
+    static Set<String> banWords(String dictionarySize) {
+        Set<String> words = loadWords("badWords.txt");
+        if (BUNDLED.equals(dictionarySize)) return words;
+
+        Random random = new Random(42);
+        int size = Integer.parseInt(dictionarySize);
+        while (words.size() < size) {
+            words.add(randomWord(random));
+        }
+        return words;
+    }
+
+    static Set<String> allowWords() {
+        return loadWords("allowWords.txt");
+    }
+
+    // matchDensity 는 글자 위치마다 금칙어가 끼어들 확률
+    static String text(int length, double matchDensity, Set<String> banWords) {
+        List<String> candidates = new ArrayList<>(banWords);
+        Collections.sort(candidates);
+        Random random = new Random(7);
+
+        StringBuilder text = new StringBuilder(length);
+        while (text.length() < length) {
+            if (random.nextDouble() < matchDensity) {
+                text.append(candidates.get(random.nextInt(candidates.size())));
+            } else {
+                text.append(CLEAN_SENTENCE.charAt(text.length() % CLEAN_SENTENCE.length()));
+            }
+        }
+        text.setLength(length);
+        return text.toString();
+    }
+
+    private static String randomWord(Random random) {
+        int length = 2 + random.nextInt(5);
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('가' + random.nextInt(2_000)));
+        }
+        return word.toString();
+    }
+
+    private static Set<String> loadWords(String fileName) {
+        Set<String> words = new HashSet<>();
+        try (InputStream inputStream = FilteringFixtures.class.getClassLoader().getResourceAsStream(fileName);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(
+                     Objects.requireNonNull(inputStream, fileName), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    words.add(line.trim());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return words;
+    }
+}
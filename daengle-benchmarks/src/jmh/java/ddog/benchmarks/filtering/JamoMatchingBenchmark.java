@@ -0,0 +1,45 @@
+package ddog.benchmarks.filtering;
+
+import ddog.domain.filtering.BanWordValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// 음절 모드 대비 자모 모드의 비용, 직접 입력한 자모가 없으면 자모 스트림은 분해만 하고 검사하지 않는다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JamoMatchingBenchmark {
+
+    @Param({"100", "400", "2000"})
+    public int textLength;
+
+    @Param({"false", "true"})
+    public boolean rawJamo;
+
+    private BanWordValidator syllableBanWordValidator;
+    private BanWordValidator jamoBanWordValidator;
+    private String content;
+
+    @Setup
+    public void setup() {
+        Set<String> banWords = FilteringFixtures.banWords(FilteringFixtures.BUNDLED);
+        Set<String> allowWords = FilteringFixtures.allowWords();
+        syllableBanWordValidator = new BanWordValidator(banWords, allowWords);
+        jamoBanWordValidator = new BanWordValidator(banWords, allowWords, false, true);
+
+        String text = FilteringFixtures.text(textLength, 0, banWords);
+        content = rawJamo ? text.substring(0, textLength / 2) + " ㅋㅋ " + text.substring(textLength / 2) : text;
+    }
+
+    @Benchmark
+    public boolean syllableOnly() {
+        return syllableBanWordValidator.checkBanWord(content);
+    }
+
+    @Benchmark
+    public boolean jamo() {
+        return jamoBanWordValidator.checkBanWord(content);
+    }
+}
@@ -0,0 +1,71 @@
+package ddog.chat.application;
+
+import ddog.chat.application.exception.ChatException;
+import ddog.chat.application.exception.ChatExceptionType;
+import ddog.domain.filtering.BanWordValidator;
+import ddog.domain.filtering.DoubleArrayAutomaton;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// 방/발신자별 오토마톤 상태만 기억해서 여러 메시지에 나눠 보낸 금칙어도 이전 대화를 다시 읽지 않고 잡는다
+@Slf4j
+@Component
+public class ChatBanWordFilter {
+
+    private final BanWordValidator banWordValidator;
+    private final long idleTimeoutMillis;
+    private final ConcurrentHashMap<Conversation, ConversationState> conversations = new ConcurrentHashMap<>();
+
+    public ChatBanWordFilter(BanWordValidator banWordValidator,
+                             @Value("${filter.chat.idle-timeout-ms:600000}") long idleTimeoutMillis) {
+        this.banWordValidator = banWordValidator;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    public void validate(Long roomId, Long senderId, String content) {
+        if (content == null || content.isEmpty()) return;
+
+        // 같은 대화의 메시지는 순서대로 검사되도록 엔트리 단위로 잠근다
+        boolean[] banned = new boolean[1];
+        conversations.compute(new Conversation(roomId, senderId), (conversation, conversationState) -> {
+            if (conversationState == null) conversationState = new ConversationState();
+
+            int nextState = banWordValidator.findBanWords(conversationState.automatonState, content);
+            if (nextState == BanWordValidator.BAN_WORD_FOUND) {
+                banned[0] = true;
+            } else {
+                // 차단된 메시지는 전달되지 않으므로 상태를 넘기지 않는다
+                conversationState.automatonState = nextState;
+            }
+            conversationState.lastActiveAt = System.currentTimeMillis();
+            return conversationState;
+        });
+
+        if (banned[0]) {
+            // 메시지 하나에 온전히 들어 있으면 그 단어를, 경계에 걸쳐 있으면 기본 메시지를 돌려준다
+            String banWord = banWordValidator.findBanWords(content);
+            if (banWord != null) throw new ChatException(ChatExceptionType.CHAT_MESSAGE_CONTAIN_BAN_WORD, banWord);
+            throw new ChatException(ChatExceptionType.CHAT_MESSAGE_CONTAIN_BAN_WORD);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${filter.chat.eviction-interval-ms:60000}")
+    public void evictIdleConversations() {
+        long idleSince = System.currentTimeMillis() - idleTimeoutMillis;
+        int before = conversations.size();
+        conversations.values().removeIf(conversationState -> conversationState.lastActiveAt < idleSince);
+        log.debug("유휴 대화 필터 상태 정리 before={}, after={}", before, conversations.size());
+    }
+
+    private record Conversation(Long roomId, Long senderId) {
+    }
+
+    private static final class ConversationState {
+        private int automatonState = DoubleArrayAutomaton.INITIAL_STATE;
+        private long lastActiveAt;
+    }
+}
@@ -0,0 +1,100 @@
+package ddog.chat.application;
+
+import ddog.domain.chat.ChatRoom;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// 방 번호 -> 참여자(userId, partnerId, partnerType), 메시지를 보낼 때마다 MySQL 을 읽지 않도록 서버 안에 둔다
+// 방의 참여자는 바뀌지 않고 삭제만 되므로 최근에 쓴 방부터 maxSize 개만 남긴다 (LRU)
+// 방을 지우면 ChatRoomInvalidationRelay 로 모든 서버에서 지우고, 그 알림을 놓친 서버도 넣은 지 ttl 이 지나면 다시 읽는다
+// 지표는 actuator 의 cache.gets{cache=chatRoomMembership,result=hit|miss}, cache.evictions, cache.size 로 본다
+@Component
+public class ChatRoomMembershipCache {
+
+    private static final String CACHE_NAME = "chatRoomMembership";
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Map<Long, CachedRoom> rooms;
+    private final long ttlNanos;
+    // 읽는 동안 삭제된 방을 다시 넣지 않도록 무효화마다 올린다
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ChatRoomMembershipCache(@Value("${chat.room-cache.max-size:10000}") int maxSize,
+                                   @Value("${chat.room-cache.ttl-ms:600000}") long ttlMillis,
+                                   MeterRegistry meterRegistry) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.hits = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", CACHE_NAME).register(meterRegistry);
+        this.rooms = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedRoom> eldest) {
+                if (size() <= maxSize) return false;
+                evictions.increment();
+                return true;
+            }
+        };
+
+        Gauge.builder("cache.size", this, ChatRoomMembershipCache::size).tag("cache", CACHE_NAME).register(meterRegistry);
+    }
+
+    // 없으면 loader 로 읽어 넣는다, 읽는 동안은 잠그지 않으므로 같은 방을 동시에 두 번 읽을 수 있다
+    public ChatRoom get(Long roomId, Function<Long, ChatRoom> loader) {
+        synchronized (rooms) {
+            CachedRoom cached = rooms.get(roomId);
+            if (cached != null && System.nanoTime() - cached.cachedAt() < ttlNanos) {
+                hits.increment();
+                return cached.room();
+            }
+            if (cached != null) {
+                rooms.remove(roomId);
+            }
+        }
+        misses.increment();
+
+        long version = invalidations.get();
+        ChatRoom room = loader.apply(roomId);
+        if (room != null) {
+            synchronized (rooms) {
+                if (invalidations.get() == version) {
+                    rooms.put(roomId, new CachedRoom(room, System.nanoTime()));
+                }
+            }
+        }
+        return room;
+    }
+
+    public void put(ChatRoom room) {
+        if (room == null || room.getChatRoomId() == null) return;
+        synchronized (rooms) {
+            rooms.put(room.getChatRoomId(), new CachedRoom(room, System.nanoTime()));
+        }
+    }
+
+    public void invalidate(Long roomId) {
+        synchronized (rooms) {
+            invalidations.incrementAndGet();
+            rooms.remove(roomId);
+        }
+    }
+
+    public int size() {
+        synchronized (rooms) {
+            return rooms.size();
+        }
+    }
+
+    private record CachedRoom(ChatRoom room, long cachedAt) {
+    }
+}
@@ -1,23 +1,32 @@
 package ddog.chat.application;
 
+import ddog.chat.application.exception.ChatException;
+import ddog.chat.application.exception.ChatExceptionType;
+import ddog.chat.application.port.ChatRoomInvalidationRelay;
 import ddog.chat.presentation.dto.ChatMessageReq;
 import ddog.chat.presentation.dto.ChatMessagesListResp;
 import ddog.chat.presentation.dto.PartnerChatRoomListResp;
 import ddog.chat.presentation.dto.UserChatRoomListResp;
 import ddog.domain.account.Account;
+import ddog.domain.account.ProfileSummary;
 import ddog.domain.account.Role;
 import ddog.domain.account.port.AccountPersist;
 import ddog.domain.chat.ChatMessage;
+import ddog.domain.chat.ChatMessagePage;
 import ddog.domain.chat.ChatRoom;
+import ddog.domain.chat.ChatRoomSummary;
+import ddog.domain.chat.enums.ChatType;
 import ddog.domain.chat.enums.PartnerType;
 import ddog.domain.chat.port.ChatMessagePersist;
 import ddog.domain.chat.port.ChatRoomPersist;
+import ddog.domain.chat.port.ChatRoomSummaryPersist;
 import ddog.domain.estimate.CareEstimate;
 import ddog.domain.estimate.GroomingEstimate;
 import ddog.domain.estimate.port.CareEstimatePersist;
 import ddog.domain.estimate.port.GroomingEstimatePersist;
 import ddog.domain.groomer.Groomer;
 import ddog.domain.groomer.port.GroomerPersist;
+import ddog.domain.id.SnowflakeIdGenerator;
 import ddog.domain.user.User;
 import ddog.domain.user.port.UserPersist;
 import ddog.domain.vet.Vet;
@@ -25,8 +34,10 @@ import ddog.domain.vet.port.VetPersist;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -34,28 +45,36 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ChatService {
 
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
+
     private final ChatMessagePersist chatMessagePersist;
     private final ChatRoomPersist chatRoomPersist;
+    private final ChatRoomSummaryPersist chatRoomSummaryPersist;
     private final UserPersist userPersist;
     private final GroomerPersist groomerPersist;
     private final VetPersist vetPersist;
     private final AccountPersist accountPersist;
+    private final ChatBanWordFilter chatBanWordFilter;
+    private final SnowflakeIdGenerator chatMessageIdGenerator;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final ChatRoomInvalidationRelay chatRoomInvalidationRelay;
 
     private ChatRoom startChat(Role role, Long accountId, Long otherUserId) {
         return findOrSaveChatRoom(role, accountId, otherUserId);
     }
 
-    public ChatMessagesListResp getAllMessagesByRoomId(Role role, Long userAccountId, Long otherUserId) {
+    public ChatMessagesListResp getMessagesByRoomId(Role role, Long userAccountId, Long otherUserId, String cursor, int size) {
         ChatRoom savedChatRoom = startChat(role, userAccountId, otherUserId);
         String otherUserProfile = null;
         String otherUserName = null;
         if (role.equals(Role.DAENGLE)) {
-            Account savedOtherUser = accountPersist.findById(otherUserId);
-            if (savedOtherUser.getRole().equals(Role.GROOMER)) {
+            // 상대의 역할은 findOrSaveChatRoom 이 이미 읽어 방의 partnerType 으로 남겼으므로 계정을 다시 읽지 않는다
+            PartnerType partnerType = savedChatRoom.getPartnerType();
+            if (partnerType == PartnerType.GROOMER_PARTNER) {
                 Groomer savedGroomer = groomerPersist.findByAccountId(otherUserId).orElse(null);
                 otherUserProfile = (savedGroomer != null) ? savedGroomer.getImageUrl() : null;
                 otherUserName = (savedGroomer != null) ? savedGroomer.getName() : null;
-            } else if (savedOtherUser.getRole().equals(Role.VET)) {
+            } else if (partnerType == PartnerType.VET_PARTNER) {
                 Vet savedVet = vetPersist.findByAccountId(otherUserId).orElse(null);
                 otherUserProfile = (savedVet != null) ? savedVet.getImageUrl() : null;
                 otherUserName = (savedVet != null) ? savedVet.getName() : null;
@@ -66,43 +85,15 @@ public class ChatService {
             otherUserName = (savedUser != null) ? savedUser.getNickname() : null;
         }
 
-        List<ChatMessage> savedMessages = chatMessagePersist.findByChatRoomId(savedChatRoom.getChatRoomId());
+        ChatMessagePage savedMessages = chatMessagePersist.findByChatRoomId(
+                savedChatRoom.getChatRoomId(), cursor, Math.min(Math.max(size, 1), MAX_MESSAGE_PAGE_SIZE));
+        ChatRoomSummary summary = findRoomSummaries(List.of(savedChatRoom)).get(savedChatRoom.getChatRoomId());
 
-        if (savedMessages == null || savedMessages.isEmpty()) {
-            return ChatMessagesListResp.builder()
-                    .roomId(savedChatRoom.getChatRoomId())
-                    .userId(userAccountId)
-                    .otherId(otherUserId)
-                    .otherName(otherUserName)
-                    .otherProfile(otherUserProfile)
-                    .messagesGroupedByDate(Collections.emptyList())
-                    .build();
-        }
-
-        Map<LocalDate, List<ChatMessagesListResp.ChatMessageSummary>> groupedMessages = savedMessages.stream()
-                .sorted(Comparator.comparing(ChatMessage::getTimestamp))
-                .collect(Collectors.groupingBy(
-                        message -> message.getTimestamp().toLocalDate(),
-                        Collectors.mapping(
-                                message -> ChatMessagesListResp.ChatMessageSummary.builder()
-                                        .messageId(message.getMessageId())
-                                        .messageSenderId(message.getSenderId())
-                                        .messageContent(message.getContent())
-                                        .messageTime(message.getTimestamp())
-                                        .messageType(message.getMessageType())
-                                        .build(),
-                                Collectors.toList()
-                        )));
-
-        List<Map<String, Object>> messagesByDate = groupedMessages.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .map(entry -> {
-                    Map<String, Object> dateMap = new HashMap<>();
-                    dateMap.put("date", entry.getKey().toString());
-                    dateMap.put("messages", entry.getValue());
-                    return dateMap;
-                })
-                .collect(Collectors.toList());
+        // 최신 페이지를 열면 그 페이지의 마지막 메시지까지 읽은 것으로 본다
+        List<ChatMessage> messages = savedMessages.getMessages();
+        if (cursor == null && !messages.isEmpty()) {
+            chatRoomSummaryPersist.markRead(savedChatRoom.getChatRoomId(), userAccountId, messages.get(messages.size() - 1).getMessageId());
+        }
 
         return ChatMessagesListResp.builder()
                 .roomId(savedChatRoom.getChatRoomId())
@@ -110,10 +101,42 @@ public class ChatService {
                 .otherId(otherUserId)
                 .otherName(otherUserName)
                 .otherProfile(otherUserProfile)
-                .messagesGroupedByDate(messagesByDate)
+                .messagesGroupedByDate(groupByDate(messages))
+                .nextCursor(savedMessages.getNextCursor())
+                .otherLastReadMessageId(summary.getLastReadMessageId(otherUserId))
                 .build();
     }
 
+    // 페이지 안의 메시지는 이미 시간순이므로 날짜가 바뀔 때마다 묶음을 새로 연다
+    // 페이지 경계에 걸친 날짜는 두 페이지에 나눠 담기므로 클라이언트가 같은 date 끼리 이어 붙인다
+    private List<Map<String, Object>> groupByDate(List<ChatMessage> messages) {
+        List<Map<String, Object>> messagesByDate = new ArrayList<>();
+        LocalDate currentDate = null;
+        List<ChatMessagesListResp.ChatMessageSummary> currentMessages = null;
+
+        for (ChatMessage message : messages) {
+            LocalDate date = message.getTimestamp().toLocalDate();
+            if (!date.equals(currentDate)) {
+                currentDate = date;
+                currentMessages = new ArrayList<>();
+
+                Map<String, Object> dateMap = new HashMap<>();
+                dateMap.put("date", date.toString());
+                dateMap.put("messages", currentMessages);
+                messagesByDate.add(dateMap);
+            }
+
+            currentMessages.add(ChatMessagesListResp.ChatMessageSummary.builder()
+                    .messageId(message.getMessageId())
+                    .messageSenderId(message.getSenderId())
+                    .messageContent(message.getContent())
+                    .messageTime(message.getTimestamp())
+                    .messageType(message.getMessageType())
+                    .build());
+        }
+        return messagesByDate;
+    }
+
     public UserChatRoomListResp findUserChatRoomList(Long userId, PartnerType partnerType) {
         List<ChatRoom> savedChatRooms = chatRoomPersist.findByUserIdAndPartnerType(userId, partnerType);
 
@@ -121,35 +144,30 @@ public class ChatService {
             return UserChatRoomListResp.builder().roomList(Collections.emptyList()).build();
         }
 
+        Map<Long, ChatRoomSummary> summaries = findRoomSummaries(savedChatRooms);
+        Map<Long, ProfileSummary> partnerProfiles = findPartnerProfiles(savedChatRooms);
+
         List<UserChatRoomListResp.RoomList> userChatRoomListResps = new ArrayList<>();
-        for (ChatRoom savedChatRoom : savedChatRooms) {
+        for (ChatRoom savedChatRoom : sortByLastActivity(savedChatRooms, summaries)) {
 
-            String partnerName = null;
-            String partnerProfile = null;
+            ProfileSummary partnerProfile = partnerProfiles.get(savedChatRoom.getPartnerId());
+            String partnerName = (partnerProfile != null) ? partnerProfile.getName() : null;
+            String partnerImageUrl = (partnerProfile != null) ? partnerProfile.getImageUrl() : null;
 
-            Account partnerAccount = accountPersist.findById(savedChatRoom.getPartnerId());
-            if (partnerAccount.getRole().equals(Role.GROOMER)) {
-                Groomer savedGroomer = groomerPersist.findByAccountId(partnerAccount.getAccountId()).orElse(null);
-                partnerName = (savedGroomer != null) ? savedGroomer.getName() : null;
-                partnerProfile = (savedGroomer != null) ? savedGroomer.getImageUrl() : null;
-            } else if (partnerAccount.getRole().equals(Role.VET)) {
-                Vet savedVet = vetPersist.findByAccountId(partnerAccount.getAccountId()).orElse(null);
-                partnerName = (savedVet != null) ? savedVet.getName() : null;
-                partnerProfile = (savedVet != null) ? savedVet.getImageUrl() : null;
-            }
-            ChatMessage savedLastMessages = chatMessagePersist.findLatestMessageByRoomId(savedChatRoom.getChatRoomId());
-            String lastMessage = (savedLastMessages != null) ? savedLastMessages.getContent() : "";
-            String messageTime = (savedLastMessages != null)
-                    ? savedLastMessages.getTimestamp().toString()
+            ChatRoomSummary summary = summaries.get(savedChatRoom.getChatRoomId());
+            String lastMessage = (summary.getLastMessageTime() != null) ? summary.getLastMessage() : "";
+            String messageTime = (summary.getLastMessageTime() != null)
+                    ? summary.getLastMessageTime().toString()
                     : "";
 
             userChatRoomListResps.add(UserChatRoomListResp.RoomList.builder()
                     .roomId(savedChatRoom.getChatRoomId())
                     .otherId(savedChatRoom.getPartnerId())
                     .otherName(partnerName)
-                    .otherProfile(partnerProfile)
+                    .otherProfile(partnerImageUrl)
                     .messageTime(messageTime)
                     .lastMessage(lastMessage)
+                    .unreadCount(summary.getUnreadCount(userId))
                     .partnerType(savedChatRoom.getPartnerType())
                     .build());
         }
@@ -165,13 +183,35 @@ public class ChatService {
             return false;
         }
         chatRoomPersist.exitChatRoom(savedChatRoom.getUserId(), savedChatRoom.getPartnerId());
+        chatRoomMembershipCache.invalidate(roomId);
+        chatRoomInvalidationRelay.publish(roomId);
 
         return true;
     }
 
+    // 클라이언트가 화면에 보여 준 마지막 메시지를 알려 오면 읽음 커서를 앞당긴다
+    public void markRead(Long roomId, Long accountId, Long messageId) {
+        if (messageId == null) {
+            throw new IllegalArgumentException("읽은 메시지 ID 가 없습니다.");
+        }
+
+        findParticipatingRoom(roomId, accountId);
+        chatRoomSummaryPersist.markRead(roomId, accountId, messageId);
+    }
+
+    // 보낸 사람은 인증된 계정(accountId)으로만 정한다, 요청 본문의 senderId 는 쓰지 않는다
     public ChatMessage sendAndSaveMessage(ChatMessageReq chatMessageReq, Long roomId, Long accountId) {
-        Long recipientId = findMessageRecipientByRoomId(roomId, chatMessageReq.getSenderId());
-        Long messageId = System.currentTimeMillis();
+        ChatRoom chatRoom = findParticipatingRoom(roomId, accountId);
+        Long recipientId = accountId.equals(chatRoom.getUserId()) ? chatRoom.getPartnerId() : chatRoom.getUserId();
+
+        if (chatMessageReq.getMessageType() == ChatType.TEXT_MESSAGE) {
+            chatBanWordFilter.validate(roomId, accountId, chatMessageReq.getMessageContent());
+        }
+
+        // ID 는 서버 간에도 겹치지 않고 시간순으로 증가한다, 정렬 키와 어긋나지 않도록 시각도 ID 에서 꺼낸다
+        long messageId = chatMessageIdGenerator.nextId();
+        LocalDateTime timestamp = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(SnowflakeIdGenerator.timestampMillis(messageId)), ZoneId.systemDefault());
 
         ChatMessage chatMessage = ChatMessage.builder()
                 .messageId(messageId)
@@ -180,7 +220,7 @@ public class ChatService {
                 .senderId(accountId)
                 .content(chatMessageReq.getMessageContent())
                 .recipientId(recipientId)
-                .timestamp(LocalDateTime.now())
+                .timestamp(timestamp)
                 .build();
 
         return chatMessagePersist.save(chatMessage);
@@ -193,20 +233,25 @@ public class ChatService {
             return PartnerChatRoomListResp.builder().roomList(Collections.emptyList()).build();
         }
 
+        Map<Long, ChatRoomSummary> summaries = findRoomSummaries(savedChatRooms);
+        Map<Long, ProfileSummary> userProfiles = byAccountId(userPersist.findProfilesByAccountIds(
+                savedChatRooms.stream().map(ChatRoom::getUserId).collect(Collectors.toSet())));
+
         List<PartnerChatRoomListResp.RoomList> partnerChatRoomListResps = new ArrayList<>();
-        for (ChatRoom savedChatRoom : savedChatRooms) {
+        for (ChatRoom savedChatRoom : sortByLastActivity(savedChatRooms, summaries)) {
 
-            User savedUser = userPersist.findByAccountId(savedChatRoom.getUserId()).orElse(null);
+            ProfileSummary userProfile = userProfiles.get(savedChatRoom.getUserId());
 
-            ChatMessage savedLastMessages = chatMessagePersist.findLatestMessageByRoomId(savedChatRoom.getChatRoomId());
+            ChatRoomSummary summary = summaries.get(savedChatRoom.getChatRoomId());
 
             partnerChatRoomListResps.add(PartnerChatRoomListResp.RoomList.builder()
                     .roomId(savedChatRoom.getChatRoomId())
                     .otherId(savedChatRoom.getUserId())
-                    .otherName((savedUser != null) ? savedUser.getNickname() : null)
-                    .otherProfile((savedUser != null) ? savedUser.getImageUrl() : null)
-                    .messageTime((savedLastMessages != null) ? savedLastMessages.getTimestamp().toString() : null)
-                    .lastMessage((savedLastMessages != null) ? savedLastMessages.getContent() : null)
+                    .otherName((userProfile != null) ? userProfile.getName() : null)
+                    .otherProfile((userProfile != null) ? userProfile.getImageUrl() : null)
+                    .messageTime((summary.getLastMessageTime() != null) ? summary.getLastMessageTime().toString() : null)
+                    .lastMessage((summary.getLastMessageTime() != null) ? summary.getLastMessage() : null)
+                    .unreadCount(summary.getUnreadCount(userId))
                     .build());
 
         }
@@ -218,9 +263,10 @@ public class ChatService {
     public ChatRoom findOrSaveChatRoom(Role role, Long accountId, Long otherUserId) {
         ChatRoom toSaveChat = null;
         if (role.equals(Role.DAENGLE)) {
-            if (accountPersist.findById(otherUserId).getRole().equals(Role.VET)) {
+            Role otherUserRole = accountPersist.findById(otherUserId).getRole();
+            if (otherUserRole.equals(Role.VET)) {
                 toSaveChat = chatRoomPersist.enterChatRoom(accountId, otherUserId, PartnerType.VET_PARTNER);
-            } else if (accountPersist.findById(otherUserId).getRole().equals(Role.GROOMER)) {
+            } else if (otherUserRole.equals(Role.GROOMER)) {
                 toSaveChat = chatRoomPersist.enterChatRoom(accountId, otherUserId, PartnerType.GROOMER_PARTNER);
             }
         } else {
@@ -230,15 +276,72 @@ public class ChatService {
                 toSaveChat = chatRoomPersist.enterChatRoom(otherUserId, accountId, PartnerType.VET_PARTNER);
             }
         }
+        // 채팅방을 연 뒤에는 곧 메시지를 보내므로 미리 넣어 둔다
+        chatRoomMembershipCache.put(toSaveChat);
         return toSaveChat;
     }
 
-    private Long findMessageRecipientByRoomId(Long roomId, Long senderId) {
-        ChatRoom savedChatRoom = chatRoomPersist.findByRoomId(roomId);
-        if (savedChatRoom == null) {
-            return null;
+    // 방 요약을 BatchGetItem 으로 한 번에 읽고, 요약이 생기기 전의 방만 최신 메시지를 조회해 요약을 채워 둔다
+    private Map<Long, ChatRoomSummary> findRoomSummaries(List<ChatRoom> chatRooms) {
+        List<Long> chatRoomIds = chatRooms.stream().map(ChatRoom::getChatRoomId).toList();
+
+        Map<Long, ChatRoomSummary> summaries = new HashMap<>();
+        for (ChatRoomSummary summary : chatRoomSummaryPersist.findByChatRoomIds(chatRoomIds)) {
+            summaries.put(summary.getChatRoomId(), summary);
+        }
+
+        for (Long chatRoomId : chatRoomIds) {
+            if (summaries.containsKey(chatRoomId)) continue;
+
+            ChatRoomSummary summary = ChatRoomSummary.of(chatRoomId, chatMessagePersist.findLatestMessageByRoomId(chatRoomId));
+            chatRoomSummaryPersist.saveIfAbsent(summary);
+            summaries.put(chatRoomId, summary);
+        }
+        return summaries;
+    }
+
+    // 상대 계정의 역할을 한 번에 읽고, 미용사와 병원 프로필을 역할별로 한 번씩 조회한다
+    private Map<Long, ProfileSummary> findPartnerProfiles(List<ChatRoom> chatRooms) {
+        Set<Long> partnerIds = chatRooms.stream().map(ChatRoom::getPartnerId).collect(Collectors.toSet());
+
+        List<Long> groomerIds = new ArrayList<>();
+        List<Long> vetIds = new ArrayList<>();
+        for (Account partnerAccount : accountPersist.findByIds(partnerIds)) {
+            if (partnerAccount.getRole().equals(Role.GROOMER)) {
+                groomerIds.add(partnerAccount.getAccountId());
+            } else if (partnerAccount.getRole().equals(Role.VET)) {
+                vetIds.add(partnerAccount.getAccountId());
+            }
+        }
+
+        Map<Long, ProfileSummary> partnerProfiles = byAccountId(groomerPersist.findProfilesByAccountIds(groomerIds));
+        partnerProfiles.putAll(byAccountId(vetPersist.findProfilesByAccountIds(vetIds)));
+        return partnerProfiles;
+    }
+
+    private Map<Long, ProfileSummary> byAccountId(List<ProfileSummary> profiles) {
+        Map<Long, ProfileSummary> profilesByAccountId = new HashMap<>();
+        for (ProfileSummary profile : profiles) {
+            profilesByAccountId.put(profile.getAccountId(), profile);
+        }
+        return profilesByAccountId;
+    }
+
+    private List<ChatRoom> sortByLastActivity(List<ChatRoom> chatRooms, Map<Long, ChatRoomSummary> summaries) {
+        return chatRooms.stream()
+                .sorted(Comparator.comparing(
+                        (ChatRoom chatRoom) -> summaries.get(chatRoom.getChatRoomId()).getLastMessageTime(),
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .toList();
+    }
+
+    // 방이 없거나 accountId 가 방의 사용자도 상대도 아니면 거절한다
+    private ChatRoom findParticipatingRoom(Long roomId, Long accountId) {
+        ChatRoom chatRoom = chatRoomMembershipCache.get(roomId, chatRoomPersist::findByRoomId);
+        if (chatRoom == null || accountId == null
+                || !(accountId.equals(chatRoom.getUserId()) || accountId.equals(chatRoom.getPartnerId()))) {
+            throw new ChatException(ChatExceptionType.CHAT_ROOM_NOT_PARTICIPANT);
         }
-        if (savedChatRoom.getUserId().equals(senderId)) return savedChatRoom.getPartnerId();
-        else return savedChatRoom.getUserId();
+        return chatRoom;
     }
 }
@@ -0,0 +1,22 @@
+package ddog.chat.application.adapter;
+
+import ddog.chat.application.port.ChatMessageRelay;
+import ddog.domain.chat.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+// 서버 한 대로 띄울 때 (chat.relay=local), 같은 JVM 의 구독자에게만 전달한다
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.relay", havingValue = "local")
+public class LocalChatMessageRelay implements ChatMessageRelay {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void publish(Long roomId, ChatMessage message) {
+        messagingTemplate.convertAndSend("/sub/" + roomId, message);
+    }
+}
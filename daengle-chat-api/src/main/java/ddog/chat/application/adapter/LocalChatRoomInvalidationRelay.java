@@ -0,0 +1,15 @@
+package ddog.chat.application.adapter;
+
+import ddog.chat.application.port.ChatRoomInvalidationRelay;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 서버 한 대로 띄울 때 (chat.relay=local), 지운 서버의 캐시가 유일한 캐시이므로 알릴 곳이 없다
+@Component
+@ConditionalOnProperty(name = "chat.relay", havingValue = "local")
+public class LocalChatRoomInvalidationRelay implements ChatRoomInvalidationRelay {
+
+    @Override
+    public void publish(Long roomId) {
+    }
+}
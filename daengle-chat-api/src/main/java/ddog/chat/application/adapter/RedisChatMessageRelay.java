@@ -0,0 +1,154 @@
+package ddog.chat.application.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ddog.chat.application.port.ChatMessageRelay;
+import ddog.domain.chat.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+// 여러 서버로 띄울 때 (기본값), 메시지를 방마다 Redis 채널 "chat:room:{roomId}" 로 발행하고 각 서버가 자기 구독자에게 전달한다
+// 구독자가 있는 방의 채널만 구독하므로 서버는 자기가 맡은 방의 메시지만 받는다, 보낸 서버도 Redis 를 거쳐 받으므로 두 번 전달되지 않는다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.relay", havingValue = "redis", matchIfMissing = true)
+public class RedisChatMessageRelay implements ChatMessageRelay, MessageListener {
+
+    private static final String DESTINATION_PREFIX = "/sub/";
+    private static final String CHANNEL_PREFIX = "chat:room:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 세션별 구독(구독 ID -> 방)과 방별 로컬 구독 수, 채널 구독/해제와 함께 바뀌도록 this 로 잠근다
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new HashMap<>();
+    private final Map<Long, Integer> roomSubscriberCounts = new HashMap<>();
+
+    // 저장은 이미 끝났으므로 실시간 전달에 실패해도 요청은 실패시키지 않는다 (다시 들어오면 내역으로 보인다)
+    @Override
+    public void publish(Long roomId, ChatMessage message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + roomId, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("채팅 메시지 발행 실패 roomId={} messageId={}", roomId, message.getMessageId(), e);
+        }
+    }
+
+    // 발행할 때 만든 JSON 을 다시 변환하지 않고 그대로 구독자에게 보낸다
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String roomId = channel.substring(CHANNEL_PREFIX.length());
+
+        messagingTemplate.send(DESTINATION_PREFIX + roomId, MessageBuilder.withPayload(message.getBody())
+                .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                .build());
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), accessor.getDestination());
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    // 방의 첫 로컬 구독자가 생기면 채널을 구독한다, /sub/{roomId} 가 아닌 구독은 무시한다
+    public synchronized void subscribe(String sessionId, String subscriptionId, String destination) {
+        Long roomId = parseRoomId(destination);
+        if (sessionId == null || subscriptionId == null || roomId == null) return;
+
+        Long previous = sessionSubscriptions.computeIfAbsent(sessionId, id -> new HashMap<>()).put(subscriptionId, roomId);
+        if (previous != null) {
+            release(previous);
+        }
+        if (roomSubscriberCounts.merge(roomId, 1, Integer::sum) == 1) {
+            try {
+                listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + roomId));
+            } catch (RuntimeException e) {
+                // 채널을 구독하지 못했으면 다음 구독자가 다시 시도하도록 되돌린다
+                roomSubscriberCounts.remove(roomId);
+                sessionSubscriptions.get(sessionId).remove(subscriptionId);
+                throw e;
+            }
+        }
+    }
+
+    public synchronized void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, Long> subscriptions = sessionSubscriptions.get(sessionId);
+        if (subscriptions == null) return;
+
+        Long roomId = subscriptions.remove(subscriptionId);
+        if (subscriptions.isEmpty()) {
+            sessionSubscriptions.remove(sessionId);
+        }
+        if (roomId != null) {
+            release(roomId);
+        }
+    }
+
+    public synchronized void disconnect(String sessionId) {
+        Map<String, Long> subscriptions = sessionSubscriptions.remove(sessionId);
+        if (subscriptions == null) return;
+
+        subscriptions.values().forEach(this::release);
+    }
+
+    public synchronized boolean isListening(Long roomId) {
+        return roomSubscriberCounts.containsKey(roomId);
+    }
+
+    // 방의 마지막 로컬 구독자가 나가면 채널 구독을 해제한다
+    private void release(Long roomId) {
+        Integer count = roomSubscriberCounts.get(roomId);
+        if (count == null) return;
+
+        if (count > 1) {
+            roomSubscriberCounts.put(roomId, count - 1);
+            return;
+        }
+        roomSubscriberCounts.remove(roomId);
+        listenerContainer.removeMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + roomId));
+    }
+
+    private Long parseRoomId(String destination) {
+        if (destination == null || !destination.startsWith(DESTINATION_PREFIX)) return null;
+        try {
+            return Long.valueOf(destination.substring(DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package ddog.chat.application.adapter;
+
+import ddog.chat.application.ChatRoomMembershipCache;
+import ddog.chat.application.port.ChatRoomInvalidationRelay;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+// 여러 서버로 띄울 때 (기본값), 지운 방 번호를 Redis 채널 "chat:room-invalidation" 으로 발행하고 모든 서버가 자기 캐시에서 지운다
+// 발행에 실패하거나 알림을 놓친 서버는 캐시의 ttl 이 지나면 MySQL 에서 다시 읽는다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.relay", havingValue = "redis", matchIfMissing = true)
+public class RedisChatRoomInvalidationRelay implements ChatRoomInvalidationRelay, MessageListener {
+
+    private static final String CHANNEL = "chat:room-invalidation";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+
+    @PostConstruct
+    public void start() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 방은 이미 지워졌으므로 알리지 못해도 요청은 실패시키지 않는다
+    @Override
+    public void publish(Long roomId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(roomId));
+        } catch (RuntimeException e) {
+            log.error("채팅방 캐시 무효화 발행 실패 roomId={}", roomId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String roomId = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            chatRoomMembershipCache.invalidate(Long.valueOf(roomId));
+        } catch (NumberFormatException e) {
+            log.warn("채팅방 캐시 무효화 메시지를 읽을 수 없습니다. body={}", roomId);
+        }
+    }
+}
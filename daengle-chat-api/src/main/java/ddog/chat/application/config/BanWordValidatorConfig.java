@@ -0,0 +1,44 @@
+package ddog.chat.application.config;
+
+import ddog.domain.filtering.BanWordValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+// 채팅 서버는 대화별 오토마톤 상태를 들고 있으므로 사전을 교체하지 않고 기동 시 한 번만 만든다
+@Configuration
+public class BanWordValidatorConfig {
+
+    @Bean
+    public BanWordValidator banWordValidator(ResourceLoader resourceLoader,
+                                             @Value("${filter.ban-words-location:classpath:filter/badWords.txt}") String banWordsLocation,
+                                             @Value("${filter.allow-words-location:classpath:filter/allowWords.txt}") String allowWordsLocation) throws IOException {
+        Set<String> banWords = loadWordsFromResource(resourceLoader.getResource(banWordsLocation));
+        Set<String> allowWords = loadWordsFromResource(resourceLoader.getResource(allowWordsLocation));
+        return new BanWordValidator(banWords, allowWords);
+    }
+
+    private Set<String> loadWordsFromResource(Resource resource) throws IOException {
+        Set<String> words = new HashSet<>();
+        try (InputStream inputStream = resource.getInputStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    words.add(line.trim());
+                }
+            }
+        }
+        return words;
+    }
+}
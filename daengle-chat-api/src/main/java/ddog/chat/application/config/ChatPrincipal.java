@@ -0,0 +1,21 @@
+package ddog.chat.application.config;
+
+import ddog.domain.account.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.security.Principal;
+
+// STOMP CONNECT 때 토큰에서 꺼낸 계정, 세션이 끝날 때까지 SEND 마다 다시 파싱하지 않는다
+@Getter
+@AllArgsConstructor
+public class ChatPrincipal implements Principal {
+
+    private final Long accountId;
+    private final Role role;
+
+    @Override
+    public String getName() {
+        return String.valueOf(accountId);
+    }
+}
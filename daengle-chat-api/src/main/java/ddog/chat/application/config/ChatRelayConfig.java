@@ -0,0 +1,20 @@
+package ddog.chat.application.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// 방 채널 구독은 RedisChatMessageRelay 가 로컬 구독자 수에 따라 직접 붙이고 뗀다
+@Configuration
+@ConditionalOnProperty(name = "chat.relay", havingValue = "redis", matchIfMissing = true)
+public class ChatRelayConfig {
+
+    @Bean
+    public RedisMessageListenerContainer chatRelayListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+}
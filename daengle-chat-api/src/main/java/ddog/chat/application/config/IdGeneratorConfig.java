@@ -0,0 +1,25 @@
+package ddog.chat.application.config;
+
+import ddog.domain.id.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.management.ManagementFactory;
+
+// 채팅 메시지 ID 생성기, 서버마다 다른 chat.node-id (0 ~ 1023) 를 주어야 서버 간 ID 가 겹치지 않는다
+@Slf4j
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public SnowflakeIdGenerator chatMessageIdGenerator(@Value("${chat.node-id:-1}") int nodeId) {
+        if (nodeId < 0) {
+            // 설정이 없으면 호스트 이름과 프로세스로 정한다, 서버 사이에 겹칠 수 있으므로 운영에서는 직접 지정한다
+            nodeId = Math.floorMod(ManagementFactory.getRuntimeMXBean().getName().hashCode(), SnowflakeIdGenerator.MAX_NODE_ID + 1);
+            log.warn("chat.node-id 가 설정되지 않아 {} 를 사용합니다.", nodeId);
+        }
+        return new SnowflakeIdGenerator(nodeId);
+    }
+}
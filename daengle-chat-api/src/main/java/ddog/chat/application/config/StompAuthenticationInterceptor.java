@@ -0,0 +1,54 @@
+package ddog.chat.application.config;
+
+import ddog.auth.config.jwt.JwtTokenProvider;
+import ddog.auth.exception.AuthException;
+import ddog.auth.exception.AuthExceptionType;
+import ddog.domain.account.Role;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+// CONNECT 프레임의 Authorization 헤더로 한 번만 인증한다, 토큰이 없으면 구독만 하는 연결로 둔다 (보내기는 ChatStompController 가 막는다)
+@Component
+@RequiredArgsConstructor
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+
+        String bearerToken = accessor.getFirstNativeHeader("Authorization");
+        if (bearerToken == null) {
+            return message;
+        }
+        if (!bearerToken.startsWith(BEARER_PREFIX)) {
+            throw new AuthException(AuthExceptionType.UNSUPPORTED_TOKEN);
+        }
+
+        String token = bearerToken.substring(BEARER_PREFIX.length());
+        jwtTokenProvider.validateToken(token);
+
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        Long accountId = Long.valueOf(claims.getSubject().split(",")[1]);
+        String auth = claims.get("auth", String.class);
+        if (auth == null) {
+            throw new AuthException(AuthExceptionType.MISSING_AUTH_CLAIM);
+        }
+
+        accessor.setUser(new ChatPrincipal(accountId, Role.valueOf(auth.substring(5).toUpperCase())));
+        return message;
+    }
+}
@@ -0,0 +1,34 @@
+package ddog.chat.application.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+
+// STOMP 채널 실행기의 대기열 길이와 작업 중인 스레드 수 (chat.stomp.channel.queue.size / active.threads, channel=inbound|outbound|broker)
+@Configuration
+public class StompChannelMetricsConfig {
+
+    @Bean
+    public MeterBinder stompChannelMetrics(@Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor inboundExecutor,
+                                           @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor outboundExecutor,
+                                           @Qualifier("brokerChannelExecutor") ThreadPoolTaskExecutor brokerExecutor) {
+        Map<String, ThreadPoolTaskExecutor> executors = Map.of(
+                "inbound", inboundExecutor,
+                "outbound", outboundExecutor,
+                "broker", brokerExecutor);
+
+        return registry -> executors.forEach((channel, executor) -> {
+            Gauge.builder("chat.stomp.channel.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                    .tag("channel", channel)
+                    .register(registry);
+            Gauge.builder("chat.stomp.channel.active.threads", executor, ThreadPoolTaskExecutor::getActiveCount)
+                    .tag("channel", channel)
+                    .register(registry);
+        });
+    }
+}
@@ -1,15 +1,43 @@
 package ddog.chat.application.config;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompAuthenticationInterceptor stompAuthenticationInterceptor;
+
+    @Value("${chat.stomp.inbound.pool-size:16}")
+    private int inboundPoolSize;
+
+    @Value("${chat.stomp.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    @Value("${chat.stomp.outbound.pool-size:32}")
+    private int outboundPoolSize;
+
+    @Value("${chat.stomp.outbound.queue-capacity:50000}")
+    private int outboundQueueCapacity;
+
+    @Value("${chat.stomp.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${chat.stomp.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${chat.stomp.message-size-limit:65536}")
+    private int messageSizeLimit;
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/api/chat")
@@ -19,7 +47,38 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/sub");
+        // 브로커는 이 서버의 구독자에게만 전달한다, 서버 간 전달은 ChatMessageRelay 가 맡는다
+        // /queue 는 보낸 세션에만 알리는 오류(/user/queue/errors)용
+        registry.enableSimpleBroker("/sub", "/queue");
         registry.setApplicationDestinationPrefixes("/pub");
+        registry.setUserDestinationPrefix("/user");
+    }
+
+    // 기본 풀은 최대 스레드와 대기열이 무제한이라 밀려도 드러나지 않는다
+    // 스레드 수를 고정하고 대기열을 제한해, 넘치면 거절되고 대기열 길이는 StompChannelMetricsConfig 로 본다
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthenticationInterceptor);
+        registration.taskExecutor()
+                .corePoolSize(inboundPoolSize)
+                .maxPoolSize(inboundPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundPoolSize)
+                .maxPoolSize(outboundPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    // 세션마다 보내기 중이면 다른 스레드는 세션 버퍼에 쌓고 바로 돌아간다
+    // 느린 클라이언트가 시간이나 버퍼 한도를 넘기면 그 세션만 끊어, 출력 스레드가 묶여 다른 방 전달이 밀리지 않게 한다
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
     }
 }
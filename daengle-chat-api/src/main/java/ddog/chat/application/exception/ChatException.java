@@ -0,0 +1,14 @@
+package ddog.chat.application.exception;
+
+import ddog.auth.exception.common.CustomRuntimeException;
+
+public class ChatException extends CustomRuntimeException {
+
+    public ChatException(ChatExceptionType type, Object... args) {
+        super(type.getMessage(), type.getHttpStatus(), type.getCode());
+    }
+
+    public ChatException(ChatExceptionType type, String banWord, Object... args) {
+        super(banWord, type.getHttpStatus(), type.getCode());
+    }
+}
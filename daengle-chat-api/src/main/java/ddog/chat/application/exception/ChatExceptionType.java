@@ -0,0 +1,27 @@
+package ddog.chat.application.exception;
+
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@AllArgsConstructor
+public enum ChatExceptionType {
+    CHAT_MESSAGE_CONTAIN_BAN_WORD(HttpStatus.BAD_REQUEST, 4000, "채팅 메시지에 금칙어 포함"),
+    CHAT_SENDER_NOT_AUTHENTICATED(HttpStatus.UNAUTHORIZED, 4001, "인증된 연결에서만 메시지를 보낼 수 있습니다."),
+    CHAT_ROOM_NOT_PARTICIPANT(HttpStatus.FORBIDDEN, 4002, "채팅방 참여자가 아닙니다.");
+
+    private final HttpStatus httpStatus;
+    private final Integer code;
+    private final String message;
+
+    public HttpStatus getHttpStatus() {
+        return httpStatus;
+    }
+
+    public Integer getCode() {
+        return code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
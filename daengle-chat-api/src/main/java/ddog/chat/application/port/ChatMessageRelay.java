@@ -0,0 +1,8 @@
+package ddog.chat.application.port;
+
+import ddog.domain.chat.ChatMessage;
+
+// /sub/{roomId} 구독자에게 메시지를 전달한다, 어느 서버에 붙은 구독자든 받을 수 있어야 한다
+public interface ChatMessageRelay {
+    void publish(Long roomId, ChatMessage message);
+}
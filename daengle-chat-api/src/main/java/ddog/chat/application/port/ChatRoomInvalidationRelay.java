@@ -0,0 +1,6 @@
+package ddog.chat.application.port;
+
+// 지운 방을 다른 서버의 ChatRoomMembershipCache 에서도 지운다
+public interface ChatRoomInvalidationRelay {
+    void publish(Long roomId);
+}
@@ -3,6 +3,7 @@ package ddog.chat.presentation;
 import ddog.auth.dto.PayloadDto;
 import ddog.auth.exception.common.CommonResponseEntity;
 import ddog.chat.application.ChatService;
+import ddog.chat.application.port.ChatMessageRelay;
 import ddog.chat.presentation.dto.ChatMessageReq;
 import ddog.chat.presentation.dto.ChatMessagesListResp;
 import ddog.chat.presentation.dto.PartnerChatRoomListResp;
@@ -11,7 +12,6 @@ import ddog.domain.chat.ChatMessage;
 import ddog.domain.chat.ChatRoom;
 import ddog.domain.chat.enums.PartnerType;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 
 import static ddog.auth.exception.common.CommonResponseEntity.success;
@@ -22,7 +22,7 @@ import static ddog.auth.exception.common.CommonResponseEntity.success;
 public class ChatController {
 
     private final ChatService chatService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatMessageRelay chatMessageRelay;
 
     @GetMapping("/start")
     public CommonResponseEntity<ChatRoom> findChatRoom(PayloadDto payloadDto, @RequestParam Long otherId) {
@@ -30,8 +30,10 @@ public class ChatController {
     }
 
     @GetMapping("/with")
-    public CommonResponseEntity<ChatMessagesListResp> startChatMessage(PayloadDto payloadDto, @RequestParam Long otherId) {
-        return success(chatService.getAllMessagesByRoomId(payloadDto.getRole(), payloadDto.getAccountId(), otherId));
+    public CommonResponseEntity<ChatMessagesListResp> startChatMessage(PayloadDto payloadDto, @RequestParam Long otherId,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(defaultValue = "30") int size) {
+        return success(chatService.getMessagesByRoomId(payloadDto.getRole(), payloadDto.getAccountId(), otherId, cursor, size));
     }
 
     @DeleteMapping("/delete/{roomId}")
@@ -42,7 +44,7 @@ public class ChatController {
     @PostMapping("/messages/{roomId}")
     public CommonResponseEntity<ChatMessage> sendMessage(@RequestBody ChatMessageReq messageReq, @PathVariable Long roomId, PayloadDto payloadDto) {
         ChatMessage savedMessage = chatService.sendAndSaveMessage(messageReq, roomId, payloadDto.getAccountId());
-        messagingTemplate.convertAndSend("/sub/" + roomId, savedMessage);
+        chatMessageRelay.publish(roomId, savedMessage);
         return success(savedMessage);
     }
 
@@ -18,6 +18,8 @@ public class ChatMessagesListResp {
     private String otherName;
 
     private List<Map<String, Object>> messagesGroupedByDate;
+    private String nextCursor; // 이전 기록을 읽을 때 그대로 넘긴다, 더 없으면 null
+    private Long otherLastReadMessageId; // 상대가 마지막으로 읽은 메시지 ID, 이 ID 까지의 내 메시지는 읽음으로 표시한다 (읽은 적 없으면 null)
 
     @Getter
     @Builder
@@ -0,0 +1,15 @@
+package ddog.chat.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatReadReceiptReq {
+
+    private Long messageId;
+}
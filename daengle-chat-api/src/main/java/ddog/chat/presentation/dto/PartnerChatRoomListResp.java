@@ -19,6 +19,7 @@ public class PartnerChatRoomListResp {
         private String otherProfile;
         private String messageTime;
         private String lastMessage;
+        private int unreadCount;
     }
 
 }
@@ -20,6 +20,7 @@ public class UserChatRoomListResp {
         private String otherProfile;
         private String messageTime;
         private String lastMessage;
+        private int unreadCount;
         private PartnerType partnerType;
     }
 
@@ -0,0 +1,69 @@
+package ddog.chat.presentation.stomp;
+
+import ddog.auth.exception.common.CommonResponseEntity;
+import ddog.auth.exception.common.CustomError;
+import ddog.auth.exception.common.CustomRuntimeException;
+import ddog.chat.application.ChatService;
+import ddog.chat.application.config.ChatPrincipal;
+import ddog.chat.application.exception.ChatException;
+import ddog.chat.application.exception.ChatExceptionType;
+import ddog.chat.application.port.ChatMessageRelay;
+import ddog.chat.presentation.dto.ChatMessageReq;
+import ddog.chat.presentation.dto.ChatReadReceiptReq;
+import ddog.domain.chat.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+// 열려 있는 웹소켓으로 바로 보내는 경로 (/pub/rooms/{roomId}), 저장과 전달은 POST /api/chat/messages/{roomId} 와 같다
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class ChatStompController {
+
+    private final ChatService chatService;
+    private final ChatMessageRelay chatMessageRelay;
+
+    @MessageMapping("/rooms/{roomId}")
+    public void sendMessage(@DestinationVariable Long roomId, @Payload ChatMessageReq messageReq, Principal principal) {
+        ChatMessage savedMessage = chatService.sendAndSaveMessage(messageReq, roomId, authenticated(principal).getAccountId());
+        chatMessageRelay.publish(roomId, savedMessage);
+    }
+
+    // 읽음 확인 (/pub/rooms/{roomId}/read), 화면에 보여 준 마지막 메시지 ID 를 보낸다
+    @MessageMapping("/rooms/{roomId}/read")
+    public void markRead(@DestinationVariable Long roomId, @Payload ChatReadReceiptReq receiptReq, Principal principal) {
+        chatService.markRead(roomId, authenticated(principal).getAccountId(), receiptReq.getMessageId());
+    }
+
+    // 실패는 보낸 세션에만 /user/queue/errors 로 REST 오류 응답과 같은 형태로 알린다
+    @MessageExceptionHandler
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public CommonResponseEntity<Object> handleException(Exception e) {
+        CustomError error;
+        if (e instanceof CustomRuntimeException customException) {
+            error = new CustomError(customException.getMessage(), customException.getHttpStatus(), customException.getCode());
+        } else if (e instanceof IllegalArgumentException) {
+            error = new CustomError(e.getMessage(), HttpStatus.BAD_REQUEST, 400);
+        } else {
+            log.error("STOMP 채팅 메시지 처리 실패", e);
+            error = new CustomError(e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR, null);
+        }
+        return new CommonResponseEntity<>(false, null, error);
+    }
+
+    private ChatPrincipal authenticated(Principal principal) {
+        if (!(principal instanceof ChatPrincipal chatPrincipal)) {
+            throw new ChatException(ChatExceptionType.CHAT_SENDER_NOT_AUTHENTICATED);
+        }
+        return chatPrincipal;
+    }
+}
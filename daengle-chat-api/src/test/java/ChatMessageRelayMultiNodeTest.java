@@ -0,0 +1,184 @@
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import ddog.chat.application.ChatRoomMembershipCache;
+import ddog.chat.application.adapter.RedisChatMessageRelay;
+import ddog.chat.application.adapter.RedisChatRoomInvalidationRelay;
+import ddog.domain.chat.ChatRoom;
+import ddog.domain.chat.ChatMessage;
+import ddog.domain.chat.enums.ChatType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import redis.embedded.RedisServer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 내장 Redis 하나에 채팅 서버 두 대(노드)를 붙여 서버 간 전달을 확인한다
+public class ChatMessageRelayMultiNodeTest {
+
+    private static final int REDIS_PORT = 16379;
+    private static final long DELIVERY_TIMEOUT_MILLIS = 2_000;
+    private static final long SILENCE_MILLIS = 300;
+
+    private static RedisServer redisServer;
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeAll
+    public static void startRedis() throws Exception {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+    }
+
+    @AfterAll
+    public static void stopRedis() throws Exception {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    public void startNodes() {
+        nodeA = new Node();
+        nodeB = new Node();
+    }
+
+    @AfterEach
+    public void stopNodes() {
+        nodeA.stop();
+        nodeB.stop();
+    }
+
+    @Test
+    public void testMessageReachesSubscriberOnOtherNode() throws Exception {
+        nodeB.relay.subscribe("session-b", "sub-0", "/sub/1");
+
+        nodeA.relay.publish(1L, message(1L, "안녕하세요"));
+
+        Message<?> delivered = nodeB.delivered.poll(DELIVERY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        Assertions.assertNotNull(delivered, "다른 노드의 구독자가 메시지를 받지 못했습니다.");
+        Assertions.assertEquals("/sub/1", SimpMessageHeaderAccessor.getDestination(delivered.getHeaders()));
+        Assertions.assertTrue(new String((byte[]) delivered.getPayload(), StandardCharsets.UTF_8).contains("안녕하세요"));
+
+        // 구독자가 없는 발행 노드는 방 채널을 듣지 않는다
+        Assertions.assertFalse(nodeA.relay.isListening(1L));
+        Assertions.assertNull(nodeA.delivered.poll(SILENCE_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testEachNodeDeliversOnceToItsOwnSubscribers() throws Exception {
+        nodeA.relay.subscribe("session-a", "sub-0", "/sub/2");
+        nodeB.relay.subscribe("session-b1", "sub-0", "/sub/2");
+        nodeB.relay.subscribe("session-b2", "sub-0", "/sub/2");
+
+        nodeA.relay.publish(2L, message(2L, "두 노드에 한 번씩"));
+
+        // 노드마다 브로커로 한 번만 보내고, 같은 노드의 구독자에게는 브로커가 나눠준다
+        Assertions.assertNotNull(nodeA.delivered.poll(DELIVERY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        Assertions.assertNotNull(nodeB.delivered.poll(DELIVERY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        Assertions.assertNull(nodeA.delivered.poll(SILENCE_MILLIS, TimeUnit.MILLISECONDS));
+        Assertions.assertNull(nodeB.delivered.poll(SILENCE_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testNodeStopsReceivingAfterLastSubscriberLeaves() throws Exception {
+        nodeB.relay.subscribe("session-b1", "sub-0", "/sub/3");
+        nodeB.relay.subscribe("session-b2", "sub-0", "/sub/3");
+        nodeB.relay.subscribe("session-b2", "sub-1", "/sub/4");
+
+        nodeB.relay.unsubscribe("session-b1", "sub-0");
+        Assertions.assertTrue(nodeB.relay.isListening(3L));
+
+        nodeB.relay.disconnect("session-b2");
+        Assertions.assertFalse(nodeB.relay.isListening(3L));
+        Assertions.assertFalse(nodeB.relay.isListening(4L));
+
+        nodeA.relay.publish(3L, message(3L, "아무도 없는 방"));
+        nodeA.relay.publish(4L, message(4L, "아무도 없는 방"));
+        Assertions.assertNull(nodeB.delivered.poll(SILENCE_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testOnlyRoomDestinationsAreTracked() {
+        nodeA.relay.subscribe("session-a", "sub-0", "/sub/notice");
+        nodeA.relay.subscribe("session-a", "sub-1", "/queue/5");
+
+        Assertions.assertFalse(nodeA.relay.isListening(5L));
+    }
+
+    @Test
+    public void testDeletedRoomIsInvalidatedOnEveryNode() throws Exception {
+        ChatRoom room = ChatRoom.builder().chatRoomId(6L).userId(10L).partnerId(20L).build();
+        nodeA.cache.put(room);
+        nodeB.cache.put(room);
+
+        nodeA.cache.invalidate(6L);
+        nodeA.invalidationRelay.publish(6L);
+
+        long deadline = System.currentTimeMillis() + DELIVERY_TIMEOUT_MILLIS;
+        while (nodeB.cache.size() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        Assertions.assertEquals(0, nodeB.cache.size(), "다른 노드의 캐시에 지운 방이 남았습니다.");
+        Assertions.assertNull(nodeB.cache.get(6L, roomId -> null));
+    }
+
+    private static ChatMessage message(Long roomId, String content) {
+        return ChatMessage.builder()
+                .chatRoomId(roomId)
+                .messageId(System.nanoTime())
+                .messageType(ChatType.TEXT_MESSAGE)
+                .senderId(10L)
+                .recipientId(20L)
+                .timestamp(LocalDateTime.now())
+                .content(content)
+                .build();
+    }
+
+    // 채팅 서버 한 대, 브로커로 보내는 메시지를 delivered 에 모은다
+    private static class Node {
+
+        private final LettuceConnectionFactory connectionFactory;
+        private final RedisMessageListenerContainer listenerContainer;
+        private final BlockingQueue<Message<?>> delivered = new LinkedBlockingQueue<>();
+        private final RedisChatMessageRelay relay;
+        private final ChatRoomMembershipCache cache = new ChatRoomMembershipCache(100, 60_000, new SimpleMeterRegistry());
+        private final RedisChatRoomInvalidationRelay invalidationRelay;
+
+        private Node() {
+            connectionFactory = new LettuceConnectionFactory("localhost", REDIS_PORT);
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+
+            listenerContainer = new RedisMessageListenerContainer();
+            listenerContainer.setConnectionFactory(connectionFactory);
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+
+            StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+            SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate((message, timeout) -> delivered.add(message));
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+            relay = new RedisChatMessageRelay(redisTemplate, listenerContainer, messagingTemplate, objectMapper);
+            invalidationRelay = new RedisChatRoomInvalidationRelay(redisTemplate, listenerContainer, cache);
+            invalidationRelay.start();
+        }
+
+        private void stop() {
+            try {
+                listenerContainer.destroy();
+            } catch (Exception ignored) {
+            }
+            connectionFactory.destroy();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+import ddog.chat.application.ChatRoomMembershipCache;
+import ddog.domain.chat.ChatRoom;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 무효화 알림을 놓쳐도 넣은 지 ttl 이 지난 방은 다시 읽어야 한다
+public class ChatRoomMembershipCacheTest {
+
+    @Test
+    public void testRoomIsReloadedAfterTtl() throws Exception {
+        ChatRoomMembershipCache cache = new ChatRoomMembershipCache(100, 50, new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+        ChatRoom room = ChatRoom.builder().chatRoomId(1L).userId(10L).partnerId(20L).build();
+
+        cache.get(1L, roomId -> {
+            loads.incrementAndGet();
+            return room;
+        });
+        cache.get(1L, roomId -> {
+            loads.incrementAndGet();
+            return room;
+        });
+        Assertions.assertEquals(1, loads.get());
+
+        Thread.sleep(100);
+
+        // 다른 서버에서 지워진 방은 다시 읽으면 없다
+        Assertions.assertNull(cache.get(1L, roomId -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals(0, cache.size());
+    }
+}
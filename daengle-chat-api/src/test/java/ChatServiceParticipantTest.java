@@ -0,0 +1,89 @@
+import ddog.chat.application.ChatBanWordFilter;
+import ddog.chat.application.ChatRoomMembershipCache;
+import ddog.chat.application.port.ChatRoomInvalidationRelay;
+import ddog.chat.application.ChatService;
+import ddog.chat.application.exception.ChatException;
+import ddog.chat.application.exception.ChatExceptionType;
+import ddog.chat.presentation.dto.ChatMessageReq;
+import ddog.domain.account.port.AccountPersist;
+import ddog.domain.chat.ChatMessage;
+import ddog.domain.chat.ChatRoom;
+import ddog.domain.chat.enums.ChatType;
+import ddog.domain.chat.enums.PartnerType;
+import ddog.domain.chat.port.ChatMessagePersist;
+import ddog.domain.chat.port.ChatRoomPersist;
+import ddog.domain.chat.port.ChatRoomSummaryPersist;
+import ddog.domain.groomer.port.GroomerPersist;
+import ddog.domain.id.SnowflakeIdGenerator;
+import ddog.domain.user.port.UserPersist;
+import ddog.domain.vet.port.VetPersist;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 방 참여자가 아닌 계정은 본문의 senderId 와 관계없이 메시지를 보낼 수 없다
+public class ChatServiceParticipantTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long USER_ID = 10L;
+    private static final Long PARTNER_ID = 20L;
+    private static final Long OUTSIDER_ID = 30L;
+
+    private ChatMessagePersist chatMessagePersist;
+    private ChatService chatService;
+
+    @BeforeEach
+    public void setUp() {
+        chatMessagePersist = mock(ChatMessagePersist.class);
+        when(chatMessagePersist.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ChatRoomPersist chatRoomPersist = mock(ChatRoomPersist.class);
+        when(chatRoomPersist.findByRoomId(ROOM_ID)).thenReturn(ChatRoom.builder()
+                .chatRoomId(ROOM_ID)
+                .userId(USER_ID)
+                .partnerId(PARTNER_ID)
+                .partnerType(PartnerType.GROOMER_PARTNER)
+                .build());
+
+        chatService = new ChatService(chatMessagePersist, chatRoomPersist, mock(ChatRoomSummaryPersist.class),
+                mock(UserPersist.class), mock(GroomerPersist.class), mock(VetPersist.class), mock(AccountPersist.class),
+                mock(ChatBanWordFilter.class), new SnowflakeIdGenerator(1),
+                new ChatRoomMembershipCache(100, 60_000, new SimpleMeterRegistry()), mock(ChatRoomInvalidationRelay.class));
+    }
+
+    @Test
+    public void testNonParticipantCannotSend() {
+        // 본문에는 방의 사용자인 척 senderId 를 실어 보낸다
+        ChatMessageReq req = message(USER_ID);
+
+        ChatException e = assertThrows(ChatException.class, () -> chatService.sendAndSaveMessage(req, ROOM_ID, OUTSIDER_ID));
+
+        assertEquals(ChatExceptionType.CHAT_ROOM_NOT_PARTICIPANT.getCode(), e.getCode());
+        verify(chatMessagePersist, never()).save(any());
+    }
+
+    @Test
+    public void testSenderComesFromAuthenticatedAccount() {
+        ChatMessage saved = chatService.sendAndSaveMessage(message(USER_ID), ROOM_ID, PARTNER_ID);
+
+        assertEquals(PARTNER_ID, saved.getSenderId());
+        assertEquals(USER_ID, saved.getRecipientId());
+    }
+
+    @Test
+    public void testUnknownRoomIsRejected() {
+        assertThrows(ChatException.class, () -> chatService.sendAndSaveMessage(message(USER_ID), 99L, USER_ID));
+    }
+
+    private ChatMessageReq message(Long claimedSenderId) {
+        return ChatMessageReq.builder()
+                .senderId(claimedSenderId)
+                .messageContent("안녕하세요")
+                .messageType(ChatType.TEXT_MESSAGE)
+                .build();
+    }
+}
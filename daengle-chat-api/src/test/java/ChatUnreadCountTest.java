@@ -0,0 +1,210 @@
+import ddog.chat.application.ChatBanWordFilter;
+import ddog.chat.application.ChatRoomMembershipCache;
+import ddog.chat.application.port.ChatRoomInvalidationRelay;
+import ddog.chat.application.ChatService;
+import ddog.chat.presentation.dto.ChatMessageReq;
+import ddog.domain.account.port.AccountPersist;
+import ddog.domain.chat.ChatMessage;
+import ddog.domain.chat.ChatMessagePage;
+import ddog.domain.chat.ChatRoom;
+import ddog.domain.chat.ChatRoomActivity;
+import ddog.domain.chat.ChatRoomSummary;
+import ddog.domain.chat.enums.ChatType;
+import ddog.domain.chat.enums.PartnerType;
+import ddog.domain.chat.port.ChatMessagePersist;
+import ddog.domain.chat.port.ChatRoomPersist;
+import ddog.domain.chat.port.ChatRoomSummaryPersist;
+import ddog.domain.groomer.port.GroomerPersist;
+import ddog.domain.id.SnowflakeIdGenerator;
+import ddog.domain.user.port.UserPersist;
+import ddog.domain.vet.port.VetPersist;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 메시지는 대기열을 거쳐 나중에 쓰이므로, 읽음 처리 뒤에 앞선 메시지의 배치가 늦게 쓰여도 안 읽은 수가 생기지 않아야 한다
+// 안 읽은 수는 요약에 두고 배치를 쓸 때 더한다, 보낸 사람의 커서는 보낸 메시지까지 앞당긴다
+public class ChatUnreadCountTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long USER_ID = 10L;
+    private static final Long PARTNER_ID = 20L;
+
+    private InMemoryMessages messages;
+    private ChatService chatService;
+
+    @BeforeEach
+    public void setUp() {
+        messages = new InMemoryMessages();
+
+        ChatRoom chatRoom = ChatRoom.builder()
+                .chatRoomId(ROOM_ID)
+                .userId(USER_ID)
+                .partnerId(PARTNER_ID)
+                .partnerType(PartnerType.GROOMER_PARTNER)
+                .build();
+        ChatRoomPersist chatRoomPersist = mock(ChatRoomPersist.class);
+        when(chatRoomPersist.findByRoomId(ROOM_ID)).thenReturn(chatRoom);
+        when(chatRoomPersist.findByUserIdAndPartnerType(USER_ID, PartnerType.GROOMER_PARTNER)).thenReturn(List.of(chatRoom));
+
+        chatService = new ChatService(messages, chatRoomPersist, messages.summaries,
+                mock(UserPersist.class), mock(GroomerPersist.class), mock(VetPersist.class), mock(AccountPersist.class),
+                mock(ChatBanWordFilter.class), new SnowflakeIdGenerator(1),
+                new ChatRoomMembershipCache(100, 60_000, new SimpleMeterRegistry()), mock(ChatRoomInvalidationRelay.class));
+    }
+
+    @Test
+    public void testLateBatchAfterMarkReadIsNotUnread() {
+        ChatMessage first = send("첫 번째");
+        ChatMessage second = send("두 번째");
+
+        // 두 번째 메시지의 배치가 먼저 쓰이고, 사용자는 화면에서 두 메시지를 모두 보고 읽음 처리한다
+        messages.write(second);
+        chatService.markRead(ROOM_ID, USER_ID, second.getMessageId());
+
+        // 첫 번째 메시지의 배치가 읽음 처리 뒤에야 쓰인다
+        messages.write(first);
+
+        assertEquals(0, unreadCount());
+    }
+
+    @Test
+    public void testReadToLastMessageClearsUnread() {
+        ChatMessage first = send("첫 번째");
+        ChatMessage second = send("두 번째");
+        ChatMessage third = send("세 번째");
+        messages.write(first, second);
+        messages.write(third);
+        assertEquals(3, unreadCount());
+
+        // 중간까지만 읽으면 커서만 앞당기고 수는 그대로 둔다
+        chatService.markRead(ROOM_ID, USER_ID, first.getMessageId());
+        assertEquals(3, unreadCount());
+
+        chatService.markRead(ROOM_ID, USER_ID, third.getMessageId());
+        assertEquals(0, unreadCount());
+
+        // 커서는 뒤로 가지 않는다
+        chatService.markRead(ROOM_ID, USER_ID, second.getMessageId());
+        ChatMessage fourth = send("네 번째");
+        messages.write(fourth);
+        assertEquals(1, unreadCount());
+    }
+
+    @Test
+    public void testOwnMessagesAreNotUnread() {
+        ChatMessage fromPartner = send("상대가 보냄");
+        ChatMessage fromUser = chatService.sendAndSaveMessage(request("내가 보냄"), ROOM_ID, USER_ID);
+        messages.write(fromPartner);
+        messages.write(fromUser);
+
+        // 답장을 보냈으면 그 앞의 메시지는 읽은 것이다
+        assertEquals(0, unreadCount());
+        assertEquals(fromUser.getMessageId(), messages.summaries.lastReads.get(USER_ID));
+    }
+
+    @Test
+    public void testReplyInSameBatchKeepsLaterMessagesUnread() {
+        ChatMessage before = send("답장 전");
+        ChatMessage reply = chatService.sendAndSaveMessage(request("답장"), ROOM_ID, USER_ID);
+        ChatMessage after = send("답장 뒤");
+        messages.write(before, reply, after);
+
+        assertEquals(1, unreadCount());
+    }
+
+    private ChatMessage send(String content) {
+        return chatService.sendAndSaveMessage(request(content), ROOM_ID, PARTNER_ID);
+    }
+
+    private ChatMessageReq request(String content) {
+        return ChatMessageReq.builder()
+                .messageContent(content)
+                .messageType(ChatType.TEXT_MESSAGE)
+                .build();
+    }
+
+    private int unreadCount() {
+        return chatService.findUserChatRoomList(USER_ID, PartnerType.GROOMER_PARTNER).getRoomList().get(0).getUnreadCount();
+    }
+
+    // save 는 대기열에만 넣고 write 를 불러야 저장된다, 한 번의 write 가 배치 하나다
+    // 요약은 DynamoDB 어댑터와 같이 ChatRoomActivity 로 갱신하고, 읽음 처리도 같은 조건으로 반영한다
+    private static class InMemoryMessages implements ChatMessagePersist {
+
+        private final InMemorySummaries summaries = new InMemorySummaries();
+
+        @Override
+        public ChatMessage save(ChatMessage message) {
+            return message;
+        }
+
+        void write(ChatMessage... batch) {
+            summaries.apply(ChatRoomActivity.of(List.of(batch), summaries.lastReads));
+        }
+
+        @Override
+        public ChatMessagePage findByChatRoomId(Long chatRoomId, String cursor, int size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ChatMessage findLatestMessageByRoomId(Long chatRoomId) {
+            return summaries.lastMessage;
+        }
+    }
+
+    // 방이 하나뿐인 요약
+    private static class InMemorySummaries implements ChatRoomSummaryPersist {
+
+        private ChatMessage lastMessage;
+        private final Map<Long, Long> lastReads = new HashMap<>();
+        private final Map<Long, Integer> unreadCounts = new HashMap<>();
+
+        void apply(ChatRoomActivity activity) {
+            if (lastMessage == null || !activity.getLastMessage().getTimestamp().isBefore(lastMessage.getTimestamp())) {
+                lastMessage = activity.getLastMessage();
+            }
+            lastReads.putAll(activity.getMovedReadMessageIds());
+            unreadCounts.putAll(activity.getUnreadResets());
+            activity.getUnreadIncrements().forEach((accountId, count) -> unreadCounts.merge(accountId, count, Integer::sum));
+        }
+
+        @Override
+        public List<ChatRoomSummary> findByChatRoomIds(List<Long> chatRoomIds) {
+            if (lastMessage == null) return Collections.emptyList();
+            return List.of(ChatRoomSummary.builder()
+                    .chatRoomId(ROOM_ID)
+                    .lastMessageId(lastMessage.getMessageId())
+                    .lastMessage(lastMessage.getContent())
+                    .lastMessageType(lastMessage.getMessageType())
+                    .lastSenderId(lastMessage.getSenderId())
+                    .lastMessageTime(lastMessage.getTimestamp())
+                    .lastReadMessageIds(new HashMap<>(lastReads))
+                    .unreadCounts(new HashMap<>(unreadCounts))
+                    .build());
+        }
+
+        @Override
+        public void saveIfAbsent(ChatRoomSummary summary) {
+        }
+
+        @Override
+        public void markRead(Long chatRoomId, Long accountId, Long messageId) {
+            if (lastMessage == null) return;
+            Long lastRead = lastReads.get(accountId);
+            if (lastRead != null && lastRead >= messageId) return;
+
+            lastReads.put(accountId, messageId);
+            if (lastMessage.getMessageId() <= messageId) {
+                unreadCounts.put(accountId, 0);
+            }
+        }
+    }
+}
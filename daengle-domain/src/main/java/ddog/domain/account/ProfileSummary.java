@@ -0,0 +1,13 @@
+package ddog.domain.account;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 목록 화면용 경량 프로필 (미용사/병원은 이름, 사용자는 닉네임)
+@Getter
+@AllArgsConstructor
+public class ProfileSummary {
+    private final Long accountId;
+    private final String name;
+    private final String imageUrl;
+}
@@ -3,6 +3,8 @@ package ddog.domain.account.port;
 import ddog.domain.account.Account;
 import ddog.domain.account.Role;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AccountPersist {
@@ -12,5 +14,7 @@ public interface AccountPersist {
 
     Account findById(Long accountId);
 
+    List<Account> findByIds(Collection<Long> accountIds);
+
     Optional<Account> findAccountByEmailAndRole(String email, Role role);
 }
@@ -0,0 +1,14 @@
+package ddog.domain.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 채팅 기록 한 페이지, 메시지는 오래된 순이고 nextCursor 로 그 이전 페이지를 읽는다 (더 없으면 null)
+@Getter
+@AllArgsConstructor
+public class ChatMessagePage {
+    private final List<ChatMessage> messages;
+    private final String nextCursor;
+}
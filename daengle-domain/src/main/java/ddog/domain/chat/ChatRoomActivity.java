@@ -0,0 +1,71 @@
+package ddog.domain.chat;
+
+import lombok.Getter;
+
+import java.util.*;
+
+// 한 배치에서 같은 방에 쓰인 메시지를 요약에 반영할 내용, 요약 갱신 한 번으로 쓴다
+// 보낸 사람의 읽음 커서는 보낸 메시지까지 앞당기고, 받는 사람의 안 읽은 수에는 그 사람의 커서 뒤의 메시지만 더한다
+// 커서를 앞당긴 참여자의 안 읽은 수는 새 커서 뒤에 받은 메시지 수로 다시 정한다
+@Getter
+public class ChatRoomActivity {
+
+    private final Long chatRoomId;
+    private final ChatMessage lastMessage;
+    private final Map<Long, Long> movedReadMessageIds = new HashMap<>(); // 앞당긴 읽음 커서
+    private final Map<Long, Integer> unreadIncrements = new HashMap<>(); // 커서가 그대로인 참여자에게 더할 수
+    private final Map<Long, Integer> unreadResets = new HashMap<>(); // 커서를 앞당긴 참여자의 새 안 읽은 수
+    private final Map<Long, Long> oldestMessageIds = new HashMap<>(); // 참여자가 보내거나 받은 메시지 중 가장 앞선 ID
+
+    private ChatRoomActivity(Long chatRoomId, ChatMessage lastMessage) {
+        this.chatRoomId = chatRoomId;
+        this.lastMessage = lastMessage;
+    }
+
+    // lastReadMessageIds 는 지금 요약에 있는 읽음 커서, 모르면 빈 맵을 넘긴다 (모든 커서가 메시지보다 앞선 것으로 계산된다)
+    public static ChatRoomActivity of(List<ChatMessage> messages, Map<Long, Long> lastReadMessageIds) {
+        ChatMessage lastMessage = messages.stream()
+                .max(Comparator.comparing(ChatMessage::getTimestamp).thenComparing(ChatMessage::getMessageId))
+                .orElseThrow(() -> new IllegalArgumentException("반영할 메시지가 없습니다."));
+        ChatRoomActivity activity = new ChatRoomActivity(lastMessage.getChatRoomId(), lastMessage);
+
+        Map<Long, Long> lastSentMessageIds = new HashMap<>();
+        for (ChatMessage message : messages) {
+            lastSentMessageIds.merge(message.getSenderId(), message.getMessageId(), Math::max);
+            activity.oldestMessageIds.merge(message.getSenderId(), message.getMessageId(), Math::min);
+            if (message.getRecipientId() != null) {
+                activity.oldestMessageIds.merge(message.getRecipientId(), message.getMessageId(), Math::min);
+            }
+        }
+
+        lastSentMessageIds.forEach((senderId, messageId) -> {
+            Long lastRead = lastReadMessageIds.get(senderId);
+            if (lastRead == null || lastRead < messageId) {
+                activity.movedReadMessageIds.put(senderId, messageId);
+            }
+        });
+
+        Map<Long, Integer> unread = new HashMap<>();
+        for (ChatMessage message : messages) {
+            Long recipientId = message.getRecipientId();
+            if (recipientId == null) continue;
+
+            Long lastRead = activity.movedReadMessageIds.getOrDefault(recipientId, lastReadMessageIds.get(recipientId));
+            if (lastRead == null || message.getMessageId() > lastRead) {
+                unread.merge(recipientId, 1, Integer::sum);
+            }
+        }
+
+        activity.movedReadMessageIds.keySet().forEach(accountId -> activity.unreadResets.put(accountId, unread.getOrDefault(accountId, 0)));
+        unread.forEach((accountId, count) -> {
+            if (!activity.movedReadMessageIds.containsKey(accountId)) {
+                activity.unreadIncrements.put(accountId, count);
+            }
+        });
+        return activity;
+    }
+
+    public Set<Long> participantIds() {
+        return oldestMessageIds.keySet();
+    }
+}
@@ -0,0 +1,59 @@
+package ddog.domain.chat;
+
+import ddog.domain.chat.enums.ChatType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+
+// 채팅방 목록용 요약, 메시지를 저장할 때 함께 갱신된다 (메시지가 없는 방은 last* 가 null)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatRoomSummary {
+
+    private Long chatRoomId;
+    private Long lastMessageId;
+    private String lastMessage;
+    private ChatType lastMessageType;
+    private Long lastSenderId;
+    private LocalDateTime lastMessageTime;
+    private Map<Long, Long> lastReadMessageIds; // 참여자 accountId 별 마지막으로 읽은 메시지 ID (읽음 커서)
+    private Map<Long, Integer> unreadCounts; // 참여자 accountId 별 읽음 커서 뒤에 받은 메시지 수
+
+    public static ChatRoomSummary of(Long chatRoomId, ChatMessage lastMessage) {
+        if (lastMessage == null) {
+            return ChatRoomSummary.builder()
+                    .chatRoomId(chatRoomId)
+                    .lastReadMessageIds(Collections.emptyMap())
+                    .unreadCounts(Collections.emptyMap())
+                    .build();
+        }
+
+        return ChatRoomSummary.builder()
+                .chatRoomId(chatRoomId)
+                .lastMessageId(lastMessage.getMessageId())
+                .lastMessage(lastMessage.getContent())
+                .lastMessageType(lastMessage.getMessageType())
+                .lastSenderId(lastMessage.getSenderId())
+                .lastMessageTime(lastMessage.getTimestamp())
+                .lastReadMessageIds(Collections.emptyMap())
+                .unreadCounts(Collections.emptyMap())
+                .build();
+    }
+
+    public int getUnreadCount(Long accountId) {
+        Integer count = unreadCounts != null ? unreadCounts.get(accountId) : null;
+        return count != null ? Math.max(count, 0) : 0;
+    }
+
+    // 아직 읽은 적이 없으면 null
+    public Long getLastReadMessageId(Long accountId) {
+        return lastReadMessageIds != null ? lastReadMessageIds.get(accountId) : null;
+    }
+}
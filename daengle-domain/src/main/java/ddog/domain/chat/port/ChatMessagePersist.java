@@ -1,11 +1,11 @@
 package ddog.domain.chat.port;
 
 import ddog.domain.chat.ChatMessage;
-
-import java.util.List;
+import ddog.domain.chat.ChatMessagePage;
 
 public interface ChatMessagePersist {
+    // 저장 대기열에 들어가면 돌아온다 (DynamoDB 에는 잠시 뒤 배치로 쓰인다)
     ChatMessage save(ChatMessage message);
-    List<ChatMessage> findByChatRoomId(Long chatRoomId);
+    ChatMessagePage findByChatRoomId(Long chatRoomId, String cursor, int size);
     ChatMessage findLatestMessageByRoomId(Long chatRoomId);
 }
@@ -0,0 +1,14 @@
+package ddog.domain.chat.port;
+
+import ddog.domain.chat.ChatRoomSummary;
+
+import java.util.List;
+
+// 요약의 마지막 메시지, 안 읽은 수, 보낸 사람의 읽음 커서는 ChatMessagePersist.save 로 저장된 메시지가 실제로 쓰일 때
+// ChatRoomActivity 로 함께 갱신된다
+public interface ChatRoomSummaryPersist {
+    List<ChatRoomSummary> findByChatRoomIds(List<Long> chatRoomIds);
+    void saveIfAbsent(ChatRoomSummary summary);
+    // 읽음 커서를 messageId 로 앞당긴다 (뒤로 가지 않는다), 방의 마지막 메시지까지 읽었으면 안 읽은 수를 0 으로 한다
+    void markRead(Long chatRoomId, Long accountId, Long messageId);
+}
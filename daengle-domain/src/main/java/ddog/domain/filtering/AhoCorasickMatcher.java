@@ -5,8 +5,11 @@ import java.util.*;
 public class AhoCorasickMatcher {
 
     private final TrieNode root = new TrieNode();
+    private DoubleArrayAutomaton automaton;
 
     public void addKeyword(String type, String keyword) {
+        if (keyword.isEmpty()) return;
+
         TrieNode node = root;
         for (char c : keyword.toCharArray()) {
             node = node.children.computeIfAbsent(c, k -> new TrieNode());
@@ -35,29 +38,21 @@ public class AhoCorasickMatcher {
                     failNode = failNode.fail;
                 }
                 child.fail = failNode.children.getOrDefault(c, root);
-                child.outputs.putAll(child.fail.outputs);
             }
         }
-    }
 
-    public void search(String text, List<int[]> outputWordPositionData, List<String> outputWords) {
-        TrieNode node = root;
-        int endPosition = 0;
+        // 출력은 컴파일된 오토마톤에서 실패 링크 체인으로 따라가므로 노드에 병합하지 않는다
+        automaton = DoubleArrayAutomaton.compile(root);
+    }
 
-        for (char c : text.toCharArray()) {
-            while (node != root && !node.children.containsKey(c)) {
-                node = node.fail;
-            }
-            node = node.children.getOrDefault(c, root);
-
-            for (Map.Entry<String, String> entry : node.outputs.entrySet()) {
-                String word = entry.getValue();
-                int startPosition = endPosition - word.length() + 1;
-                int isBanWord = entry.getKey().equals("banWord") ? 1 : 0;
-                outputWordPositionData.add(new int[]{outputWords.size(), isBanWord, startPosition, endPosition});
-                outputWords.add(word);
-            }
-            endPosition++;
+    public DoubleArrayAutomaton compile() {
+        if (automaton == null) {
+            buildFailureLinks();
         }
+        return automaton;
+    }
+
+    public void search(String text, List<int[]> outputWordPositionData, List<String> outputWords) {
+        compile().search(text, outputWordPositionData, outputWords);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,222 @@
+package ddog.domain.filtering;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+// 컴파일된 오토마톤을 파일로 저장하고, 읽을 때는 복사 없이 읽기 전용으로 매핑한다
+public final class AutomatonSnapshot {
+
+    private static final int MAGIC = 0x44414143;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_BYTES = 64;
+    private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private AutomatonSnapshot() {
+    }
+
+    public record Mapping(DoubleArrayAutomaton automaton, int banWordCount, int allowWordCount) {
+    }
+
+    // 단어 파일의 바이트를 그대로 해시한다, 스냅샷이 맞는지 보려고 단어를 나누고 정렬하지 않아도 된다
+    // 줄 순서나 공백만 바뀌어도 값이 달라지므로 그때는 다시 컴파일한다
+    public static long fingerprint(InputStream banWords, InputStream allowWords, boolean foldLatin) throws IOException {
+        long hash = FNV_OFFSET_BASIS;
+        hash = hash(hash, foldLatin ? (byte) 1 : (byte) 0);
+        hash = hash(hash, banWords);
+        return hash(hash, allowWords);
+    }
+
+    public static void write(DoubleArrayAutomaton automaton, Path path, long fingerprint,
+                             int banWordCount, int allowWordCount) throws IOException {
+        IntBuffer rootNext = automaton.rootNext();
+        IntBuffer check = automaton.check();
+        CharBuffer charClass = automaton.charClass();
+        CharBuffer wordChars = automaton.wordChars();
+        int stateCount = automaton.stateCount();
+
+        long size = size(stateCount, rootNext.capacity(), check.capacity(), wordChars.capacity());
+        if (size > Integer.MAX_VALUE) throw new IOException("automaton too large for snapshot: " + size + " bytes");
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size).order(BYTE_ORDER);
+        buffer.putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(fingerprint)
+                .putInt(stateCount)
+                .putInt(rootNext.capacity())
+                .putInt(check.capacity())
+                .putInt(wordChars.capacity())
+                .putInt(automaton.maxAllowWordLength())
+                .putInt(banWordCount)
+                .putInt(allowWordCount);
+        buffer.position(HEADER_BYTES);
+
+        putInts(buffer, rootNext);
+        putInts(buffer, automaton.base());
+        putInts(buffer, check);
+        putInts(buffer, automaton.next());
+        putInts(buffer, automaton.fallback());
+        putInts(buffer, automaton.depth());
+        putInts(buffer, automaton.outputLink());
+        putInts(buffer, automaton.wordOffset());
+        putChars(buffer, charClass);
+        putChars(buffer, wordChars);
+        ByteBuffer wordType = automaton.wordType();
+        wordType.rewind();
+        buffer.put(wordType);
+
+        // 다른 JVM 이 쓰다 만 파일을 매핑하지 않도록 임시 파일에 쓰고 교체한다
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        Files.write(temp, buffer.array());
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // 파일이 없거나 형식, 사전 내용이 다르면 비어있는 값을 돌려주고 호출한 쪽에서 다시 컴파일한다
+    public static Optional<Mapping> map(Path path, long expectedFingerprint) {
+        if (!Files.isRegularFile(path)) return Optional.empty();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_BYTES || fileSize > Integer.MAX_VALUE) return Optional.empty();
+
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            mapped.order(BYTE_ORDER);
+            if (mapped.getInt(0) != MAGIC
+                    || mapped.getInt(4) != FORMAT_VERSION
+                    || mapped.getLong(8) != expectedFingerprint) return Optional.empty();
+
+            int stateCount = mapped.getInt(16);
+            int rootNextLength = mapped.getInt(20);
+            int checkLength = mapped.getInt(24);
+            int wordCharsLength = mapped.getInt(28);
+            int maxAllowWordLength = mapped.getInt(32);
+            int banWordCount = mapped.getInt(36);
+            int allowWordCount = mapped.getInt(40);
+            if (size(stateCount, rootNextLength, checkLength, wordCharsLength) != fileSize) return Optional.empty();
+
+            int offset = HEADER_BYTES;
+            IntBuffer rootNext = ints(mapped, offset, rootNextLength);
+            offset += rootNextLength * Integer.BYTES;
+            IntBuffer base = ints(mapped, offset, stateCount);
+            offset += stateCount * Integer.BYTES;
+            IntBuffer check = ints(mapped, offset, checkLength);
+            offset += checkLength * Integer.BYTES;
+            IntBuffer next = ints(mapped, offset, checkLength);
+            offset += checkLength * Integer.BYTES;
+            IntBuffer fallback = ints(mapped, offset, stateCount);
+            offset += stateCount * Integer.BYTES;
+            IntBuffer depth = ints(mapped, offset, stateCount);
+            offset += stateCount * Integer.BYTES;
+            IntBuffer outputLink = ints(mapped, offset, stateCount);
+            offset += stateCount * Integer.BYTES;
+            IntBuffer wordOffset = ints(mapped, offset, stateCount);
+            offset += stateCount * Integer.BYTES;
+            CharBuffer charClass = chars(mapped, offset, Character.MAX_VALUE + 1);
+            offset += (Character.MAX_VALUE + 1) * Character.BYTES;
+            CharBuffer wordChars = chars(mapped, offset, wordCharsLength);
+            offset += wordCharsLength * Character.BYTES;
+            ByteBuffer wordType = mapped.slice(offset, stateCount);
+
+            DoubleArrayAutomaton automaton = new DoubleArrayAutomaton(charClass, rootNext, base, check, next, fallback, depth,
+                    wordType, outputLink, wordOffset, wordChars, new String[stateCount], maxAllowWordLength);
+            return Optional.of(new Mapping(automaton, banWordCount, allowWordCount));
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    // ./gradlew :daengle-domain:banWordSnapshot 에서 실행
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            throw new IllegalArgumentException("usage: AutomatonSnapshot <banWords> <allowWords> <output> [foldLatin]");
+        }
+        Path banWordsPath = Path.of(args[0]);
+        Path allowWordsPath = Path.of(args[1]);
+        Set<String> banWords = loadWords(banWordsPath);
+        Set<String> allowWords = loadWords(allowWordsPath);
+        boolean foldLatin = args.length > 3 && Boolean.parseBoolean(args[3]);
+
+        long fingerprint;
+        try (InputStream banWordsInput = Files.newInputStream(banWordsPath);
+             InputStream allowWordsInput = Files.newInputStream(allowWordsPath)) {
+            fingerprint = fingerprint(banWordsInput, allowWordsInput, foldLatin);
+        }
+        DoubleArrayAutomaton automaton = BanWordValidator.compile(banWords, allowWords, foldLatin);
+        write(automaton, Path.of(args[2]), fingerprint, banWords.size(), allowWords.size());
+    }
+
+    private static long size(int stateCount, int rootNextLength, int checkLength, int wordCharsLength) {
+        return HEADER_BYTES
+                + (long) Integer.BYTES * (rootNextLength + 6L * stateCount + 2L * checkLength)
+                + (long) Character.BYTES * (Character.MAX_VALUE + 1 + wordCharsLength)
+                + stateCount;
+    }
+
+    private static IntBuffer ints(MappedByteBuffer mapped, int offset, int length) {
+        return mapped.slice(offset, length * Integer.BYTES).order(BYTE_ORDER).asIntBuffer();
+    }
+
+    private static CharBuffer chars(MappedByteBuffer mapped, int offset, int length) {
+        return mapped.slice(offset, length * Character.BYTES).order(BYTE_ORDER).asCharBuffer();
+    }
+
+    private static void putInts(ByteBuffer buffer, IntBuffer values) {
+        for (int i = 0; i < values.capacity(); i++) {
+            buffer.putInt(values.get(i));
+        }
+    }
+
+    private static void putChars(ByteBuffer buffer, CharBuffer values) {
+        for (int i = 0; i < values.capacity(); i++) {
+            buffer.putChar(values.get(i));
+        }
+    }
+
+    private static long hash(long hash, byte value) {
+        hash ^= value & 0xff;
+        return hash * FNV_PRIME;
+    }
+
+    // 두 파일의 경계가 바뀐 경우와 구분되도록 길이도 섞는다
+    private static long hash(long hash, InputStream input) throws IOException {
+        byte[] chunk = new byte[8192];
+        long length = 0;
+        int read;
+        while ((read = input.read(chunk)) != -1) {
+            for (int i = 0; i < read; i++) {
+                hash = hash(hash, chunk[i]);
+            }
+            length += read;
+        }
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash = hash(hash, (byte) (length >>> shift));
+        }
+        return hash;
+    }
+
+    private static Set<String> loadWords(Path path) throws IOException {
+        Set<String> words = new HashSet<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (!line.trim().isEmpty()) {
+                words.add(line.trim());
+            }
+        }
+        return words;
+    }
+}
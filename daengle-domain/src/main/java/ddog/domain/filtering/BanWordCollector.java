@@ -0,0 +1,90 @@
+package ddog.domain.filtering;
+
+import java.util.*;
+import java.util.function.IntUnaryOperator;
+
+// 모든 비속어 매칭을 모은 뒤 허용어 범위에 시작 위치가 덮인 것을 제외한다
+// 매칭은 (시작 위치 << 32 | 끝 위치) 로 묶어 long 배열에 쌓고, 덮인 매칭은 BanWordMatch 를 만들지 않는다
+class BanWordCollector implements MatchListener {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final IntUnaryOperator originalPosition;
+    private BitSet allowWordPositions;
+    private long[] banWordSpans;
+    private String[] banWords;
+    private int banWordCount;
+    private boolean inStartOrder = true;
+
+    // 탐색한 스트림의 위치를 원문 위치로 바꾸는 함수 (음절 스트림 또는 자모 스트림)
+    BanWordCollector(IntUnaryOperator originalPosition) {
+        this.originalPosition = originalPosition;
+    }
+
+    @Override
+    public boolean onMatch(String word, boolean banWord, int startPosition, int endPosition) {
+        if (banWord) {
+            if (banWordSpans == null) {
+                banWordSpans = new long[INITIAL_CAPACITY];
+                banWords = new String[INITIAL_CAPACITY];
+            } else if (banWordCount == banWordSpans.length) {
+                banWordSpans = Arrays.copyOf(banWordSpans, banWordCount << 1);
+                banWords = Arrays.copyOf(banWords, banWordCount << 1);
+            }
+            if (banWordCount > 0 && startPosition < startOf(banWordSpans[banWordCount - 1])) inStartOrder = false;
+
+            banWordSpans[banWordCount] = (long) startPosition << 32 | endPosition;
+            banWords[banWordCount++] = word;
+        } else {
+            if (allowWordPositions == null) allowWordPositions = new BitSet();
+            allowWordPositions.set(startPosition, endPosition + 1);
+        }
+        return true;
+    }
+
+    List<BanWordMatch> finish() {
+        if (banWordCount == 0) return Collections.emptyList();
+
+        int[] order = inStartOrder ? null : startOrder();
+        List<BanWordMatch> banWordMatches = new ArrayList<>(banWordCount);
+        for (int i = 0; i < banWordCount; i++) {
+            int index = order == null ? i : order[i];
+            int startPosition = startOf(banWordSpans[index]);
+            if (allowWordPositions != null && allowWordPositions.get(startPosition)) continue;
+
+            int endPosition = (int) banWordSpans[index];
+            banWordMatches.add(new BanWordMatch(banWords[index], startPosition, endPosition,
+                    originalPosition.applyAsInt(startPosition), originalPosition.applyAsInt(endPosition)));
+        }
+        return banWordMatches;
+    }
+
+    // 매칭은 끝 위치 순으로 들어오므로 시작 위치별 개수를 세어 한 번에 나눈다 (같은 시작 위치는 들어온 순서 유지)
+    private int[] startOrder() {
+        int minStart = Integer.MAX_VALUE;
+        int maxStart = 0;
+        for (int i = 0; i < banWordCount; i++) {
+            int startPosition = startOf(banWordSpans[i]);
+            minStart = Math.min(minStart, startPosition);
+            maxStart = Math.max(maxStart, startPosition);
+        }
+
+        int[] offsets = new int[maxStart - minStart + 2];
+        for (int i = 0; i < banWordCount; i++) {
+            offsets[startOf(banWordSpans[i]) - minStart + 1]++;
+        }
+        for (int position = 1; position < offsets.length; position++) {
+            offsets[position] += offsets[position - 1];
+        }
+
+        int[] order = new int[banWordCount];
+        for (int i = 0; i < banWordCount; i++) {
+            order[offsets[startOf(banWordSpans[i]) - minStart]++] = i;
+        }
+        return order;
+    }
+
+    private static int startOf(long span) {
+        return (int) (span >>> 32);
+    }
+}
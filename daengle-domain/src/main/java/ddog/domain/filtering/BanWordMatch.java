@@ -0,0 +1,15 @@
+package ddog.domain.filtering;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BanWordMatch {
+    private String word;
+    // 자모 스트림에서 찾은 비속어는 자모 단위 위치, 원문 위치는 두 경우 모두 같은 기준
+    private int startPosition;
+    private int endPosition;
+    private int originalStartPosition;
+    private int originalEndPosition;
+}
@@ -0,0 +1,78 @@
+package ddog.domain.filtering;
+
+import java.util.BitSet;
+
+// 허용어 범위를 스트리밍으로 기록하면서 덮이지 않은 비속어가 확정되는 즉시 탐색을 멈춘다
+class BanWordScan implements MatchListener {
+
+    private final int allowWordWindow;
+    private BitSet allowWordPositions;
+    private String[] pendingBanWords;
+    private int pendingFrom = Integer.MAX_VALUE;
+    private int pendingTo = -1;
+    private String confirmedBanWord;
+
+    BanWordScan(int maxAllowWordLength) {
+        this.allowWordWindow = maxAllowWordLength;
+    }
+
+    @Override
+    public boolean onMatch(String word, boolean banWord, int startPosition, int endPosition) {
+        // 이 위치 이전에 끝나는 허용어는 모두 지나갔으므로 보류 중인 비속어를 확정할 수 있다
+        if (confirmPending(endPosition - allowWordWindow)) return false;
+
+        if (!banWord) {
+            if (allowWordPositions == null) allowWordPositions = new BitSet();
+            allowWordPositions.set(startPosition, endPosition + 1);
+            return true;
+        }
+
+        if (endPosition >= startPosition + allowWordWindow - 1) {
+            if (isCovered(startPosition)) return true;
+            confirmedBanWord = word;
+            return false;
+        }
+
+        defer(word, startPosition);
+        return true;
+    }
+
+    String finish() {
+        if (confirmedBanWord == null) confirmPending(Integer.MAX_VALUE);
+        return confirmedBanWord;
+    }
+
+    private void defer(String word, int startPosition) {
+        if (pendingBanWords == null) {
+            pendingBanWords = new String[Integer.highestOneBit(allowWordWindow) << 1];
+        }
+        int slot = startPosition & (pendingBanWords.length - 1);
+        if (pendingBanWords[slot] == null) pendingBanWords[slot] = word;
+        pendingFrom = Math.min(pendingFrom, startPosition);
+        pendingTo = Math.max(pendingTo, startPosition);
+    }
+
+    private boolean confirmPending(int lastConfirmablePosition) {
+        int limit = Math.min(pendingTo, lastConfirmablePosition);
+        for (; pendingFrom <= limit; pendingFrom++) {
+            int slot = pendingFrom & (pendingBanWords.length - 1);
+            String word = pendingBanWords[slot];
+            if (word == null) continue;
+
+            pendingBanWords[slot] = null;
+            if (!isCovered(pendingFrom)) {
+                confirmedBanWord = word;
+                return true;
+            }
+        }
+        if (pendingFrom > pendingTo) {
+            pendingFrom = Integer.MAX_VALUE;
+            pendingTo = -1;
+        }
+        return false;
+    }
+
+    private boolean isCovered(int position) {
+        return allowWordPositions != null && allowWordPositions.get(position);
+    }
+}
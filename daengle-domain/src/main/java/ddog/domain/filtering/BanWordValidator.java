@@ -7,79 +7,111 @@ import java.util.*;
 @Slf4j
 public class BanWordValidator {
 
-    private final AhoCorasickMatcher matcher;
-    private final ContentNormalizer normalizer;
+    public static final int BAN_WORD_FOUND = DoubleArrayAutomaton.STOPPED;
+
+    private final DoubleArrayAutomaton automaton;
+    private final DoubleArrayAutomaton jamoAutomaton; // 자모 모드가 아니면 null
+    private final ThreadLocal<ContentNormalizer> normalizers;
 
     public BanWordValidator(Set<String> banWords, Set<String> allowWords) {
-        this.matcher = new AhoCorasickMatcher();
-        this.normalizer = new ContentNormalizer();
+        this(banWords, allowWords, false);
+    }
+
+    // foldLatin 이면 대소문자와 전각 영문자를 반각 소문자로 맞춰서 비교한다
+    public BanWordValidator(Set<String> banWords, Set<String> allowWords, boolean foldLatin) {
+        this(banWords, allowWords, foldLatin, false);
+    }
+
+    // jamoMatching 이면 "ㅅㅂ", "시ㅂㅏㄹ" 처럼 자모로 쓰거나 쪼갠 단어도 잡는다
+    public BanWordValidator(Set<String> banWords, Set<String> allowWords, boolean foldLatin, boolean jamoMatching) {
+        this(compile(banWords, allowWords, foldLatin),
+                jamoMatching ? compileJamo(banWords, allowWords, foldLatin) : null, foldLatin);
+    }
+
+    // 스냅샷에서 읽은 오토마톤은 만들 때와 같은 foldLatin 으로 사용해야 한다
+    public BanWordValidator(DoubleArrayAutomaton automaton, boolean foldLatin) {
+        this(automaton, null, foldLatin);
+    }
 
-        loadWords(banWords, allowWords);
+    public BanWordValidator(DoubleArrayAutomaton automaton, DoubleArrayAutomaton jamoAutomaton, boolean foldLatin) {
+        this.automaton = automaton;
+        this.jamoAutomaton = jamoAutomaton;
+        boolean decomposeJamo = jamoAutomaton != null;
+        this.normalizers = ThreadLocal.withInitial(() -> new ContentNormalizer(foldLatin, foldLatin, decomposeJamo));
     }
 
-    private void loadWords(Set<String> banWords, Set<String> allowWords) {
-        banWords.forEach(word -> matcher.addKeyword("banWord", word));
-        allowWords.forEach(word -> matcher.addKeyword("allowWord", word));
-        matcher.buildFailureLinks();
+    public static DoubleArrayAutomaton compile(Set<String> banWords, Set<String> allowWords, boolean foldLatin) {
+        ContentNormalizer normalizer = new ContentNormalizer(foldLatin, foldLatin);
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher();
+        banWords.forEach(word -> matcher.addKeyword("banWord", normalizer.fold(word)));
+        allowWords.forEach(word -> matcher.addKeyword("allowWord", normalizer.fold(word)));
+        return matcher.compile();
+    }
+
+    // 단어도 본문과 같은 정규화로 자모 분해한다, 사전에 자모로 적힌 단어(ㅅㅂ 등)는 그대로 들어간다
+    public static DoubleArrayAutomaton compileJamo(Set<String> banWords, Set<String> allowWords, boolean foldLatin) {
+        ContentNormalizer normalizer = new ContentNormalizer(foldLatin, foldLatin, true);
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher();
+        banWords.forEach(word -> matcher.addKeyword("banWord", normalizer.load(word).decomposeJamo(Integer.MAX_VALUE).jamoString()));
+        allowWords.forEach(word -> matcher.addKeyword("allowWord", normalizer.load(word).decomposeJamo(Integer.MAX_VALUE).jamoString()));
+        return matcher.compile();
+    }
+
+    public DoubleArrayAutomaton getAutomaton() {
+        return automaton;
     }
 
     public String findBanWords(String content) {
-        List<int[]> outputWordPositionDatas = new ArrayList<>();
-        List<String> outputWords = new ArrayList<>();
+        ContentNormalizer normalizer = normalizers.get().load(content);
+
+        BanWordScan scan = new BanWordScan(automaton.maxAllowWordLength());
+        automaton.search(normalizer.buffer(), normalizer.length(), scan);
+        String banWord = scan.finish();
+        if (banWord != null || !normalizer.hasRawJamo()) return banWord;
+
+        // 직접 입력한 자모가 있을 때만 그 주변을 자모 스트림으로 한 번 더 본다
+        normalizer.decomposeJamo(jamoMargin());
+        BanWordScan jamoScan = new BanWordScan(jamoAutomaton.maxAllowWordLength());
+        jamoAutomaton.search(normalizer.jamoBuffer(), normalizer.jamoLength(), new JamoMatchFilter(normalizer, jamoScan));
+        return jamoScan.finish();
+    }
 
-        String normalizedContent = ContentNormalizer.normalize(content);
-        matcher.search(normalizedContent, outputWordPositionDatas, outputWords);
+    // 채팅처럼 이어지는 입력을 이전 상태부터 검사해 메시지 경계에 걸친 비속어도 잡는다 (음절 스트림만 본다)
+    // 비속어가 없으면 다음 상태를, 있으면 BAN_WORD_FOUND 를 돌려준다 (이전 메시지에서 끝난 허용어는 보지 못한다)
+    public int findBanWords(int state, String content) {
+        ContentNormalizer normalizer = normalizers.get().load(content);
 
-        List<String> banWords = filterAllowWords(outputWordPositionDatas, outputWords);
-        return banWords.isEmpty() ? null : banWords.get(0);
+        BanWordScan scan = new BanWordScan(automaton.maxAllowWordLength());
+        int nextState = automaton.search(state, normalizer.buffer(), normalizer.length(), scan);
+        return scan.finish() == null ? nextState : BAN_WORD_FOUND;
     }
 
     public boolean checkBanWord(String content) {
-        List<int[]> outputWordPositionDatas = new ArrayList<>();
-        List<String> outputWords = new ArrayList<>();
+        return findBanWords(content) != null;
+    }
+
+    public List<BanWordMatch> findAllBanWords(String content) {
+        ContentNormalizer normalizer = normalizers.get().load(content);
+
+        BanWordCollector collector = new BanWordCollector(normalizer::originalPosition);
+        automaton.search(normalizer.buffer(), normalizer.length(), collector);
+        List<BanWordMatch> banWordMatches = collector.finish();
+        if (!normalizer.hasRawJamo()) return banWordMatches;
 
-        String normalizedContent = ContentNormalizer.normalize(content);
-        matcher.search(normalizedContent, outputWordPositionDatas, outputWords);
+        normalizer.decomposeJamo(jamoMargin());
+        BanWordCollector jamoCollector = new BanWordCollector(normalizer::jamoOriginalPosition);
+        jamoAutomaton.search(normalizer.jamoBuffer(), normalizer.jamoLength(), new JamoMatchFilter(normalizer, jamoCollector));
+        List<BanWordMatch> jamoMatches = jamoCollector.finish();
+        if (jamoMatches.isEmpty()) return banWordMatches;
 
-        return !filterAllowWords(outputWordPositionDatas, outputWords).isEmpty();
+        List<BanWordMatch> merged = new ArrayList<>(banWordMatches);
+        merged.addAll(jamoMatches);
+        merged.sort(Comparator.comparingInt(BanWordMatch::getOriginalStartPosition));
+        return merged;
     }
 
-    public List<String> filterAllowWords(List<int[]> outputWordPositionDatas, List<String> outputWords) {
-        List<String> banWords = new ArrayList<>();
-        Queue<int[]> queue = new PriorityQueue<>((o1, o2) -> {
-            //시작위치가 같은 경우에는 허용어가 먼저 뽑혀서 그 아래 깔리는 비속어를 잡아 먹어야함
-            if (o1[2] == o2[2]) {
-                return Integer.compare(o1[1], o2[1]);
-            }
-            return Integer.compare(o1[2], o2[2]);
-        });
-        queue.addAll(outputWordPositionDatas);
-
-        int allowWordLastPosition = -1;
-
-        while (!queue.isEmpty()) {
-            int[] outputWordPositionData = queue.poll();
-            int wordStartPosition = outputWordPositionData[2];
-            int wordEndPosition = outputWordPositionData[3];
-            boolean isBanWord = outputWordPositionData[1]==1;
-
-
-            //비속어임
-            if (isBanWord) {
-                if(allowWordLastPosition < wordStartPosition) {
-                    banWords.add(outputWords.get(outputWordPositionData[0]));
-                    /*System.out.println(outputWords.get(outputWordPositionData[0]));
-                    System.out.println("allowWordLastPosition : "+allowWordLastPosition +"  "+
-                            "wordStartPosition: " + wordStartPosition + " wordEndPosition: " + wordEndPosition );*/
-                }
-                //허용어임
-            } else {
-                //허용어의 범위 기록
-                allowWordLastPosition = Math.max(allowWordLastPosition, wordEndPosition);
-            }
-        }
-
-        //banWords.addAll(outputWords);
-        return banWords;
+    // 비속어 하나와 그 시작을 덮는 허용어가 들어갈 만큼
+    private int jamoMargin() {
+        return 2 * jamoAutomaton.maxWordLength();
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,217 @@
 package ddog.domain.filtering;
 
+// 한글 음절과 영문자만 남기고, 정규화된 위치마다 원문 위치를 기록한다
+// decomposeJamo 이면 직접 입력한 자모(ㅅㅂ 등)의 위치를 기록해 두고, 요청할 때 그 주변만 자모 스트림으로 분해한다
 public class ContentNormalizer {
+
+    private static final int INITIAL_CAPACITY = 512;
+    private static final int FULL_WIDTH_OFFSET = 0xFEE0;
+
+    private final boolean foldCase;
+    private final boolean foldFullWidth;
+    private final boolean decomposeJamo;
+
+    private char[] buffer = new char[INITIAL_CAPACITY];
+    private int[] originalPositions = new int[INITIAL_CAPACITY];
+    private int length;
+
+    private CharSequence content;
+    private int firstRawJamo = -1;
+    private int lastRawJamo = -1;
+    private char[] jamoBuffer;
+    private int[] jamoOriginalPositions;
+    private boolean[] rawJamo;                  // 음절을 분해한 것이 아니라 원문에 자모로 적힌 위치
+    private int jamoLength;
+
+    public ContentNormalizer() {
+        this(false, false);
+    }
+
+    public ContentNormalizer(boolean foldCase, boolean foldFullWidth) {
+        this(foldCase, foldFullWidth, false);
+    }
+
+    public ContentNormalizer(boolean foldCase, boolean foldFullWidth, boolean decomposeJamo) {
+        this.foldCase = foldCase;
+        this.foldFullWidth = foldFullWidth;
+        this.decomposeJamo = decomposeJamo;
+        if (decomposeJamo) {
+            allocateJamo(INITIAL_CAPACITY * HangulJamo.MAX_JAMO_PER_SYLLABLE);
+        }
+    }
+
     public static String normalize(String content) {
-        return content.replaceAll("[^가-힣a-zA-Z]", "");
+        char[] normalized = new char[content.length()];
+        int n = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (isKept(c)) normalized[n++] = c;
+        }
+        return new String(normalized, 0, n);
+    }
+
+    // 내부 버퍼를 재사용하므로 스레드마다 별도의 인스턴스를 사용해야 한다
+    public ContentNormalizer load(CharSequence content) {
+        int contentLength = content.length();
+        if (buffer.length < contentLength) {
+            buffer = new char[contentLength];
+            originalPositions = new int[contentLength];
+        }
+        if (decomposeJamo) {
+            this.content = content;
+            firstRawJamo = -1;
+            lastRawJamo = -1;
+            jamoLength = 0;
+        }
+
+        int n = 0;
+        for (int i = 0; i < contentLength; i++) {
+            char c = fold(content.charAt(i));
+            if (isKept(c)) {
+                buffer[n] = c;
+                originalPositions[n++] = i;
+            } else if (decomposeJamo && HangulJamo.isJamo(c)) {
+                if (firstRawJamo < 0) firstRawJamo = i;
+                lastRawJamo = i;
+            }
+        }
+        length = n;
+        return this;
+    }
+
+    // 직접 입력한 자모 앞뒤 margin 글자 안쪽만 분해한다 (자모가 없으면 전체)
+    // 자모가 섞인 매칭과 그 시작을 덮는 허용어는 모두 이 범위 안에 있다
+    public ContentNormalizer decomposeJamo(int margin) {
+        int from = 0;
+        int to = content.length() - 1;
+        if (hasRawJamo()) {
+            from = expand(firstRawJamo, -1, margin);
+            to = expand(lastRawJamo, 1, margin);
+        }
+
+        int capacity = (to - from + 1) * HangulJamo.MAX_JAMO_PER_SYLLABLE;
+        if (jamoBuffer.length < capacity) {
+            allocateJamo(capacity);
+        }
+
+        jamoLength = 0;
+        for (int i = from; i <= to; i++) {
+            appendJamo(fold(content.charAt(i)), i);
+        }
+        return this;
+    }
+
+    public char fold(char c) {
+        if (foldFullWidth && ((c >= 'Ａ' && c <= 'Ｚ') || (c >= 'ａ' && c <= 'ｚ'))) {
+            c = (char) (c - FULL_WIDTH_OFFSET);
+        }
+        if (foldCase && c >= 'A' && c <= 'Z') {
+            c = (char) (c + ('a' - 'A'));
+        }
+        return c;
+    }
+
+    public String fold(String word) {
+        if (!foldCase && !foldFullWidth) return word;
+
+        char[] folded = word.toCharArray();
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = fold(folded[i]);
+        }
+        return new String(folded);
+    }
+
+    public char[] buffer() {
+        return buffer;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public int originalPosition(int normalizedPosition) {
+        return originalPositions[normalizedPosition];
+    }
+
+    public char[] jamoBuffer() {
+        return jamoBuffer;
+    }
+
+    public int jamoLength() {
+        return jamoLength;
+    }
+
+    public int jamoOriginalPosition(int jamoPosition) {
+        return jamoOriginalPositions[jamoPosition];
+    }
+
+    public boolean hasRawJamo() {
+        return firstRawJamo >= 0;
+    }
+
+    public boolean containsRawJamo(int jamoStartPosition, int jamoEndPosition) {
+        for (int i = jamoStartPosition; i <= jamoEndPosition; i++) {
+            if (rawJamo[i]) return true;
+        }
+        return false;
+    }
+
+    // 자모 위치가 원문 한 글자(음절 또는 자모)의 시작/끝인지
+    public boolean isJamoUnitStart(int jamoPosition) {
+        return jamoPosition == 0 || jamoOriginalPositions[jamoPosition - 1] != jamoOriginalPositions[jamoPosition];
+    }
+
+    public boolean isJamoUnitEnd(int jamoPosition) {
+        return jamoPosition == jamoLength - 1 || jamoOriginalPositions[jamoPosition + 1] != jamoOriginalPositions[jamoPosition];
+    }
+
+    public String jamoString() {
+        return new String(jamoBuffer, 0, jamoLength);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, length);
+    }
+
+    private void appendJamo(char c, int originalPosition) {
+        int count;
+        if (HangulJamo.isSyllable(c)) {
+            count = HangulJamo.decompose(c, jamoBuffer, jamoLength);
+        } else if (isKept(c) || HangulJamo.isJamo(c)) {
+            jamoBuffer[jamoLength] = c;
+            count = 1;
+        } else {
+            return;
+        }
+
+        boolean raw = HangulJamo.isJamo(c);
+        for (int k = 0; k < count; k++) {
+            jamoOriginalPositions[jamoLength] = originalPosition;
+            rawJamo[jamoLength++] = raw;
+        }
+    }
+
+    private int expand(int position, int direction, int margin) {
+        int units = 0;
+        while (units < margin) {
+            int nextPosition = position + direction;
+            if (nextPosition < 0 || nextPosition >= content.length()) break;
+
+            position = nextPosition;
+            char c = fold(content.charAt(position));
+            if (isKept(c) || HangulJamo.isJamo(c)) units++;
+        }
+        return position;
+    }
+
+    private void allocateJamo(int capacity) {
+        jamoBuffer = new char[capacity];
+        jamoOriginalPositions = new int[capacity];
+        rawJamo = new boolean[capacity];
+    }
+
+    private static boolean isKept(char c) {
+        return (c >= '가' && c <= '힣') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,383 @@
+package ddog.domain.filtering;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.util.*;
+
+public final class DoubleArrayAutomaton {
+
+    public static final int INITIAL_STATE = 0;
+    public static final int STOPPED = -1;
+
+    static final byte BAN_WORD = 1;
+    static final byte ALLOW_WORD = 2;
+
+    private static final int ROOT = 0;
+    private static final int EMPTY = -1;
+    private static final int MAX_INHERITED_TRANSITIONS = 32;
+    private static final int MAX_PLACEMENT_TRIES = 16;
+
+    // 힙 배열이나 스냅샷 파일을 매핑한 버퍼를 같은 방식으로 읽는다
+    private final CharBuffer charClass;     // 문자 -> 알파벳 클래스, 사전에 없는 문자는 0
+    private final IntBuffer rootNext;       // 루트의 goto, 나머지 상태는 여기서 달라지는 전이만 이중 배열에 보관
+    private final IntBuffer base;
+    private final IntBuffer check;
+    private final IntBuffer next;
+    private final IntBuffer fallback;       // 전이가 없을 때 이어서 볼 상태, goto 가 완전히 펼쳐진 상태는 루트
+    private final IntBuffer depth;
+    private final ByteBuffer wordType;
+    private final IntBuffer outputLink;     // 실패 링크를 따라가며 만나는 가장 가까운 단어 종료 상태
+    private final IntBuffer wordOffset;     // 단어 종료 상태의 wordChars 시작 위치
+    private final CharBuffer wordChars;
+    private final String[] words;           // 단어 문자열 캐시, 스냅샷에서 읽은 경우 처음 쓰일 때 채운다
+    private final int stateCount;
+    private final int maxAllowWordLength;
+    private final int maxWordLength;
+
+    DoubleArrayAutomaton(CharBuffer charClass, IntBuffer rootNext, IntBuffer base, IntBuffer check, IntBuffer next,
+                         IntBuffer fallback, IntBuffer depth, ByteBuffer wordType, IntBuffer outputLink,
+                         IntBuffer wordOffset, CharBuffer wordChars, String[] words, int maxAllowWordLength) {
+        this.charClass = charClass;
+        this.rootNext = rootNext;
+        this.base = base;
+        this.check = check;
+        this.next = next;
+        this.fallback = fallback;
+        this.depth = depth;
+        this.wordType = wordType;
+        this.outputLink = outputLink;
+        this.wordOffset = wordOffset;
+        this.wordChars = wordChars;
+        this.words = words;
+        this.stateCount = depth.capacity();
+        this.maxAllowWordLength = maxAllowWordLength;
+        this.maxWordLength = maxWordLength(wordType, depth, stateCount);
+    }
+
+    public static DoubleArrayAutomaton compile(TrieNode root) {
+        List<TrieNode> states = numberStates(root);
+        int stateCount = states.size();
+
+        char[] charClass = new char[Character.MAX_VALUE + 1];
+        int classCount = 0;
+        for (TrieNode node : states) {
+            for (char c : node.children.keySet()) {
+                if (charClass[c] == 0) {
+                    charClass[c] = (char) ++classCount;
+                }
+            }
+        }
+
+        int[] rootNext = new int[classCount + 1];
+        for (Map.Entry<Character, TrieNode> entry : root.children.entrySet()) {
+            rootNext[charClass[entry.getKey()]] = entry.getValue().id;
+        }
+
+        // 실패 링크를 미리 펼쳐서 각 상태의 완전한 goto 함수를 만든다 (루트 전이와 같은 것은 제외)
+        // 물려받을 전이가 너무 많은 상태는 자식 전이만 두고 실패 상태로 넘어가도록 남겨둔다
+        int[][] transitionKeys = new int[stateCount][];
+        int[][] transitionTargets = new int[stateCount][];
+        transitionKeys[ROOT] = new int[0];
+        transitionTargets[ROOT] = new int[0];
+
+        int[] fallback = new int[stateCount];
+        int[] depth = new int[stateCount];
+        byte[] wordType = new byte[stateCount];
+        int[] outputLink = new int[stateCount];
+        String[] words = new String[stateCount];
+
+        for (int s = 1; s < stateCount; s++) {
+            TrieNode node = states.get(s);
+            int fail = node.fail.id;
+
+            int[] childKeys = new int[node.children.size()];
+            int[] childTargets = new int[childKeys.length];
+            int i = 0;
+            for (Map.Entry<Character, TrieNode> entry : node.children.entrySet()) {
+                childKeys[i] = charClass[entry.getKey()];
+                childTargets[i] = entry.getValue().id;
+                i++;
+            }
+            sortByKey(childKeys, childTargets);
+            if (fallback[fail] == ROOT && transitionKeys[fail].length <= MAX_INHERITED_TRANSITIONS) {
+                mergeTransitions(s, childKeys, childTargets, transitionKeys[fail], transitionTargets[fail],
+                        transitionKeys, transitionTargets);
+            } else {
+                transitionKeys[s] = childKeys;
+                transitionTargets[s] = childTargets;
+                fallback[s] = fail;
+            }
+
+            depth[s] = depth[node.parent.id] + 1;
+            if (node.outputs.containsKey("banWord")) {
+                wordType[s] |= BAN_WORD;
+                words[s] = node.outputs.get("banWord");
+            }
+            if (node.outputs.containsKey("allowWord")) {
+                wordType[s] |= ALLOW_WORD;
+                words[s] = node.outputs.get("allowWord");
+            }
+            outputLink[s] = wordType[fail] != 0 ? fail : outputLink[fail];
+        }
+
+        return pack(charClass, rootNext, classCount, transitionKeys, transitionTargets,
+                fallback, depth, wordType, outputLink, words);
+    }
+
+    public int step(int state, char c) {
+        int cls = charClass.get(c);
+        while (state != ROOT) {
+            int slot = base.get(state) + cls;
+            if (check.get(slot) == state) return next.get(slot);
+            state = fallback.get(state);
+        }
+        return rootNext.get(cls);
+    }
+
+    // 같은 끝 위치에서는 긴 단어부터, 같은 단어라면 허용어를 먼저 전달한다
+    public boolean search(char[] text, int length, MatchListener listener) {
+        return search(INITIAL_STATE, text, length, listener) != STOPPED;
+    }
+
+    // 이전 입력이 끝난 상태에서 이어서 탐색하고 마지막 상태를 돌려준다, 리스너가 멈추면 STOPPED
+    // 위치는 상태에 남아 있는 이전 입력의 꼬리(depth 만큼)를 0 으로 두고 센다
+    public int search(int state, char[] text, int length, MatchListener listener) {
+        int offset = depth.get(state);
+        for (int i = 0; i < length; i++) {
+            state = step(state, text[i]);
+
+            int endPosition = offset + i;
+            int output = wordType.get(state) != 0 ? state : outputLink.get(state);
+            while (output != ROOT) {
+                int type = wordType.get(output);
+                int startPosition = endPosition - depth.get(output) + 1;
+                if ((type & ALLOW_WORD) != 0
+                        && !listener.onMatch(word(output), false, startPosition, endPosition)) return STOPPED;
+                if ((type & BAN_WORD) != 0
+                        && !listener.onMatch(word(output), true, startPosition, endPosition)) return STOPPED;
+                output = outputLink.get(output);
+            }
+        }
+        return state;
+    }
+
+    public boolean search(String text, MatchListener listener) {
+        return search(text.toCharArray(), text.length(), listener);
+    }
+
+    public void search(String text, List<int[]> outputWordPositionData, List<String> outputWords) {
+        search(text, (word, banWord, startPosition, endPosition) -> {
+            outputWordPositionData.add(new int[]{outputWords.size(), banWord ? 1 : 0, startPosition, endPosition});
+            outputWords.add(word);
+            return true;
+        });
+    }
+
+    public int stateCount() {
+        return stateCount;
+    }
+
+    public int maxAllowWordLength() {
+        return maxAllowWordLength;
+    }
+
+    public int maxWordLength() {
+        return maxWordLength;
+    }
+
+    private String word(int state) {
+        String word = words[state];
+        if (word == null) {
+            char[] chars = new char[depth.get(state)];
+            wordChars.get(wordOffset.get(state), chars);
+            word = new String(chars);
+            words[state] = word;
+        }
+        return word;
+    }
+
+    CharBuffer charClass() {
+        return charClass.duplicate();
+    }
+
+    IntBuffer rootNext() {
+        return rootNext.duplicate();
+    }
+
+    IntBuffer base() {
+        return base.duplicate();
+    }
+
+    IntBuffer check() {
+        return check.duplicate();
+    }
+
+    IntBuffer next() {
+        return next.duplicate();
+    }
+
+    IntBuffer fallback() {
+        return fallback.duplicate();
+    }
+
+    IntBuffer depth() {
+        return depth.duplicate();
+    }
+
+    ByteBuffer wordType() {
+        return wordType.duplicate();
+    }
+
+    IntBuffer outputLink() {
+        return outputLink.duplicate();
+    }
+
+    IntBuffer wordOffset() {
+        return wordOffset.duplicate();
+    }
+
+    CharBuffer wordChars() {
+        return wordChars.duplicate();
+    }
+
+    private static int maxWordLength(ByteBuffer wordType, IntBuffer depth, int stateCount) {
+        int maxWordLength = 0;
+        for (int state = 0; state < stateCount; state++) {
+            if (wordType.get(state) != 0) maxWordLength = Math.max(maxWordLength, depth.get(state));
+        }
+        return maxWordLength;
+    }
+
+    private static List<TrieNode> numberStates(TrieNode root) {
+        List<TrieNode> states = new ArrayList<>();
+        Queue<TrieNode> queue = new ArrayDeque<>();
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            TrieNode node = queue.poll();
+            node.id = states.size();
+            states.add(node);
+            for (TrieNode child : node.children.values()) {
+                child.parent = node;
+                queue.add(child);
+            }
+        }
+        return states;
+    }
+
+    private static void sortByKey(int[] keys, int[] targets) {
+        for (int i = 1; i < keys.length; i++) {
+            int key = keys[i];
+            int target = targets[i];
+            int j = i - 1;
+            while (j >= 0 && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                targets[j + 1] = targets[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            targets[j + 1] = target;
+        }
+    }
+
+    // 자식 전이가 실패 상태의 전이보다 우선한다
+    private static void mergeTransitions(int state, int[] childKeys, int[] childTargets,
+                                         int[] failKeys, int[] failTargets,
+                                         int[][] transitionKeys, int[][] transitionTargets) {
+        int[] keys = new int[childKeys.length + failKeys.length];
+        int[] targets = new int[keys.length];
+        int i = 0, j = 0, n = 0;
+        while (i < childKeys.length || j < failKeys.length) {
+            if (j == failKeys.length || (i < childKeys.length && childKeys[i] <= failKeys[j])) {
+                if (j < failKeys.length && childKeys[i] == failKeys[j]) j++;
+                keys[n] = childKeys[i];
+                targets[n++] = childTargets[i++];
+            } else {
+                keys[n] = failKeys[j];
+                targets[n++] = failTargets[j++];
+            }
+        }
+        transitionKeys[state] = n == keys.length ? keys : Arrays.copyOf(keys, n);
+        transitionTargets[state] = n == targets.length ? targets : Arrays.copyOf(targets, n);
+    }
+
+    private static DoubleArrayAutomaton pack(char[] charClass, int[] rootNext, int classCount,
+                                             int[][] transitionKeys, int[][] transitionTargets,
+                                             int[] fallback, int[] depth, byte[] wordType, int[] outputLink, String[] words) {
+        int stateCount = depth.length;
+        int maxAllowWordLength = 0;
+        for (int s = 1; s < stateCount; s++) {
+            if ((wordType[s] & ALLOW_WORD) != 0) maxAllowWordLength = Math.max(maxAllowWordLength, depth[s]);
+        }
+
+        // 전이가 많은 상태일수록 자리를 찾기 어려우므로 먼저 배치한다
+        long[] order = new long[stateCount - 1];
+        for (int s = 1; s < stateCount; s++) {
+            order[s - 1] = ((long) (Integer.MAX_VALUE - transitionKeys[s].length) << 32) | s;
+        }
+        Arrays.sort(order);
+
+        int[] base = new int[stateCount];
+        BitSet used = new BitSet();
+        int firstFree = 1;
+        int maxBase = 0;
+        for (long packed : order) {
+            int s = (int) packed;
+            int[] keys = transitionKeys[s];
+            if (keys.length == 0) break;
+
+            int start = used.nextClearBit(Math.max(firstFree, keys[0]));
+            int position = start;
+            int tries = 1;
+            while (!fits(used, position - keys[0], keys)) {
+                position = used.nextClearBit(position + 1);
+                tries++;
+            }
+
+            // 빈 자리를 찾기 어려웠던 구간은 다음 상태부터 건너뛴다 (밀도보다 빌드 시간을 우선)
+            if (tries > MAX_PLACEMENT_TRIES) {
+                firstFree = position;
+            }
+
+            int candidate = position - keys[0];
+            base[s] = candidate;
+            maxBase = Math.max(maxBase, candidate);
+            for (int key : keys) {
+                used.set(candidate + key);
+            }
+            firstFree = used.nextClearBit(firstFree);
+        }
+
+        // 어떤 상태든 base + 클래스가 배열 범위를 넘지 않도록 크기를 맞춘다
+        int[] check = new int[maxBase + classCount + 1];
+        int[] next = new int[check.length];
+        Arrays.fill(check, EMPTY);
+        for (int s = 1; s < stateCount; s++) {
+            int[] keys = transitionKeys[s];
+            for (int k = 0; k < keys.length; k++) {
+                check[base[s] + keys[k]] = s;
+                next[base[s] + keys[k]] = transitionTargets[s][k];
+            }
+        }
+
+        int[] wordOffset = new int[stateCount];
+        StringBuilder wordChars = new StringBuilder();
+        for (int s = 1; s < stateCount; s++) {
+            if (words[s] == null) continue;
+            wordOffset[s] = wordChars.length();
+            wordChars.append(words[s]);
+        }
+
+        return new DoubleArrayAutomaton(CharBuffer.wrap(charClass), IntBuffer.wrap(rootNext), IntBuffer.wrap(base),
+                IntBuffer.wrap(check), IntBuffer.wrap(next), IntBuffer.wrap(fallback), IntBuffer.wrap(depth),
+                ByteBuffer.wrap(wordType), IntBuffer.wrap(outputLink), IntBuffer.wrap(wordOffset),
+                CharBuffer.wrap(wordChars.toString().toCharArray()), words, maxAllowWordLength);
+    }
+
+    private static boolean fits(BitSet used, int candidate, int[] keys) {
+        for (int key : keys) {
+            if (used.get(candidate + key)) return false;
+        }
+        return true;
+    }
+}
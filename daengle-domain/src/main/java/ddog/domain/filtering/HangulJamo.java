@@ -0,0 +1,41 @@
+package ddog.domain.filtering;
+
+// 한글 음절을 호환용 자모(ㄱ, ㅏ ...)로 분해한다, 사용자가 직접 입력하는 자모와 같은 문자로 맞추기 위함
+final class HangulJamo {
+
+    static final int MAX_JAMO_PER_SYLLABLE = 3;
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final char JAMO_FIRST = 'ㄱ';
+    private static final char JAMO_LAST = 'ㅣ';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final char[] JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ".toCharArray();
+    private static final char[] JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ".toCharArray(); // 0 은 받침 없음
+
+    private HangulJamo() {
+    }
+
+    static boolean isSyllable(char c) {
+        return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST;
+    }
+
+    static boolean isJamo(char c) {
+        return c >= JAMO_FIRST && c <= JAMO_LAST;
+    }
+
+    // out 의 offset 부터 초성, 중성, (종성) 순으로 쓰고 쓴 개수를 돌려준다
+    static int decompose(char syllable, char[] out, int offset) {
+        int index = syllable - SYLLABLE_FIRST;
+        int jongseong = index % JONGSEONG_COUNT;
+        out[offset] = CHOSEONG[index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)];
+        out[offset + 1] = JUNGSEONG[(index / JONGSEONG_COUNT) % JUNGSEONG_COUNT];
+        if (jongseong == 0) return 2;
+
+        out[offset + 2] = JONGSEONG[jongseong];
+        return 3;
+    }
+}
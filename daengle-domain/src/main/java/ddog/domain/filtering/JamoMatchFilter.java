@@ -0,0 +1,22 @@
+package ddog.domain.filtering;
+
+// 자모 스트림의 매칭 중 원문 글자 경계에 맞는 것만 넘긴다 ("시바" 가 "시밤" 의 앞부분에 걸리지 않도록)
+// 비속어는 직접 입력한 자모가 섞인 경우만 넘긴다, 음절로만 이루어진 매칭은 음절 스트림에서 이미 판단했다
+class JamoMatchFilter implements MatchListener {
+
+    private final ContentNormalizer normalizer;
+    private final MatchListener delegate;
+
+    JamoMatchFilter(ContentNormalizer normalizer, MatchListener delegate) {
+        this.normalizer = normalizer;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean onMatch(String word, boolean banWord, int startPosition, int endPosition) {
+        if (!normalizer.isJamoUnitStart(startPosition) || !normalizer.isJamoUnitEnd(endPosition)) return true;
+        if (banWord && !normalizer.containsRawJamo(startPosition, endPosition)) return true;
+
+        return delegate.onMatch(word, banWord, startPosition, endPosition);
+    }
+}
@@ -0,0 +1,8 @@
+package ddog.domain.filtering;
+
+@FunctionalInterface
+public interface MatchListener {
+
+    // 매칭은 끝 위치 오름차순으로 전달된다, false 를 반환하면 탐색을 멈춘다
+    boolean onMatch(String word, boolean banWord, int startPosition, int endPosition);
+}
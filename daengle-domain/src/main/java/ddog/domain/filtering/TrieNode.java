@@ -6,4 +6,8 @@ public class TrieNode {
     Map<Character, TrieNode> children = new HashMap<>();
     TrieNode fail;
     Map<String, String> outputs = new HashMap<>();
-}
\ No newline at end of file
+
+    // DoubleArrayAutomaton 컴파일 시 사용
+    int id;
+    TrieNode parent;
+}
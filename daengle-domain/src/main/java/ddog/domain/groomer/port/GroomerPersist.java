@@ -1,17 +1,22 @@
 package ddog.domain.groomer.port;
 
+import ddog.domain.account.ProfileSummary;
 import ddog.domain.groomer.Groomer;
 import ddog.domain.groomer.enums.GroomingBadge;
 import ddog.domain.groomer.enums.GroomingKeyword;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface GroomerPersist {
 
     Optional<Groomer> findByAccountId(Long accountId);
 
+    List<ProfileSummary> findProfilesByAccountIds(Collection<Long> accountIds);
+
     Groomer save(Groomer newGroomer);
 
     Optional<Groomer> findByGroomerId(Long groomerId);
@@ -0,0 +1,36 @@
+package ddog.domain.notification;
+
+import ddog.domain.notification.enums.NotifyType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 업무 변경과 같은 트랜잭션에 남기는 보낼 알림, 커밋된 뒤 디스패처가 꺼내 보낸다
+// message 가 있으면 SSE 로, templateId 가 있으면 알림톡으로 보낸다 (둘 다 있으면 둘 다)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutbox {
+    private Long id;
+    private Long userId; // 알림대상
+    private NotifyType notifyType;
+    private String message;
+    private String templateId;
+    private String receiverName;
+    private String receiverPhone;
+    private int attempts;
+    private LocalDateTime nextAttemptAt; // 이 시각이 지나야 꺼낸다 (보내는 중이면 임대 만료 시각, 실패하면 다시 시도할 시각)
+    private LocalDateTime createdAt;
+
+    public boolean hasSseMessage() {
+        return message != null;
+    }
+
+    public boolean hasAlimTalk() {
+        return templateId != null && receiverPhone != null;
+    }
+}
@@ -0,0 +1,14 @@
+package ddog.domain.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 저장된 알림 한 페이지, 최신 순이고 nextCursor 로 그 이전 페이지를 읽는다 (더 없으면 null)
+@Getter
+@AllArgsConstructor
+public class NotificationPage {
+    private final List<Notification> notifications;
+    private final Long nextCursor;
+}
@@ -0,0 +1,24 @@
+package ddog.domain.notification.port;
+
+import ddog.domain.notification.NotificationOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxPersist {
+
+    void save(NotificationOutbox outbox);
+
+    // 시도할 때가 된 알림을 오래된 것부터 batchSize 개 잠그고 nextAttemptAt 을 leaseUntil 로 미룬다 (트랜잭션 안에서 호출)
+    // dead 로 표시된 행과 다른 디스패처가 잠근 행은 건너뛰고, 커밋한 뒤에는 leaseUntil 까지 다른 디스패처가 꺼내지 않는다
+    List<NotificationOutbox> claimPending(int batchSize, LocalDateTime now, LocalDateTime leaseUntil);
+
+    void markDispatched(List<Long> outboxIds);
+
+    // 시도 횟수를 올리고 nextAttemptAt 에 다시 시도한다
+    void markFailed(List<Long> outboxIds, LocalDateTime nextAttemptAt);
+
+    // 시도 횟수를 올리고 다시 꺼내지 않는다
+    void markDead(List<Long> outboxIds);
+
+}
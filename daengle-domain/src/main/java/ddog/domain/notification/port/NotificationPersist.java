@@ -2,18 +2,22 @@ package ddog.domain.notification.port;
 
 
 import ddog.domain.notification.Notification;
+import ddog.domain.notification.NotificationPage;
 
 import java.util.List;
-import java.util.Optional;
 
 public interface NotificationPersist {
 
-    List<Notification> findNotificationsByUserId(Long userId);
+    List<Notification> findAllNotificationsByUserId(Long userId);
 
-    void saveNotificationWithLogoutUser(Notification notification);
+    // cursor 는 이전 페이지의 nextCursor, 첫 페이지는 null
+    NotificationPage findNotificationsByUserId(Long userId, Long cursor, int size);
+
+    long countNotificationsByUserId(Long userId);
 
-    Optional<Notification> findNotificationById(Long notificationId);
+    void saveNotificationWithLogoutUser(Notification notification);
 
-    void deleteNotificationById(Long notificationId);
+    // 사용자의 알림만 한 번에 지우고 지운 개수를 돌려준다
+    int deleteNotificationsByIds(Long userId, List<Long> notificationIds);
 
 }
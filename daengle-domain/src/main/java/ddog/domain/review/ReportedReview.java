@@ -1,6 +1,7 @@
 package ddog.domain.review;
 
 import ddog.domain.review.enums.ReportType;
+import ddog.domain.review.enums.ReviewType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,6 +13,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ReportedReview {
     private Long reportedReviewId;
+    private ReviewType reviewType;
     private Long reporterId;
     private Long reviewerId;
     private ReportType reportType;
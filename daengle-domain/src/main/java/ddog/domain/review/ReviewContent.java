@@ -0,0 +1,14 @@
+package ddog.domain.review;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 재검수 배치용 경량 조회 모델 (이미지/키워드 컬렉션은 읽지 않는다)
+@Getter
+@AllArgsConstructor
+public class ReviewContent {
+    private final Long reviewId;
+    private final Long reviewerId;
+    private final Long revieweeId; // groomerId or vetId
+    private final String content;
+}
@@ -0,0 +1,31 @@
+package ddog.domain.review;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewModerationCheckpoint {
+    private String jobName;
+    private Long lastReviewId;
+    private LocalDateTime modifiedAt;
+
+    public static ReviewModerationCheckpoint start(String jobName) {
+        return ReviewModerationCheckpoint.builder()
+                .jobName(jobName)
+                .lastReviewId(0L)
+                .modifiedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void advance(Long lastReviewId) {
+        this.lastReviewId = lastReviewId;
+        this.modifiedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,7 @@
+package ddog.domain.review.enums;
+
+// 미용 리뷰와 진료 리뷰는 ID 를 따로 매기므로 신고는 종류와 ID 를 함께 키로 쓴다
+public enum ReviewType {
+    GROOMING,
+    CARE
+}
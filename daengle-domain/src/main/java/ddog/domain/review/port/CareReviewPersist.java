@@ -1,9 +1,11 @@
 package ddog.domain.review.port;
 
 import ddog.domain.review.CareReview;
+import ddog.domain.review.ReviewContent;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CareReviewPersist {
@@ -15,4 +17,5 @@ public interface CareReviewPersist {
     Page<CareReview> findByReviewerId(Long userId, Pageable pageable);
     Page<CareReview> findByRevieweeId(Long userId, Pageable pageable);
     Page<CareReview> findByVetId(Long reviewerId, Pageable pageable);
+    List<ReviewContent> findContentsAfter(Long lastReviewId, int chunkSize);
 }
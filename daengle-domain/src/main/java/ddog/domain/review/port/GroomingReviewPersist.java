@@ -1,9 +1,11 @@
 package ddog.domain.review.port;
 
 import ddog.domain.review.GroomingReview;
+import ddog.domain.review.ReviewContent;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface GroomingReviewPersist {
@@ -15,4 +17,5 @@ public interface GroomingReviewPersist {
     Page<GroomingReview> findByReviewerId(Long userId, Pageable pageable);
     Page<GroomingReview> findByRevieweeId(Long userId, Pageable pageable);
     Page<GroomingReview> findByGroomerId(Long userId, Pageable pageable);
+    List<ReviewContent> findContentsAfter(Long lastReviewId, int chunkSize);
 }
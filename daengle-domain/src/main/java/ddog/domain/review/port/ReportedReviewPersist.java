@@ -1,11 +1,18 @@
 package ddog.domain.review.port;
 
 import ddog.domain.review.ReportedReview;
+import ddog.domain.review.enums.ReviewType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface ReportedReviewPersist {
     ReportedReview save(ReportedReview reportedReview);
 
-    Page<ReportedReview> findByReporterId(Long vetId, Pageable pageable);
+    List<ReportedReview> saveAll(List<ReportedReview> reportedReviews);
+
+    List<Long> findReportedReviewIds(ReviewType reviewType, List<Long> reviewIds);
+
+    Page<ReportedReview> findByReporterId(Long reporterId, ReviewType reviewType, Pageable pageable);
 }
@@ -0,0 +1,10 @@
+package ddog.domain.review.port;
+
+import ddog.domain.review.ReviewModerationCheckpoint;
+
+import java.util.Optional;
+
+public interface ReviewModerationCheckpointPersist {
+    Optional<ReviewModerationCheckpoint> findByJobName(String jobName);
+    ReviewModerationCheckpoint save(ReviewModerationCheckpoint checkpoint);
+}
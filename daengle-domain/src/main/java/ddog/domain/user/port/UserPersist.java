@@ -1,7 +1,10 @@
 package ddog.domain.user.port;
 
+import ddog.domain.account.ProfileSummary;
 import ddog.domain.user.User;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserPersist {
@@ -9,6 +12,8 @@ public interface UserPersist {
 
     Optional<User> findByAccountId(Long accountId);
 
+    List<ProfileSummary> findProfilesByAccountIds(Collection<Long> accountIds);
+
     Boolean hasNickname(String nickname);
 
     void deleteByAccountId(Long accountId);
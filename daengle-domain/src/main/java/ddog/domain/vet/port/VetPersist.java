@@ -1,16 +1,19 @@
 package ddog.domain.vet.port;
 
+import ddog.domain.account.ProfileSummary;
 import ddog.domain.vet.Vet;
 import ddog.domain.vet.enums.CareBadge;
 import ddog.domain.vet.enums.CareKeyword;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface VetPersist {
     Optional<Vet> findByAccountId(Long accountId);
+    List<ProfileSummary> findProfilesByAccountIds(Collection<Long> accountIds);
     Optional<Vet> findByVetId(Long vetId);
 
     Vet save(Vet vet);
@@ -0,0 +1,57 @@
+import ddog.domain.filtering.BanWordMatch;
+import ddog.domain.filtering.BanWordValidator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class AllowWordOverlapResolutionTest {
+
+    private static final Set<String> BAN_WORDS = Set.of("시발", "발점", "새끼", "개새끼");
+    private static final Set<String> ALLOW_WORDS = Set.of("시발점", "강아지새끼");
+
+    private static BanWordValidator banWordValidator;
+
+    @BeforeAll
+    public static void setup() {
+        banWordValidator = new BanWordValidator(BAN_WORDS, ALLOW_WORDS);
+    }
+
+    @Test
+    public void testAllowWordStartingAtSamePositionWins() {
+        // 시발점의 시작에 걸린 시발은 빠지고, 허용어 안에서 시작하는 발점도 빠진다
+        Assertions.assertEquals(List.of(), banWords("수학의 시발점"));
+        Assertions.assertEquals(List.of("새끼"), banWords("강아지새끼 말고 새끼"));
+    }
+
+    @Test
+    public void testBanWordsInStartOrder() {
+        Assertions.assertEquals(List.of("시발", "개새끼", "새끼"), banWords("시발 개새끼"));
+    }
+
+    @Test
+    public void testLongerBanWordEndingLaterComesFirst() {
+        // 새끼가 먼저 끝나 먼저 들어오지만 먼저 시작한 개새끼야가 앞에 와야 한다
+        BanWordValidator validator = new BanWordValidator(Set.of("새끼", "개새끼야"), Set.of());
+        Assertions.assertEquals(List.of("개새끼야", "새끼"),
+                validator.findAllBanWords("개새끼야").stream().map(BanWordMatch::getWord).toList());
+    }
+
+    @Test
+    public void testSpamReviewKeepsStartOrder() {
+        // 매칭이 많은 스팸 리뷰에서도 반복마다 같은 결과가 시작 위치 순으로 나와야 한다
+        String content = "시발점 개새끼 강아지새끼 시발 ".repeat(2_000);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            expected.addAll(List.of("개새끼", "새끼", "시발"));
+        }
+        Assertions.assertEquals(expected, banWords(content));
+    }
+
+    private static List<String> banWords(String content) {
+        return banWordValidator.findAllBanWords(content).stream().map(BanWordMatch::getWord).toList();
+    }
+}
@@ -0,0 +1,145 @@
+import ddog.domain.filtering.AutomatonSnapshot;
+import ddog.domain.filtering.BanWordMatch;
+import ddog.domain.filtering.BanWordValidator;
+import ddog.domain.filtering.DoubleArrayAutomaton;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+// 매핑한 스냅샷은 다시 컴파일한 오토마톤과 똑같이 동작하고, 맞지 않는 파일은 매핑하지 않아야 한다
+public class AutomatonSnapshotTest {
+
+    @TempDir
+    Path snapshotDir;
+
+    private Set<String> banWords;
+    private Set<String> allowWords;
+    private long fingerprint;
+    private Path snapshot;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        banWords = loadLines("badWords.txt");
+        allowWords = loadLines("allowWords.txt");
+        try (InputStream banWordsInput = new ClassPathResource("badWords.txt").getInputStream();
+             InputStream allowWordsInput = new ClassPathResource("allowWords.txt").getInputStream()) {
+            fingerprint = AutomatonSnapshot.fingerprint(banWordsInput, allowWordsInput, false);
+        }
+        snapshot = snapshotDir.resolve("banWords.snapshot");
+        AutomatonSnapshot.write(BanWordValidator.compile(banWords, allowWords, false), snapshot, fingerprint,
+                banWords.size(), allowWords.size());
+    }
+
+    @Test
+    public void testMappedSnapshotMatchesRebuiltAutomaton() throws IOException {
+        AutomatonSnapshot.Mapping mapping = AutomatonSnapshot.map(snapshot, fingerprint).orElseThrow();
+        DoubleArrayAutomaton rebuilt = BanWordValidator.compile(banWords, allowWords, false);
+
+        Assertions.assertEquals(rebuilt.stateCount(), mapping.automaton().stateCount());
+        Assertions.assertEquals(rebuilt.maxAllowWordLength(), mapping.automaton().maxAllowWordLength());
+        Assertions.assertEquals(banWords.size(), mapping.banWordCount());
+        Assertions.assertEquals(allowWords.size(), mapping.allowWordCount());
+
+        BanWordValidator fromSnapshot = new BanWordValidator(mapping.automaton(), false);
+        BanWordValidator fromWords = new BanWordValidator(rebuilt, false);
+        List<String> reviews = new ArrayList<>();
+        reviews.addAll(loadLines("badReviews.txt"));
+        reviews.addAll(loadLines("cleanReviews.txt"));
+        for (String review : reviews) {
+            Assertions.assertEquals(fromWords.findBanWords(review), fromSnapshot.findBanWords(review), review);
+            Assertions.assertEquals(words(fromWords.findAllBanWords(review)), words(fromSnapshot.findAllBanWords(review)), review);
+        }
+    }
+
+    @Test
+    public void testStaleFingerprintIsNotMapped() throws IOException {
+        long changed;
+        try (InputStream banWordsInput = new ByteArrayInputStream("시발\n".getBytes(StandardCharsets.UTF_8));
+             InputStream allowWordsInput = new ClassPathResource("allowWords.txt").getInputStream()) {
+            changed = AutomatonSnapshot.fingerprint(banWordsInput, allowWordsInput, false);
+        }
+
+        Assertions.assertNotEquals(fingerprint, changed);
+        Assertions.assertTrue(AutomatonSnapshot.map(snapshot, changed).isEmpty());
+    }
+
+    @Test
+    public void testFingerprintSeparatesBanAndAllowWords() throws IOException {
+        // 같은 바이트라도 금칙어 파일과 허용어 파일의 경계가 다르면 다른 사전이다
+        Assertions.assertNotEquals(fingerprint("시발\n", "시발점\n"), fingerprint("시발\n시발점\n", ""));
+        Assertions.assertEquals(fingerprint("시발\n", "시발점\n"), fingerprint("시발\n", "시발점\n"));
+    }
+
+    @Test
+    public void testWrongMagicIsNotMapped() throws IOException {
+        overwriteInt(0, 0x12345678);
+
+        Assertions.assertTrue(AutomatonSnapshot.map(snapshot, fingerprint).isEmpty());
+    }
+
+    @Test
+    public void testWrongFormatVersionIsNotMapped() throws IOException {
+        overwriteInt(4, 1);
+
+        Assertions.assertTrue(AutomatonSnapshot.map(snapshot, fingerprint).isEmpty());
+    }
+
+    @Test
+    public void testTruncatedSnapshotIsNotMapped() throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+        Assertions.assertTrue(AutomatonSnapshot.map(snapshot, fingerprint).isEmpty());
+
+        // 헤더보다 짧은 파일
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+            channel.truncate(10);
+        }
+        Assertions.assertTrue(AutomatonSnapshot.map(snapshot, fingerprint).isEmpty());
+    }
+
+    @Test
+    public void testMissingSnapshotIsNotMapped() {
+        Assertions.assertTrue(AutomatonSnapshot.map(snapshotDir.resolve("missing.snapshot"), fingerprint).isEmpty());
+    }
+
+    private void overwriteInt(long position, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(0, value), position);
+        }
+    }
+
+    private static long fingerprint(String banWords, String allowWords) throws IOException {
+        return AutomatonSnapshot.fingerprint(new ByteArrayInputStream(banWords.getBytes(StandardCharsets.UTF_8)),
+                new ByteArrayInputStream(allowWords.getBytes(StandardCharsets.UTF_8)), false);
+    }
+
+    private static List<String> words(List<BanWordMatch> matches) {
+        return matches.stream().map(BanWordMatch::getWord).toList();
+    }
+
+    private static Set<String> loadLines(String fileName) throws IOException {
+        Set<String> lines = new HashSet<>();
+        try (InputStream inputStream = new ClassPathResource(fileName).getInputStream()) {
+            for (String line : new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).split("\n")) {
+                if (!line.trim().isEmpty()) {
+                    lines.add(line.trim());
+                }
+            }
+        }
+        return lines;
+    }
+}
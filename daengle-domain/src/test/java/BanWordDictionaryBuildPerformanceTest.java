@@ -0,0 +1,57 @@
+import ddog.domain.filtering.BanWordValidator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+public class BanWordDictionaryBuildPerformanceTest {
+
+    @Test
+    public void testBuildPerformance_largeDictionary() {
+        // 금칙어 10만 개, 허용어 1만 개의 임의 사전 생성
+        Random random = new Random(42);
+        Set<String> banWords = generateWords(random, 100_000);
+        Set<String> allowWords = generateWords(random, 10_000);
+
+        // JIT 워밍업
+        new BanWordValidator(banWords, allowWords);
+
+        int iterations = 3;
+
+        // 성능 측정 시작
+        long startTime = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++) {
+            BanWordValidator banWordValidator = new BanWordValidator(banWords, allowWords);
+            Assertions.assertFalse(banWordValidator.checkBanWord("abc"));
+        }
+
+        long endTime = System.nanoTime();
+
+        // 성능 결과 계산
+        double averageDurationMs = (endTime - startTime) / 1_000_000.0 / iterations;
+
+        // 성능 테스트 결과 출력
+        System.out.println("=== Dictionary Build Performance Test Results ===");
+        System.out.printf("Ban Words: %d, Allow Words: %d%n", banWords.size(), allowWords.size());
+        System.out.printf("Average Build Duration: %.3f ms%n", averageDurationMs);
+
+        // 성능 검증
+        Assertions.assertTrue(averageDurationMs < 5_000, "성능 기준: 사전 빌드는 평균 5초 이내에 끝나야 합니다.");
+    }
+
+    private static Set<String> generateWords(Random random, int count) {
+        Set<String> words = new HashSet<>();
+        while (words.size() < count) {
+            int length = 2 + random.nextInt(5);
+            StringBuilder word = new StringBuilder();
+            for (int i = 0; i < length; i++) {
+                word.append((char) ('가' + random.nextInt(2_000)));
+            }
+            words.add(word.toString());
+        }
+        return words;
+    }
+}
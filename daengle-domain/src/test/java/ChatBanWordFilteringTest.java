@@ -0,0 +1,55 @@
+import ddog.domain.filtering.BanWordValidator;
+import ddog.domain.filtering.DoubleArrayAutomaton;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+public class ChatBanWordFilteringTest {
+
+    private static BanWordValidator banWordValidator;
+
+    @BeforeAll
+    public static void setup() {
+        banWordValidator = new BanWordValidator(Set.of("시발", "개새끼"), Set.of("시발점"));
+    }
+
+    @Test
+    public void testBanWordSplitAcrossMessages() {
+        // 메시지 하나씩 보면 깨끗하지만 이어 붙이면 금칙어가 된다
+        int state = banWordValidator.findBanWords(DoubleArrayAutomaton.INITIAL_STATE, "오늘 개");
+        Assertions.assertNotEquals(BanWordValidator.BAN_WORD_FOUND, state);
+
+        state = banWordValidator.findBanWords(state, "새");
+        Assertions.assertNotEquals(BanWordValidator.BAN_WORD_FOUND, state);
+
+        Assertions.assertEquals(BanWordValidator.BAN_WORD_FOUND, banWordValidator.findBanWords(state, "끼야"));
+    }
+
+    @Test
+    public void testAllowWordSplitAcrossMessages() {
+        // 허용어가 메시지 경계에 걸쳐 있어도 금칙어로 보지 않는다
+        int state = banWordValidator.findBanWords(DoubleArrayAutomaton.INITIAL_STATE, "여기가 시");
+        state = banWordValidator.findBanWords(state, "발점");
+        Assertions.assertNotEquals(BanWordValidator.BAN_WORD_FOUND, state);
+    }
+
+    @Test
+    public void testCleanConversation() {
+        int state = DoubleArrayAutomaton.INITIAL_STATE;
+        for (String message : new String[]{"안녕하세요", "내일 미용 예약", "가능할까요?", "감사합니다"}) {
+            state = banWordValidator.findBanWords(state, message);
+            Assertions.assertNotEquals(BanWordValidator.BAN_WORD_FOUND, state);
+        }
+    }
+
+    @Test
+    public void testSameResultAsSingleMessage() {
+        // 초기 상태에서 시작하면 단일 메시지 검사와 같다
+        for (String message : new String[]{"시발", "시발점", "개새끼", "고양이"}) {
+            boolean banned = banWordValidator.findBanWords(DoubleArrayAutomaton.INITIAL_STATE, message) == BanWordValidator.BAN_WORD_FOUND;
+            Assertions.assertEquals(banWordValidator.checkBanWord(message), banned, message);
+        }
+    }
+}
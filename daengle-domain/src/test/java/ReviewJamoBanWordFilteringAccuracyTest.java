@@ -0,0 +1,101 @@
+import ddog.domain.filtering.BanWordValidator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+public class ReviewJamoBanWordFilteringAccuracyTest {
+
+    private static BanWordValidator banWordValidator;
+    private static BanWordValidator syllableBanWordValidator;
+
+    @BeforeAll
+    public static void setup() throws IOException {
+        // 금칙어와 허용어 목록 로드
+        Set<String> banWords = loadWordsFromResource("badWords.txt");
+        Set<String> allowWords = loadWordsFromResource("allowWords.txt");
+
+        // 자모 모드와 기존 음절 모드 BanWordValidator 초기화
+        banWordValidator = new BanWordValidator(banWords, allowWords, false, true);
+        syllableBanWordValidator = new BanWordValidator(banWords, allowWords);
+    }
+
+    @Test
+    public void testJamoBadReviews() throws IOException {
+        // Arrange: 자모로 적거나 음절을 쪼갠 금칙어 리뷰 목록 로드
+        Set<String> jamoBadReviews = loadReviewsFromResource("jamoBadReviews.txt");
+
+        // Act & Assert: 음절 모드는 놓치고 자모 모드는 감지해야 함
+        for (String review : jamoBadReviews) {
+            boolean result = banWordValidator.checkBanWord(review);
+            boolean syllableResult = syllableBanWordValidator.checkBanWord(review);
+            System.out.printf("[FAIL] Jamo Bad Review: '%s' -> Jamo: %b, Syllable: %b%n", review, result, syllableResult);
+            Assertions.assertTrue(result, "자모로 우회한 욕설도 금칙어 필터링이 적용되어야 함");
+        }
+    }
+
+    @Test
+    public void testJamoCleanReviews() throws IOException {
+        // Arrange: ㅋㅋ, ㅠㅠ 처럼 자모가 섞인 클린 리뷰 목록 로드
+        Set<String> jamoCleanReviews = loadReviewsFromResource("jamoCleanReviews.txt");
+
+        // Act & Assert: 음절로만 이루어진 단어(김씨, 시바견 등)를 자모 단어로 오인하면 안됨
+        for (String review : jamoCleanReviews) {
+            boolean result = banWordValidator.checkBanWord(review);
+            System.out.printf("[PASS] Jamo Clean Review: '%s' -> Contains Ban Word: %b%n", review, result);
+            Assertions.assertFalse(result, "자모가 섞인 클린 리뷰에는 금칙어가 없어야 함");
+        }
+    }
+
+    @Test
+    public void testSyllableReviewsUnchanged() throws IOException {
+        // Arrange: 기존 음절 리뷰 목록 로드
+        Set<String> cleanReviews = loadReviewsFromResource("cleanReviews.txt");
+        Set<String> badReviews = loadReviewsFromResource("badReviews.txt");
+
+        // Act & Assert: 자모 모드에서도 기존 결과가 같아야 함
+        for (String review : cleanReviews) {
+            Assertions.assertEquals(syllableBanWordValidator.checkBanWord(review), banWordValidator.checkBanWord(review), review);
+        }
+        for (String review : badReviews) {
+            Assertions.assertEquals(syllableBanWordValidator.checkBanWord(review), banWordValidator.checkBanWord(review), review);
+        }
+    }
+
+    private static Set<String> loadReviewsFromResource(String fileName) throws IOException {
+        Set<String> reviews = new HashSet<>();
+        ClassPathResource resource = new ClassPathResource(fileName);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    reviews.add(line.trim());
+                }
+            }
+        }
+        return reviews;
+    }
+
+    private static Set<String> loadWordsFromResource(String fileName) throws IOException {
+        Set<String> words = new HashSet<>();
+        ClassPathResource resource = new ClassPathResource(fileName);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    words.add(line.trim());
+                }
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,79 @@
+import ddog.domain.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+
+public class SnowflakeIdGeneratorTest {
+
+    @Test
+    public void testNoDuplicatesAcrossThreads() throws Exception {
+        // 스레드 8개가 동시에 50만 개씩, 총 400만 개를 만든다
+        int threads = 8;
+        int idsPerThread = 500_000;
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                long[] ids = new long[idsPerThread];
+                start.await();
+                for (int i = 0; i < idsPerThread; i++) {
+                    ids[i] = generator.nextId();
+                }
+                return ids;
+            }));
+        }
+
+        long startTime = System.nanoTime();
+        start.countDown();
+
+        long[] allIds = new long[threads * idsPerThread];
+        int offset = 0;
+        for (Future<long[]> result : results) {
+            long[] ids = result.get(60, TimeUnit.SECONDS);
+            // 한 스레드 안에서는 항상 증가해야 한다
+            for (int i = 1; i < ids.length; i++) {
+                Assertions.assertTrue(ids[i - 1] < ids[i], "스레드 안에서 ID 가 증가하지 않았습니다.");
+            }
+            System.arraycopy(ids, 0, allIds, offset, ids.length);
+            offset += ids.length;
+        }
+        long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+        executor.shutdown();
+
+        Arrays.sort(allIds);
+        int duplicates = 0;
+        for (int i = 1; i < allIds.length; i++) {
+            if (allIds[i - 1] == allIds[i]) duplicates++;
+        }
+
+        System.out.printf("Generated %d ids on %d threads in %d ms%n", allIds.length, threads, elapsedMs);
+        Assertions.assertEquals(0, duplicates, "중복된 ID 가 있습니다.");
+        Assertions.assertTrue(allIds[0] > 0, "ID 는 양수여야 합니다.");
+    }
+
+    @Test
+    public void testTimestampAndNodeRoundTrip() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID);
+
+        long before = System.currentTimeMillis();
+        long id = generator.nextId();
+        long after = System.currentTimeMillis();
+
+        Assertions.assertEquals(SnowflakeIdGenerator.MAX_NODE_ID, SnowflakeIdGenerator.nodeId(id));
+        Assertions.assertTrue(SnowflakeIdGenerator.timestampMillis(id) >= before);
+        Assertions.assertTrue(SnowflakeIdGenerator.timestampMillis(id) <= after);
+    }
+
+    @Test
+    public void testInvalidNodeId() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1));
+    }
+}
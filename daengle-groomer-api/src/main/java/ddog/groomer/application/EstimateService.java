@@ -8,6 +8,7 @@ import ddog.domain.groomer.Groomer;
 import ddog.domain.groomer.port.GroomerPersist;
 import ddog.domain.pet.Pet;
 import ddog.domain.pet.port.PetPersist;
+import ddog.domain.notification.enums.NotifyType;
 import ddog.domain.user.User;
 import ddog.domain.user.port.UserPersist;
 import ddog.groomer.application.exception.GroomingEstimateException;
@@ -18,6 +19,7 @@ import ddog.groomer.presentation.estimate.dto.CreatePendingEstimateReq;
 import ddog.groomer.presentation.estimate.dto.EstimateDetail;
 import ddog.groomer.presentation.estimate.dto.EstimateInfo;
 import ddog.groomer.presentation.estimate.dto.EstimateResp;
+import ddog.notification.application.NotificationOutboxService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -38,6 +40,8 @@ public class EstimateService {
 
     private final GroomingEstimatePersist groomingEstimatePersist;
 
+    private final NotificationOutboxService notificationOutboxService;
+
     @Transactional(readOnly = true)
     public EstimateInfo.General findGeneralEstimates(Long accountId, int page, int size) {
         Groomer groomer = groomerPersist.findByAccountId(accountId)
@@ -113,22 +117,13 @@ public class EstimateService {
         GroomingEstimate pendingEstimate = GroomingEstimateMapper.createPendingEstimate(request, groomer, groomingEstimate);
         GroomingEstimate savedEstimate = groomingEstimatePersist.save(pendingEstimate);
 
+        User user = userPersist.findByAccountId(savedEstimate.getUserId())
+                .orElseThrow(() -> new UserException(UserExceptionType.USER_NOT_FOUND));
+        notificationOutboxService.enqueueAlimTalk(user.getAccountId(), NotifyType.ESTIMATED, user.getUsername(), user.getPhoneNumber());
+
         return EstimateResp.builder()
                 .estimateId(savedEstimate.getEstimateId())
                 .requestResult("대기 미용 견적서 등록 완료")
                 .build();
     }
-
-    public EstimateInfo.EstimateUserInfo findByUserInfoByEstimateId(Long estimateId) {
-         GroomingEstimate savedEstimate = groomingEstimatePersist.findByEstimateId(estimateId).orElseThrow(()-> new GroomingEstimateException(GroomingEstimateExceptionType.GROOMING_ESTIMATE_NOT_FOUND));
-         Long userId = savedEstimate.getUserId();
-         String userName = userPersist.findByAccountId(userId).orElseThrow(()-> new UserException(UserExceptionType.USER_NOT_FOUND)).getUsername();
-         String userPhone = userPersist.findByAccountId(userId).orElseThrow(() -> new UserException(UserExceptionType.USER_NOT_FOUND)).getPhoneNumber();
-
-         return EstimateInfo.EstimateUserInfo.builder()
-                 .userId(userId)
-                 .userNickname(userName)
-                 .userPhone(userPhone)
-                 .build();
-    }
 }
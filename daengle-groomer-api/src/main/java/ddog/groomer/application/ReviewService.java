@@ -5,6 +5,7 @@ import ddog.domain.payment.Reservation;
 import ddog.domain.payment.port.ReservationPersist;
 import ddog.domain.review.GroomingReview;
 import ddog.domain.review.ReportedReview;
+import ddog.domain.review.enums.ReviewType;
 import ddog.domain.review.port.ReportedReviewPersist;
 import ddog.domain.user.User;
 import ddog.domain.user.port.UserPersist;
@@ -90,7 +91,7 @@ public class ReviewService {
                 .orElseThrow(() -> new GroomerException(GroomerExceptionType.GROOMER_NOT_FOUND));
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<ReportedReview> reportedReviews = reportedReviewPersist.findByReporterId(savedGroomer.getGroomerId(), pageable);
+        Page<ReportedReview> reportedReviews = reportedReviewPersist.findByReporterId(savedGroomer.getGroomerId(), ReviewType.GROOMING, pageable);
 
         return mappingToReportedReviewListResp(reportedReviews);
     }
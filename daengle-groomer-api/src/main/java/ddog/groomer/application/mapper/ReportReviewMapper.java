@@ -3,6 +3,7 @@ package ddog.groomer.application.mapper;
 
 import ddog.domain.review.GroomingReview;
 import ddog.domain.review.ReportedReview;
+import ddog.domain.review.enums.ReviewType;
 import ddog.groomer.presentation.review.dto.ReportReviewReq;
 
 
@@ -11,6 +12,7 @@ public class ReportReviewMapper {
     public static ReportedReview create(GroomingReview groomingReview, ReportReviewReq reportReviewReq) {
         return ReportedReview.builder()
                 .reportedReviewId(reportReviewReq.getReviewId())
+                .reviewType(ReviewType.GROOMING)
                 .reporterId(reportReviewReq.getGroomerId())
                 .reviewerId(groomingReview.getReviewerId())
                 .reportType(reportReviewReq.getReportType())
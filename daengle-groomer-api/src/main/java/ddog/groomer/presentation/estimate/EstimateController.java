@@ -7,9 +7,7 @@ import ddog.groomer.presentation.estimate.dto.CreatePendingEstimateReq;
 import ddog.groomer.presentation.estimate.dto.EstimateDetail;
 import ddog.groomer.presentation.estimate.dto.EstimateInfo;
 import ddog.groomer.presentation.estimate.dto.EstimateResp;
-import ddog.notification.application.KakaoNotificationService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.env.Environment;
 import org.springframework.web.bind.annotation.*;
 
 import static ddog.auth.exception.common.CommonResponseEntity.success;
@@ -20,9 +18,6 @@ import static ddog.auth.exception.common.CommonResponseEntity.success;
 public class EstimateController {
 
     private final EstimateService estimateService;
-    private final KakaoNotificationService kakaoNotificationService;
-
-    private final Environment environment;
 
 
     /* (신규) 일반 견적서들 리스트 조회 */
@@ -54,8 +49,6 @@ public class EstimateController {
     /* 미용사 -> 사용자 (대기) 미용 견적서 작성 */
     @PostMapping
     public CommonResponseEntity<EstimateResp> createEstimate(@RequestBody CreatePendingEstimateReq request, PayloadDto payloadDto) {
-        EstimateInfo.EstimateUserInfo savedEstimate = estimateService.findByUserInfoByEstimateId(request.getId());
-        kakaoNotificationService.sendOneTalk(savedEstimate.getUserNickname(), savedEstimate.getUserPhone(), environment.getProperty("templateId.ESTIMATED"));
         return success(estimateService.createPendingEstimate(request, payloadDto.getAccountId()));
     }
 }
@@ -51,12 +51,4 @@ public class EstimateInfo {
             private LocalDateTime reservedDate;
         }
     }
-
-    @Getter
-    @Builder
-    public static class EstimateUserInfo {
-        private Long userId;
-        private String userNickname;
-        private String userPhone;
-    }
 }
@@ -1,24 +1,37 @@
 package ddog.notification.application;
 
+import ddog.notification.application.dto.AlimTalkBulkResult;
+import ddog.notification.application.dto.AlimTalkRecipient;
+import ddog.notification.application.port.AlimTalkSender;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import net.nurigo.sdk.NurigoApp;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
 import net.nurigo.sdk.message.model.KakaoOption;
 import net.nurigo.sdk.message.model.Message;
-import net.nurigo.sdk.message.request.SingleMessageSendingRequest;
-import net.nurigo.sdk.message.service.DefaultMessageService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
+// 알림톡 전송은 단건, 일괄 모두 공유 실행기 하나에서 돌린다, 대기열까지 차면 RejectedExecutionException 으로 바로 실패시킨다
+// 실행기를 빈으로 두면 스프링 기본 applicationTaskExecutor 가 빠지므로 이 서비스가 직접 들고 있는다
+// 지표는 executor.* {name=kakaoNotification} (대기열 길이, 작업 중인 스레드 수, 처리 시간)와 거절 수 executor.rejected
 @Service
 public class KakaoNotificationService {
     private static final Logger logger = LoggerFactory.getLogger(KakaoNotificationService.class);
 
-    private final DefaultMessageService messageService;
+    private static final long SEND_TIMEOUT_SECONDS = 5;
+    private static final String EXECUTOR_NAME = "kakaoNotification";
+
+    private final AlimTalkSender alimTalkSender;
+    private final ExecutorService kakaoNotificationExecutor;
+    private final long bulkTimeoutNanos;
 
     @Value("${kakao.pfId}")
     private String kakaoPfid;
@@ -26,62 +39,131 @@ public class KakaoNotificationService {
     @Value("${kakao.setFrom}")
     private String kakaoFrom;
 
-    public KakaoNotificationService(@Value("${kakao.apiKey}") String kakaoApiKey,
-                                    @Value("${kakao.apiSecretKey}") String kakaoApiSecretKey,
-                                    @Value("${kakao.domain}") String kakaoDomain) {
-        this.messageService = NurigoApp.INSTANCE.initialize(kakaoApiKey, kakaoApiSecretKey, kakaoDomain);
+    public KakaoNotificationService(AlimTalkSender alimTalkSender, MeterRegistry meterRegistry,
+                                    @Value("${kakao.executor.pool-size:8}") int poolSize,
+                                    @Value("${kakao.executor.queue-capacity:1000}") int queueCapacity,
+                                    @Value("${kakao.bulk-timeout-ms:30000}") long bulkTimeoutMillis) {
+        this.alimTalkSender = alimTalkSender;
+        this.bulkTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(bulkTimeoutMillis);
+
+        Counter rejected = Counter.builder("executor.rejected").tag("name", EXECUTOR_NAME).register(meterRegistry);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "kakao-notification-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> {
+                    rejected.increment();
+                    throw new RejectedExecutionException("알림톡 전송 대기열이 가득 찼습니다.");
+                });
+        executor.allowCoreThreadTimeOut(true);
+        this.kakaoNotificationExecutor = ExecutorServiceMetrics.monitor(meterRegistry, executor, EXECUTOR_NAME);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        kakaoNotificationExecutor.shutdown();
     }
+
+    // 5초까지만 기다린다, 실행기가 가득 차 있으면 기다리지 않고 실패한다
     private void executeNotification(String userName, String userPhoneNumber, String template) {
-        ExecutorService executor = Executors.newSingleThreadExecutor();
-        Future<Void> future = executor.submit(() -> {
-            simulateDelay(); // 10초 지연 발생
-            sendOneTalk(userName, userPhoneNumber, template);
-            return null;
-        });
+        Future<?> future = kakaoNotificationExecutor.submit(() -> sendOneTalk(userName, userPhoneNumber, template));
 
         try {
-            future.get(5, TimeUnit.SECONDS);
+            future.get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
         } catch (TimeoutException e) {
+            future.cancel(true);
             throw new RuntimeException("Timeout: 알림톡 전송 요청이 5초를 초과했습니다.");
-        } catch (Exception e) {
-            throw new RuntimeException("알림톡 전송 중 오류 발생", e);
-        } finally {
-            executor.shutdownNow();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("알림톡 전송 대기 중 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("알림톡 전송 중 오류 발생", e.getCause());
         }
     }
 
     public void sendOneTalk(String userName, String userPhoneNumber, String template) {
-        KakaoOption kakaoOption = new KakaoOption();
-        kakaoOption.setDisableSms(true);
-
-        kakaoOption.setPfId(kakaoPfid);
-        kakaoOption.setTemplateId(template);
-
-        HashMap<String, String> variables = new HashMap<>();
-        variables.put("#{사용자}", userName);
+        alimTalkSender.sendOne(toMessage(userName, userPhoneNumber, template));
+    }
 
-        kakaoOption.setVariables(variables);
+    // 같은 템플릿을 여러 사용자에게 보낸다, 요청 한 번에 최대 AlimTalkSender.MAX_BATCH_SIZE 건씩 공유 실행기에서 보내고 받는 사람마다 결과를 돌려준다
+    // 중복 수신자를 허용하지 않고 보내므로 같은 번호가 또 나오면 다음 요청으로 미룬다
+    // 요청이 실패하거나 bulkTimeout 안에 끝나지 않으면 그 요청의 받는 사람은 모두 실패로 본다 (시간이 넘은 요청은 실제로 갔을 수도 있다)
+    public AlimTalkBulkResult sendBulkTalk(List<AlimTalkRecipient> recipients, String template) {
+        boolean[] delivered = new boolean[recipients.size()];
+        List<List<Integer>> requests = splitRequests(recipients);
+        List<Future<Set<String>>> futures = new ArrayList<>(requests.size());
+        for (List<Integer> request : requests) {
+            List<Message> messages = new ArrayList<>(request.size());
+            for (int index : request) {
+                AlimTalkRecipient recipient = recipients.get(index);
+                messages.add(toMessage(recipient.getUserName(), recipient.getPhoneNumber(), template));
+            }
+            try {
+                futures.add(kakaoNotificationExecutor.submit(() -> alimTalkSender.sendMany(messages)));
+            } catch (RejectedExecutionException e) {
+                logger.warn("알림톡 전송 대기열이 가득 차 {}건을 보내지 못했습니다. template={}", request.size(), template);
+                futures.add(null);
+            }
+        }
 
-        Message messageTosend = new Message();
-        messageTosend.setFrom(kakaoFrom);
-        messageTosend.setTo(userPhoneNumber);
+        long deadline = System.nanoTime() + bulkTimeoutNanos;
+        for (int i = 0; i < requests.size(); i++) {
+            Future<Set<String>> future = futures.get(i);
+            if (future == null) continue;
+
+            List<Integer> request = requests.get(i);
+            try {
+                Set<String> failedNumbers = new HashSet<>();
+                future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS)
+                        .forEach(phoneNumber -> failedNumbers.add(normalizePhoneNumber(phoneNumber)));
+                for (int index : request) {
+                    delivered[index] = !failedNumbers.contains(normalizePhoneNumber(recipients.get(index).getPhoneNumber()));
+                }
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                logger.warn("알림톡 일괄 전송이 시간 안에 끝나지 않았습니다. template={}, count={}", template, request.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.stream().skip(i).filter(Objects::nonNull).forEach(pending -> pending.cancel(true));
+                break;
+            } catch (ExecutionException e) {
+                logger.warn("알림톡 일괄 전송 실패. template={}, count={}", template, request.size(), e.getCause());
+            }
+        }
+        return new AlimTalkBulkResult(delivered);
+    }
 
-        messageTosend.setKakaoOptions(kakaoOption);
+    // 번호가 n 번째로 나온 받는 사람은 n 번째 묶음에 넣고, 묶음마다 MAX_BATCH_SIZE 건씩 요청을 나눈다
+    private List<List<Integer>> splitRequests(List<AlimTalkRecipient> recipients) {
+        Map<String, Integer> occurrences = new HashMap<>();
+        List<List<Integer>> rounds = new ArrayList<>();
+        for (int index = 0; index < recipients.size(); index++) {
+            int round = occurrences.merge(normalizePhoneNumber(recipients.get(index).getPhoneNumber()), 1, Integer::sum) - 1;
+            if (round == rounds.size()) {
+                rounds.add(new ArrayList<>());
+            }
+            rounds.get(round).add(index);
+        }
 
-        this.messageService.sendOne(
-                new SingleMessageSendingRequest(messageTosend)
-        );
+        List<List<Integer>> requests = new ArrayList<>();
+        for (List<Integer> round : rounds) {
+            for (int from = 0; from < round.size(); from += AlimTalkSender.MAX_BATCH_SIZE) {
+                requests.add(round.subList(from, Math.min(from + AlimTalkSender.MAX_BATCH_SIZE, round.size())));
+            }
+        }
+        return requests;
     }
 
-    private void simulateDelay() {
-        try {
-            Thread.sleep(3000); // 10초 지연
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+    // 하이픈 등을 빼고 숫자만 남긴다, 응답의 번호와 맞춰 볼 때 쓴다
+    private static String normalizePhoneNumber(String phoneNumber) {
+        return phoneNumber == null ? "" : phoneNumber.replaceAll("[^0-9]", "");
     }
 
-    @CircuitBreaker(name = "kakaoNotificationService", fallbackMethod = "fallbackSendOneTalk")
+    @CircuitBreaker(name = "kakaoNotificationService", fallbackMethod = "fallbackSendOneMessage")
     public boolean sendOneMessage(String userName, String userPhoneNumber, String template) {
         try {
             executeNotification(userName, userPhoneNumber, template);
@@ -95,4 +177,24 @@ public class KakaoNotificationService {
         logger.error("Fallback activated: 알림톡 전송 실패. 사용자: {}, 오류: {}", userName, throwable.getMessage());
         return false;
     }
-}
\ No newline at end of file
+
+    private Message toMessage(String userName, String userPhoneNumber, String template) {
+        KakaoOption kakaoOption = new KakaoOption();
+        kakaoOption.setDisableSms(true);
+
+        kakaoOption.setPfId(kakaoPfid);
+        kakaoOption.setTemplateId(template);
+
+        HashMap<String, String> variables = new HashMap<>();
+        variables.put("#{사용자}", userName);
+
+        kakaoOption.setVariables(variables);
+
+        Message messageTosend = new Message();
+        messageTosend.setFrom(kakaoFrom);
+        messageTosend.setTo(userPhoneNumber);
+
+        messageTosend.setKakaoOptions(kakaoOption);
+        return messageTosend;
+    }
+}
@@ -0,0 +1,193 @@
+package ddog.notification.application;
+
+import ddog.domain.notification.NotificationOutbox;
+import ddog.domain.notification.port.NotificationOutboxPersist;
+import ddog.notification.application.dto.AlimTalkBulkResult;
+import ddog.notification.application.dto.AlimTalkRecipient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 아웃박스에서 시도할 때가 된 알림을 batchSize 개씩 꺼내 SSE / 알림톡으로 보내고, 결과를 한 번에 표시한다
+// 꺼낼 때는 짧은 트랜잭션에서 SKIP LOCKED 로 잠그고 nextAttemptAt 을 임대 만료 시각으로 미룬 뒤 바로 커밋한다
+// 보내는 동안에는 DB 커넥션과 잠금을 잡지 않고, 보내다 죽으면 임대가 끝난 뒤 다른 서버가 다시 보낸다
+// 알림톡은 같은 템플릿끼리 묶어 일괄 전송 한 번으로 보내고, 결과는 받는 사람마다 나눠 표시한다
+// 실패한 알림은 retryBase * 2^시도횟수 (최대 retryMax) 뒤에 다시 시도하고, maxAttempts 번째도 실패하면 dead 로 표시해 더 꺼내지 않는다
+// 지표: notification.outbox.dispatched, notification.outbox.failed, notification.outbox.dead (0 보다 커지면 알람, 로그는 ERROR)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notify.outbox.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationOutboxDispatcher {
+
+    private final NotificationOutboxPersist notificationOutboxPersist;
+    private final NotificationService notificationService;
+    private final KakaoNotificationService kakaoNotificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter dispatched;
+    private final Counter failed;
+    private final Counter dead;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long pollIntervalMillis;
+    private final Duration lease;
+    private final long retryBaseMillis;
+    private final long retryMaxMillis;
+
+    private ScheduledExecutorService poller;
+
+    public NotificationOutboxDispatcher(NotificationOutboxPersist notificationOutboxPersist,
+                                        NotificationService notificationService,
+                                        KakaoNotificationService kakaoNotificationService,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${notify.outbox.batch-size:100}") int batchSize,
+                                        @Value("${notify.outbox.max-attempts:5}") int maxAttempts,
+                                        @Value("${notify.outbox.poll-interval-ms:1000}") long pollIntervalMillis,
+                                        @Value("${notify.outbox.lease-ms:60000}") long leaseMillis,
+                                        @Value("${notify.outbox.retry-base-ms:1000}") long retryBaseMillis,
+                                        @Value("${notify.outbox.retry-max-ms:600000}") long retryMaxMillis) {
+        this.notificationOutboxPersist = notificationOutboxPersist;
+        this.notificationService = notificationService;
+        this.kakaoNotificationService = kakaoNotificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dispatched = Counter.builder("notification.outbox.dispatched").register(meterRegistry);
+        this.failed = Counter.builder("notification.outbox.failed").register(meterRegistry);
+        this.dead = Counter.builder("notification.outbox.dead").register(meterRegistry);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.retryBaseMillis = retryBaseMillis;
+        this.retryMaxMillis = retryMaxMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-outbox-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::drain, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdown();
+    }
+
+    // 꽉 찬 배치를 꺼냈으면 밀린 알림이 더 있으므로 기다리지 않고 바로 다음 배치를 꺼낸다
+    private void drain() {
+        try {
+            int claimed;
+            do {
+                claimed = dispatchBatch();
+            } while (claimed == batchSize && !poller.isShutdown());
+        } catch (RuntimeException e) {
+            log.warn("알림 아웃박스 처리 중 오류", e);
+        }
+    }
+
+    // 한 배치를 꺼내 보내고 꺼낸 건수를 돌려준다
+    public int dispatchBatch() {
+        List<NotificationOutbox> batch = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            return notificationOutboxPersist.claimPending(batchSize, now, now.plus(lease));
+        });
+        if (batch == null || batch.isEmpty()) return 0;
+
+        List<Long> succeeded = new ArrayList<>(batch.size());
+        List<NotificationOutbox> failedOutboxes = new ArrayList<>();
+        Map<String, List<NotificationOutbox>> alimTalks = new LinkedHashMap<>();
+
+        for (NotificationOutbox outbox : batch) {
+            if (outbox.hasSseMessage() && !sendSse(outbox)) {
+                failedOutboxes.add(outbox);
+            } else if (outbox.hasAlimTalk()) {
+                alimTalks.computeIfAbsent(outbox.getTemplateId(), templateId -> new ArrayList<>()).add(outbox);
+            } else {
+                succeeded.add(outbox.getId());
+            }
+        }
+
+        alimTalks.forEach((templateId, outboxes) -> {
+            AlimTalkBulkResult result = sendAlimTalks(templateId, outboxes);
+            for (int i = 0; i < outboxes.size(); i++) {
+                if (result.isDelivered(i)) {
+                    succeeded.add(outboxes.get(i).getId());
+                } else {
+                    failedOutboxes.add(outboxes.get(i));
+                }
+            }
+        });
+
+        // 다시 시도할 시각은 지금까지의 시도 횟수로 정해지므로 횟수별로 묶어 표시한다
+        Map<Integer, List<Long>> failedByAttempts = new TreeMap<>();
+        List<Long> deadIds = new ArrayList<>();
+        for (NotificationOutbox outbox : failedOutboxes) {
+            if (outbox.getAttempts() + 1 >= maxAttempts) {
+                deadIds.add(outbox.getId());
+                log.error("알림 아웃박스 전송을 {}번 실패해 포기합니다. outboxId={}, userId={}, templateId={}",
+                        maxAttempts, outbox.getId(), outbox.getUserId(), outbox.getTemplateId());
+            } else {
+                failedByAttempts.computeIfAbsent(outbox.getAttempts(), attempts -> new ArrayList<>()).add(outbox.getId());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            notificationOutboxPersist.markDispatched(succeeded);
+            failedByAttempts.forEach((attempts, ids) -> notificationOutboxPersist.markFailed(ids, now.plus(retryDelay(attempts))));
+            notificationOutboxPersist.markDead(deadIds);
+        });
+        dispatched.increment(succeeded.size());
+        failed.increment(failedOutboxes.size());
+        dead.increment(deadIds.size());
+        return batch.size();
+    }
+
+    private Duration retryDelay(int attempts) {
+        long delay = retryBaseMillis << Math.min(attempts, 30);
+        return Duration.ofMillis(delay <= 0 ? retryMaxMillis : Math.min(delay, retryMaxMillis));
+    }
+
+    // 접속하지 않은 사용자의 알림은 NotificationService 가 저장한다
+    private boolean sendSse(NotificationOutbox outbox) {
+        try {
+            notificationService.sendNotificationToUser(outbox.getUserId(), outbox.getNotifyType(), outbox.getMessage());
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("SSE 알림 전송 실패. outboxId={}", outbox.getId(), e);
+            return false;
+        }
+    }
+
+    private AlimTalkBulkResult sendAlimTalks(String templateId, List<NotificationOutbox> outboxes) {
+        List<AlimTalkRecipient> recipients = new ArrayList<>(outboxes.size());
+        for (NotificationOutbox outbox : outboxes) {
+            recipients.add(new AlimTalkRecipient(outbox.getReceiverName(), outbox.getReceiverPhone()));
+        }
+
+        try {
+            return kakaoNotificationService.sendBulkTalk(recipients, templateId);
+        } catch (RuntimeException e) {
+            log.warn("알림톡 일괄 전송 실패. templateId={}, count={}", templateId, outboxes.size(), e);
+            return AlimTalkBulkResult.allFailed(recipients);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package ddog.notification.application;
+
+import ddog.domain.notification.NotificationOutbox;
+import ddog.domain.notification.enums.NotifyType;
+import ddog.domain.notification.port.NotificationOutboxPersist;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 업무 트랜잭션 안에서 보낼 알림을 남긴다, 롤백되면 알림도 남지 않고 커밋되면 NotificationOutboxDispatcher 가 보낸다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private final NotificationOutboxPersist notificationOutboxPersist;
+    private final Environment environment;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Long userId, NotifyType notifyType, String message) {
+        notificationOutboxPersist.save(NotificationOutbox.builder()
+                .userId(userId)
+                .notifyType(notifyType)
+                .message(message)
+                .build());
+    }
+
+    // 템플릿은 templateId.{알림 종류} 설정에서 찾는다
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAlimTalk(Long userId, NotifyType notifyType, String receiverName, String receiverPhone) {
+        String templateId = environment.getProperty("templateId." + notifyType.name());
+        if (templateId == null) {
+            log.warn("알림톡 템플릿이 설정되지 않아 보내지 않습니다. notifyType={}", notifyType);
+            return;
+        }
+
+        notificationOutboxPersist.save(NotificationOutbox.builder()
+                .userId(userId)
+                .notifyType(notifyType)
+                .templateId(templateId)
+                .receiverName(receiverName)
+                .receiverPhone(receiverPhone)
+                .build());
+    }
+}
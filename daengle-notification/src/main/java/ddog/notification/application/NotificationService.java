@@ -1,19 +1,20 @@
 package ddog.notification.application;
 
 import ddog.domain.notification.Notification;
+import ddog.domain.notification.NotificationPage;
 import ddog.domain.notification.enums.NotifyType;
 
 import ddog.domain.notification.port.NotificationPersist;
-import ddog.domain.user.port.UserPersist;
+import ddog.notification.application.dto.NotificationPageResp;
 import ddog.notification.application.dto.NotificationResp;
 import ddog.notification.application.exception.NotificationException;
 import ddog.notification.application.exception.NotificationExceptionType;
 import ddog.notification.application.port.ClientConnect;
+import ddog.notification.application.port.UnreadNotificationCounter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -21,37 +22,34 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_CHECK_SIZE = 1000;
+
     private final ClientConnect clientConnect;
     private final NotificationPersist notificationPersist;
-    private final UserPersist userPersist;
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
-    public SseEmitter connectClient(Long userId) {
-        return clientConnect.toConnectClient(userId);
+    public SseEmitter connectClient(Long userId, String lastEventId) {
+        return clientConnect.toConnectClient(userId, lastEventId);
     }
 
+    // 어느 서버에도 연결이 없으면 접속하지 않은 사용자의 알림으로 저장한다
     public void sendNotificationToUser(Long receiverId, NotifyType notifyType, String message) {
-        try {
-            if (clientConnect.isUserConnected(receiverId)) {
-                clientConnect.sendNotificationToUser(receiverId, message);
-            } else {
-                Notification notification = Notification.builder()
-                        .userId(receiverId)
-                        .message(message)
-                        .notifyType(notifyType)
-                        .build();
-
-                notificationPersist.saveNotificationWithLogoutUser(notification);
-            }
-        } catch (IOException e) {
-            throw new NotificationException(NotificationExceptionType.ALERT_CAN_NOT);
+        if (!clientConnect.sendNotificationToUser(receiverId, message)) {
+            Notification notification = Notification.builder()
+                    .userId(receiverId)
+                    .message(message)
+                    .notifyType(notifyType)
+                    .build();
+
+            notificationPersist.saveNotificationWithLogoutUser(notification);
+            unreadNotificationCounter.increase(receiverId);
         }
     }
 
+    // 저장된 알림 전체, 예전 응답 모양을 쓰는 클라이언트를 위해 남겨 둔다 (새 화면은 findNotificationsBy 로 나눠 읽는다)
     public List<NotificationResp> findAllNotificationsBy(Long userId) {
-        userPersist.findByAccountId(userId)
-                .orElseThrow(() -> new NotificationException(NotificationExceptionType.USER_NOT_FOUND));
-
-        return Optional.ofNullable(notificationPersist.findNotificationsByUserId(userId))
+        return Optional.ofNullable(notificationPersist.findAllNotificationsByUserId(userId))
                 .filter(notifications -> !notifications.isEmpty())
                 .orElseThrow(() -> new NotificationException(NotificationExceptionType.NOTIFICATION_NOT_FOUND))
                 .stream()
@@ -62,14 +60,56 @@ public class NotificationService {
                 .collect(Collectors.toList());
     }
 
-    public Map<String, Object> checkNotificationById(Long notificationId) {
-        notificationPersist.findNotificationById(notificationId)
-                .orElseThrow(() -> new NotificationException(NotificationExceptionType.NOTIFICATION_NOT_FOUND));
+    public NotificationPageResp findNotificationsBy(Long userId, Long cursor, int size) {
+        NotificationPage page = notificationPersist.findNotificationsByUserId(userId, cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+
+        return NotificationPageResp.builder()
+                .notifications(page.getNotifications().stream()
+                        .map(notification -> NotificationResp.builder()
+                                .id(notification.getId())
+                                .message(notification.getMessage())
+                                .build())
+                        .collect(Collectors.toList()))
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
+
+    public Map<String, Object> countUnreadNotifications(Long userId) {
+        Long unreadCount = unreadNotificationCounter.find(userId);
+        if (unreadCount == null) {
+            unreadCount = notificationPersist.countNotificationsByUserId(userId);
+            unreadNotificationCounter.init(userId, unreadCount);
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("unreadCount", unreadCount);
+        return response;
+    }
 
-        notificationPersist.deleteNotificationById(notificationId);
+    public Map<String, Object> checkNotificationById(Long userId, Long notificationId) {
+        if (acknowledge(userId, List.of(notificationId)) == 0) {
+            throw new NotificationException(NotificationExceptionType.NOTIFICATION_NOT_FOUND);
+        }
 
         Map<String, Object> response = new HashMap<>();
         response.put("delete", true);
         return response;
     }
-}
\ No newline at end of file
+
+    // 이미 확인했거나 다른 사용자의 알림은 건너뛰고 지운 개수를 돌려준다
+    public Map<String, Object> checkNotifications(Long userId, List<Long> notificationIds) {
+        if (notificationIds == null || notificationIds.isEmpty() || notificationIds.size() > MAX_CHECK_SIZE) {
+            throw new NotificationException(NotificationExceptionType.NOTIFICATION_CAN_NOT_DELETE);
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("deleted", acknowledge(userId, notificationIds));
+        return response;
+    }
+
+    private int acknowledge(Long userId, List<Long> notificationIds) {
+        int deleted = notificationPersist.deleteNotificationsByIds(userId, notificationIds);
+        unreadNotificationCounter.decrease(userId, deleted);
+        return deleted;
+    }
+}
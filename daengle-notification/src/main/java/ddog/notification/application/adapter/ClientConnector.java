@@ -1,49 +1,94 @@
 package ddog.notification.application.adapter;
 
+import ddog.domain.id.SnowflakeIdGenerator;
+import ddog.notification.application.dto.NotificationEvent;
 import ddog.notification.application.port.ClientConnect;
+import ddog.notification.application.port.NodeIdLease;
+import ddog.notification.application.port.NotificationReplay;
+import ddog.notification.application.port.NotificationRoute;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.util.concurrent.ConcurrentHashMap;
 
+// 연결은 이 서버의 SseEmitterRegistry 에 두고, 어느 서버에 붙어 있는지는 NotificationRoute 로 공유한다
+// 대기 중인 SSE 연결은 스레드를 잡지 않으므로 서버당 수만 개를 들고 있을 수 있다 (톰캣 max-connections 는 배포 설정에서 맞춘다)
+// 알림마다 시간순 id 를 붙여 보내고 NotificationReplay 에 남겨, 다시 연결하며 Last-Event-ID 를 보내면 놓친 알림부터 보낸다
+@Slf4j
 @Component
 public class ClientConnector implements ClientConnect {
 
-    private final ConcurrentHashMap<Long, SseEmitter> ssemitters = new ConcurrentHashMap<>();
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final NotificationRoute notificationRoute;
+    private final NotificationReplay notificationReplay;
+    private final long emitterTimeoutMillis;
+    // 다른 모듈의 id 생성기 빈과 섞이지 않도록 직접 만든다, 노드 번호는 NodeIdLease 가 서버마다 겹치지 않게 준다
+    private final SnowflakeIdGenerator eventIdGenerator;
 
-    public SseEmitter toConnectClient(Long userId) {
-        SseEmitter emitter = new SseEmitter(36000000L);
-        ssemitters.put(userId, emitter);
+    public ClientConnector(SseEmitterRegistry sseEmitterRegistry, NotificationRoute notificationRoute,
+                           NotificationReplay notificationReplay, NodeIdLease nodeIdLease,
+                           @Value("${notify.sse.timeout-ms:1800000}") long emitterTimeoutMillis) {
+        this.sseEmitterRegistry = sseEmitterRegistry;
+        this.notificationRoute = notificationRoute;
+        this.notificationReplay = notificationReplay;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.eventIdGenerator = new SnowflakeIdGenerator(nodeIdLease.nodeId());
+        // 보내기 실패로 쫓아낸 연결도 마지막이었다면 접속 정보에서 바로 뺀다
+        sseEmitterRegistry.setLastEmitterRemovedListener(notificationRoute::disconnected);
+    }
 
-        try {
-            emitter.send("SSE 연결 완료");
-        } catch (IOException e) {
-            e.printStackTrace();
+    // 시간이 지나면 연결을 닫는다, 클라이언트(EventSource)가 Last-Event-ID 를 실어 스스로 다시 연결한다
+    public SseEmitter toConnectClient(Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        if (sseEmitterRegistry.add(userId, emitter)) {
+            notificationRoute.connected(userId);
         }
 
-        emitter.onTimeout(() -> {
-            System.out.println("타임아웃 발생, 자동 재연결");
-            ssemitters.remove(userId);
-            toConnectClient(userId); 
-        });
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> sseEmitterRegistry.remove(userId, emitter));
+        emitter.onCompletion(() -> sseEmitterRegistry.remove(userId, emitter));
 
-        emitter.onCompletion(() -> {
-            ssemitters.remove(userId);
-        });
+        try {
+            emitter.send("SSE 연결 완료");
+            // 놓친 알림보다 먼저 등록하므로 그 사이 온 알림이 두 번 오거나 순서가 바뀔 수는 있어도 빠지지는 않는다
+            replayMissed(userId, lastEventId, emitter);
+        } catch (IOException | IllegalStateException e) {
+            sseEmitterRegistry.remove(userId, emitter);
+            emitter.completeWithError(e);
+        }
 
         return emitter;
     }
 
-    public void sendNotificationToUser(Long receiverId, String message) throws IOException {
-        if (isUserConnected(receiverId))  {
-            SseEmitter emitter = ssemitters.get(receiverId);
-            emitter.send(message);
-        }
+    // 접속 여부와 관계없이 남겨 두고, 이 서버의 연결로 먼저 보낸 뒤 다른 서버에 붙은 기기로도 넘긴다
+    public boolean sendNotificationToUser(Long receiverId, String message) {
+        NotificationEvent event = new NotificationEvent(eventIdGenerator.nextId(), message);
+        notificationReplay.append(receiverId, event);
+
+        boolean deliveredLocally = sseEmitterRegistry.send(receiverId, String.valueOf(event.getId()), message);
+        boolean routed = notificationRoute.routeToOtherNodes(receiverId, event);
+        return deliveredLocally || routed;
     }
 
     public boolean isUserConnected(Long userId) {
-        return ssemitters.containsKey(userId);
+        return sseEmitterRegistry.contains(userId) || notificationRoute.isConnectedElsewhere(userId);
     }
 
+    private void replayMissed(Long userId, String lastEventId, SseEmitter emitter) throws IOException {
+        if (lastEventId == null || lastEventId.isBlank()) return;
+
+        long lastId;
+        try {
+            lastId = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            log.debug("알 수 없는 Last-Event-ID 를 무시합니다. userId={}, lastEventId={}", userId, lastEventId);
+            return;
+        }
+
+        for (NotificationEvent event : notificationReplay.findAfter(userId, lastId)) {
+            emitter.send(SseEmitter.event().id(String.valueOf(event.getId())).data(event.getMessage()));
+        }
+    }
 }
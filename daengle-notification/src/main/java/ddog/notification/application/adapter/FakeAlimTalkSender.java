@@ -0,0 +1,61 @@
+package ddog.notification.application.adapter;
+
+import ddog.notification.application.port.AlimTalkSender;
+import lombok.extern.slf4j.Slf4j;
+import net.nurigo.sdk.message.model.Message;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 부하 테스트용 (kakao.sender=fake), 실제로 보내지 않고 요청마다 kakao.fake.latency-ms 만큼 기다린 뒤 건수만 센다
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kakao.sender", havingValue = "fake")
+public class FakeAlimTalkSender implements AlimTalkSender {
+
+    private final long latencyMillis;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong messages = new AtomicLong();
+
+    public FakeAlimTalkSender(@Value("${kakao.fake.latency-ms:0}") long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+        log.warn("가짜 알림톡 발송을 사용합니다. 알림톡이 실제로 전송되지 않습니다.");
+    }
+
+    @Override
+    public void sendOne(Message message) {
+        send(1);
+    }
+
+    @Override
+    public Set<String> sendMany(List<Message> messages) {
+        send(messages.size());
+        return Collections.emptySet();
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public long getMessageCount() {
+        return messages.get();
+    }
+
+    private void send(int count) {
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("알림톡 전송이 중단되었습니다.", e);
+            }
+        }
+        requests.incrementAndGet();
+        messages.addAndGet(count);
+    }
+}
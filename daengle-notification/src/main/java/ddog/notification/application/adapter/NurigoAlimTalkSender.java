@@ -0,0 +1,66 @@
+package ddog.notification.application.adapter;
+
+import ddog.notification.application.port.AlimTalkSender;
+import lombok.extern.slf4j.Slf4j;
+import net.nurigo.sdk.NurigoApp;
+import net.nurigo.sdk.message.exception.NurigoMessageNotReceivedException;
+import net.nurigo.sdk.message.model.FailedMessage;
+import net.nurigo.sdk.message.model.Message;
+import net.nurigo.sdk.message.request.SingleMessageSendingRequest;
+import net.nurigo.sdk.message.service.DefaultMessageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kakao.sender", havingValue = "nurigo", matchIfMissing = true)
+public class NurigoAlimTalkSender implements AlimTalkSender {
+
+    private final DefaultMessageService messageService;
+
+    public NurigoAlimTalkSender(@Value("${kakao.apiKey}") String kakaoApiKey,
+                                @Value("${kakao.apiSecretKey}") String kakaoApiSecretKey,
+                                @Value("${kakao.domain}") String kakaoDomain) {
+        this.messageService = NurigoApp.INSTANCE.initialize(kakaoApiKey, kakaoApiSecretKey, kakaoDomain);
+    }
+
+    @Override
+    public void sendOne(Message message) {
+        messageService.sendOne(new SingleMessageSendingRequest(message));
+    }
+
+    // 여러 건을 요청 한 번으로 보낸다 (중복 수신자 허용 안 함, 응답에 메시지 목록 생략)
+    // SDK 는 모두 실패했을 때만 예외를 던지므로 일부 실패는 응답의 실패 목록에서 읽는다
+    @Override
+    public Set<String> sendMany(List<Message> messages) {
+        try {
+            return recipientsOf(messageService.send(messages, false, false).getFailedMessageList());
+        } catch (NurigoMessageNotReceivedException e) {
+            return recipientsOf(e.getFailedMessageList());
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("알림톡 일괄 전송 실패", e);
+        }
+    }
+
+    private Set<String> recipientsOf(List<FailedMessage> failedMessages) {
+        if (failedMessages == null || failedMessages.isEmpty()) return Collections.emptySet();
+
+        Set<String> recipients = new HashSet<>();
+        for (FailedMessage failedMessage : failedMessages) {
+            log.warn("알림톡 전송 실패. to={}, statusCode={}, statusMessage={}",
+                    failedMessage.getTo(), failedMessage.getStatusCode(), failedMessage.getStatusMessage());
+            if (failedMessage.getTo() != null) {
+                recipients.add(failedMessage.getTo());
+            }
+        }
+        return recipients;
+    }
+}
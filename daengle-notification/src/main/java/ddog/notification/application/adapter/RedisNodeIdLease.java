@@ -0,0 +1,120 @@
+package ddog.notification.application.adapter;
+
+import ddog.domain.id.SnowflakeIdGenerator;
+import ddog.notification.application.port.NodeIdLease;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// notify.event-node-id 를 주면 그대로 쓰고, 없으면 Redis 에서 빈 번호를 빌린다
+// "sse:event-node:seq" 를 INCR 해 후보를 고르고 "sse:event-node:{번호}" 를 SET NX PX 로 잡는다, 잡은 키는 ttl/3 마다 늘린다
+// 서버가 죽으면 ttl 이 지나 번호가 풀린다
+@Slf4j
+@Component
+public class RedisNodeIdLease implements NodeIdLease {
+
+    private static final String SEQUENCE_KEY = "sse:event-node:seq";
+    private static final String LEASE_PREFIX = "sse:event-node:";
+
+    // 내 값이면 늘리고, 만료되어 키가 없으면 다시 잡는다, 다른 서버가 가져갔으면 0
+    private static final DefaultRedisScript<Long> RENEW = new DefaultRedisScript<>(
+            "local owner = redis.call('GET', KEYS[1]) " +
+            "if owner == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "if not owner then redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) return 1 end " +
+            "return 0", Long.class);
+
+    // 내 값일 때만 지운다
+    private static final DefaultRedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final int configuredNodeId;
+    private final long leaseTtlMillis;
+    private final String owner = UUID.randomUUID().toString();
+
+    private int nodeId = -1;
+    private ScheduledExecutorService renewal;
+
+    public RedisNodeIdLease(StringRedisTemplate redisTemplate,
+                            @Value("${notify.event-node-id:-1}") int configuredNodeId,
+                            @Value("${notify.event-node-lease-ttl-ms:60000}") long leaseTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.configuredNodeId = configuredNodeId;
+        this.leaseTtlMillis = leaseTtlMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (configuredNodeId >= 0) {
+            nodeId = configuredNodeId;
+            return;
+        }
+
+        nodeId = acquire();
+        renewal = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-event-node-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(leaseTtlMillis / 3, 1);
+        renewal.scheduleWithFixedDelay(this::renew, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (renewal == null) return;
+
+        renewal.shutdownNow();
+        try {
+            redisTemplate.execute(RELEASE, List.of(leaseKey(nodeId)), owner);
+        } catch (RuntimeException e) {
+            log.warn("알림 노드 번호 반납 실패, ttl 이 지나면 풀립니다. nodeId={}", nodeId, e);
+        }
+    }
+
+    @Override
+    public int nodeId() {
+        return nodeId;
+    }
+
+    // 번호를 한 바퀴 돌아도 빈 번호가 없으면 시작하지 않는다
+    private int acquire() {
+        for (int attempt = 0; attempt <= SnowflakeIdGenerator.MAX_NODE_ID; attempt++) {
+            Long sequence = redisTemplate.opsForValue().increment(SEQUENCE_KEY);
+            int candidate = (int) Math.floorMod(sequence, (long) SnowflakeIdGenerator.MAX_NODE_ID + 1);
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey(candidate), owner, Duration.ofMillis(leaseTtlMillis)))) {
+                log.info("알림 노드 번호를 빌렸습니다. nodeId={}", candidate);
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("빌릴 수 있는 알림 노드 번호가 없습니다.");
+    }
+
+    private void renew() {
+        try {
+            Long renewed = redisTemplate.execute(RENEW, List.of(leaseKey(nodeId)), owner, String.valueOf(leaseTtlMillis));
+            if (renewed == null || renewed == 0) {
+                log.error("알림 노드 번호를 다른 서버가 가져갔습니다, 알림 id 가 겹칠 수 있습니다. nodeId={}", nodeId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("알림 노드 번호 갱신 실패. nodeId={}", nodeId, e);
+        }
+    }
+
+    private String leaseKey(int nodeId) {
+        return LEASE_PREFIX + nodeId;
+    }
+}
@@ -0,0 +1,64 @@
+package ddog.notification.application.adapter;
+
+import ddog.notification.application.dto.NotificationEvent;
+import ddog.notification.application.port.NotificationReplay;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+// 사용자마다 "sse:events:{userId}" 리스트에 최근 알림 replaySize 개를 "{id}\n{알림}" 으로 앞에서부터 쌓는다 (링 버퍼)
+// 다른 서버로 다시 연결해도 받을 수 있도록 서버 메모리가 아닌 Redis 에 두고, 잠시 끊긴 동안만 필요하므로 TTL 을 둔다
+@Component
+public class RedisNotificationReplay implements NotificationReplay {
+
+    private static final String EVENTS_PREFIX = "sse:events:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final int replaySize;
+    private final long replayTtlMillis;
+
+    public RedisNotificationReplay(StringRedisTemplate redisTemplate,
+                                   @Value("${notify.sse.replay-size:50}") int replaySize,
+                                   @Value("${notify.sse.replay-ttl-ms:600000}") long replayTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.replaySize = replaySize;
+        this.replayTtlMillis = replayTtlMillis;
+    }
+
+    @Override
+    public void append(Long userId, NotificationEvent event) {
+        String key = EVENTS_PREFIX + userId;
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.lPush(key, event.getId() + "\n" + event.getMessage());
+            stringConnection.lTrim(key, 0, replaySize - 1);
+            stringConnection.pExpire(key, replayTtlMillis);
+            return null;
+        });
+    }
+
+    @Override
+    public List<NotificationEvent> findAfter(Long userId, long lastEventId) {
+        List<String> entries = redisTemplate.opsForList().range(EVENTS_PREFIX + userId, 0, -1);
+        if (entries == null || entries.isEmpty()) return Collections.emptyList();
+
+        // 여러 서버가 동시에 쌓으면 넣은 순서와 id 순서가 조금 어긋날 수 있어 모두 보고 id 로 정렬한다
+        List<NotificationEvent> events = new ArrayList<>();
+        for (String entry : entries) {
+            int separator = entry.indexOf('\n');
+            long id = Long.parseLong(entry.substring(0, separator));
+            if (id > lastEventId) {
+                events.add(new NotificationEvent(id, entry.substring(separator + 1)));
+            }
+        }
+        events.sort(Comparator.comparingLong(NotificationEvent::getId));
+        return events;
+    }
+}
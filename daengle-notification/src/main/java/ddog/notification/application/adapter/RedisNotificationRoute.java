@@ -0,0 +1,177 @@
+package ddog.notification.application.adapter;
+
+import ddog.notification.application.dto.NotificationEvent;
+import ddog.notification.application.port.NotificationRoute;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 사용자마다 "sse:presence:{userId}" 정렬 집합에 연결을 가진 서버(노드 ID)를 만료 시각 점수로 둔다
+// 각 서버는 ttl/3 마다 자기 사용자들의 만료 시각을 파이프라인으로 늘리고, 죽은 서버는 ttl 이 지나면 저절로 빠진다
+// 다른 서버의 사용자에게 보낼 알림은 그 서버만 구독하는 "sse:node:{nodeId}" 채널로 넘긴다
+@Slf4j
+@Component
+public class RedisNotificationRoute implements NotificationRoute, MessageListener {
+
+    private static final String PRESENCE_PREFIX = "sse:presence:";
+    private static final String NODE_CHANNEL_PREFIX = "sse:node:";
+    private static final int HEARTBEAT_CHUNK_SIZE = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final long presenceTtlMillis;
+    private final String nodeId;
+
+    // 다른 모듈의 리스너 컨테이너와 섞이지 않도록 빈으로 두지 않고 직접 만든다
+    private RedisMessageListenerContainer listenerContainer;
+    private ScheduledExecutorService heartbeat;
+
+    public RedisNotificationRoute(StringRedisTemplate redisTemplate,
+                                  RedisConnectionFactory redisConnectionFactory,
+                                  SseEmitterRegistry sseEmitterRegistry,
+                                  @Value("${notify.presence-ttl-ms:30000}") long presenceTtlMillis,
+                                  @Value("${notify.node-id:#{T(java.util.UUID).randomUUID().toString()}}") String nodeId) {
+        this.redisTemplate = redisTemplate;
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.sseEmitterRegistry = sseEmitterRegistry;
+        this.presenceTtlMillis = presenceTtlMillis;
+        this.nodeId = nodeId;
+    }
+
+    @PostConstruct
+    public void start() {
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisConnectionFactory);
+        listenerContainer.addMessageListener(this, new ChannelTopic(NODE_CHANNEL_PREFIX + nodeId));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-presence-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(presenceTtlMillis / 3, 1);
+        heartbeat.scheduleWithFixedDelay(this::refreshPresence, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    // 다른 서버가 바로 알 수 있도록 이 서버의 사용자를 지우고 끝낸다
+    @PreDestroy
+    public void shutdown() throws Exception {
+        heartbeat.shutdownNow();
+        try {
+            List<Long> userIds = new ArrayList<>(sseEmitterRegistry.connectedUserIds());
+            for (int from = 0; from < userIds.size(); from += HEARTBEAT_CHUNK_SIZE) {
+                List<Long> chunk = userIds.subList(from, Math.min(from + HEARTBEAT_CHUNK_SIZE, userIds.size()));
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                    chunk.forEach(userId -> stringConnection.zRem(presenceKey(userId), nodeId));
+                    return null;
+                });
+            }
+        } finally {
+            listenerContainer.destroy();
+        }
+    }
+
+    @Override
+    public void connected(Long userId) {
+        String key = presenceKey(userId);
+        redisTemplate.opsForZSet().add(key, nodeId, System.currentTimeMillis() + presenceTtlMillis);
+        redisTemplate.expire(key, Duration.ofMillis(presenceTtlMillis));
+    }
+
+    @Override
+    public void disconnected(Long userId) {
+        redisTemplate.opsForZSet().remove(presenceKey(userId), nodeId);
+    }
+
+    @Override
+    public boolean isConnectedElsewhere(Long userId) {
+        return !otherNodes(userId).isEmpty();
+    }
+
+    // PUBLISH 가 돌려준 구독자 수로 판단한다, 접속 정보가 남아 있어도 그 서버가 죽어 구독자가 0 이면 false 를 돌려
+    // NotificationService 가 알림을 저장하게 한다
+    @Override
+    public boolean routeToOtherNodes(Long userId, NotificationEvent event) {
+        long receivers = 0;
+        for (String node : otherNodes(userId)) {
+            Long count = redisTemplate.convertAndSend(NODE_CHANNEL_PREFIX + node, userId + "\n" + event.getId() + "\n" + event.getMessage());
+            if (count != null) {
+                receivers += count;
+            }
+        }
+        return receivers > 0;
+    }
+
+    // 본문은 "{userId}\n{알림 id}\n{알림}", 알림 안의 줄바꿈은 그대로 둔다
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int userSeparator = body.indexOf('\n');
+        int idSeparator = userSeparator < 0 ? -1 : body.indexOf('\n', userSeparator + 1);
+        if (idSeparator < 0) return;
+
+        Long userId = Long.valueOf(body.substring(0, userSeparator));
+        String eventId = body.substring(userSeparator + 1, idSeparator);
+        if (!sseEmitterRegistry.send(userId, eventId, body.substring(idSeparator + 1))) {
+            log.debug("라우팅된 알림을 받을 연결이 없습니다. userId={}", userId);
+        }
+    }
+
+    private Set<String> otherNodes(Long userId) {
+        Set<String> nodes = redisTemplate.opsForZSet()
+                .rangeByScore(presenceKey(userId), System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        if (nodes == null || nodes.isEmpty()) return Collections.emptySet();
+
+        Set<String> others = new HashSet<>(nodes);
+        others.remove(nodeId);
+        return others;
+    }
+
+    private void refreshPresence() {
+        try {
+            long expiresAt = System.currentTimeMillis() + presenceTtlMillis;
+            List<Long> userIds = new ArrayList<>(sseEmitterRegistry.connectedUserIds());
+            for (int from = 0; from < userIds.size(); from += HEARTBEAT_CHUNK_SIZE) {
+                List<Long> chunk = userIds.subList(from, Math.min(from + HEARTBEAT_CHUNK_SIZE, userIds.size()));
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                    for (Long userId : chunk) {
+                        String key = presenceKey(userId);
+                        // 이 서버가 빠진 뒤 남은 만료된 노드도 함께 정리한다
+                        stringConnection.zRemRangeByScore(key, 0, System.currentTimeMillis());
+                        stringConnection.zAdd(key, expiresAt, nodeId);
+                        stringConnection.pExpire(key, presenceTtlMillis);
+                    }
+                    return null;
+                });
+            }
+        } catch (RuntimeException e) {
+            log.warn("SSE 접속 정보 갱신 실패", e);
+        }
+    }
+
+    private String presenceKey(Long userId) {
+        return PRESENCE_PREFIX + userId;
+    }
+}
@@ -0,0 +1,61 @@
+package ddog.notification.application.adapter;
+
+import ddog.notification.application.port.UnreadNotificationCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+// "notify:unread:{userId}" 에 개수를 두고 저장/확인할 때 함께 바꾼다
+// 키가 없을 때 올리거나 내리면 틀린 값에서 시작하므로 있을 때만 바꾸고, 어긋나더라도 TTL 이 지나면 DB 에서 다시 센다
+@Component
+public class RedisUnreadNotificationCounter implements UnreadNotificationCounter {
+
+    private static final String UNREAD_PREFIX = "notify:unread:";
+
+    // 키가 있을 때만 더하고 0 밑으로는 내리지 않는다
+    private static final DefaultRedisScript<Long> ADD_IF_PRESENT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end " +
+            "local count = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "if count < 0 then redis.call('SET', KEYS[1], 0, 'KEEPTTL') return 0 end " +
+            "return count", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisUnreadNotificationCounter(StringRedisTemplate redisTemplate,
+                                          @Value("${notify.unread.ttl-ms:3600000}") long ttlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMillis(ttlMillis);
+    }
+
+    @Override
+    public Long find(Long userId) {
+        String count = redisTemplate.opsForValue().get(unreadKey(userId));
+        return count == null ? null : Long.valueOf(count);
+    }
+
+    // 그 사이 다른 요청이 채웠으면 덮어쓰지 않는다
+    @Override
+    public void init(Long userId, long count) {
+        redisTemplate.opsForValue().setIfAbsent(unreadKey(userId), String.valueOf(count), ttl);
+    }
+
+    @Override
+    public void increase(Long userId) {
+        redisTemplate.execute(ADD_IF_PRESENT, List.of(unreadKey(userId)), "1");
+    }
+
+    @Override
+    public void decrease(Long userId, long count) {
+        if (count <= 0) return;
+        redisTemplate.execute(ADD_IF_PRESENT, List.of(unreadKey(userId)), String.valueOf(-count));
+    }
+
+    private String unreadKey(Long userId) {
+        return UNREAD_PREFIX + userId;
+    }
+}
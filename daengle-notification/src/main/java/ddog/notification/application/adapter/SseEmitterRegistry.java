@@ -0,0 +1,147 @@
+package ddog.notification.application.adapter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// 이 서버에 붙은 SSE 연결, 사용자마다 여러 기기(휴대폰, 태블릿)가 동시에 붙을 수 있다
+// 스케줄러 하나가 모든 연결에 주기적으로 heartbeat 주석을 보내, 끊긴 TCP 연결도 쓰기 실패로 찾아내 뺀다
+// 지표: sse.emitters.live (지금 연결 수), sse.emitters.evicted (보내기에 실패해 뺀 연결 수, 비율은 rate 로 본다)
+@Slf4j
+@Component
+public class SseEmitterRegistry {
+
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger liveEmitters = new AtomicInteger();
+    private final Counter evictions;
+    private final long heartbeatIntervalMillis;
+    private ScheduledExecutorService heartbeat;
+    // 사용자의 마지막 연결이 빠질 때 (접속 정보 정리용)
+    private volatile Consumer<Long> lastEmitterRemovedListener = userId -> { };
+
+    public SseEmitterRegistry(MeterRegistry meterRegistry,
+                              @Value("${notify.sse.heartbeat-ms:15000}") long heartbeatIntervalMillis) {
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.evictions = Counter.builder("sse.emitters.evicted").register(meterRegistry);
+        Gauge.builder("sse.emitters.live", liveEmitters, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatIntervalMillis, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (heartbeat != null) {
+            heartbeat.shutdownNow();
+        }
+    }
+
+    public void setLastEmitterRemovedListener(Consumer<Long> listener) {
+        this.lastEmitterRemovedListener = listener;
+    }
+
+    // 이 서버에서 사용자의 첫 연결이면 true
+    public boolean add(Long userId, SseEmitter emitter) {
+        boolean[] first = new boolean[1];
+        emitters.compute(userId, (id, userEmitters) -> {
+            if (userEmitters == null) {
+                userEmitters = ConcurrentHashMap.newKeySet();
+                first[0] = true;
+            }
+            if (userEmitters.add(emitter)) {
+                liveEmitters.incrementAndGet();
+            }
+            return userEmitters;
+        });
+        return first[0];
+    }
+
+    // 이미 빠진 연결이면 아무것도 하지 않는다 (쫓아낸 뒤 완료 콜백이 다시 부르는 경우)
+    public void remove(Long userId, SseEmitter emitter) {
+        boolean[] removed = new boolean[1];
+        boolean[] last = new boolean[1];
+        emitters.computeIfPresent(userId, (id, userEmitters) -> {
+            removed[0] = userEmitters.remove(emitter);
+            if (!userEmitters.isEmpty()) return userEmitters;
+            last[0] = removed[0];
+            return null;
+        });
+
+        if (removed[0]) {
+            liveEmitters.decrementAndGet();
+        }
+        if (last[0]) {
+            lastEmitterRemovedListener.accept(userId);
+        }
+    }
+
+    // 사용자의 모든 기기로 보내고 한 곳이라도 받았으면 true
+    public boolean send(Long userId, String eventId, String message) {
+        Set<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) return false;
+
+        boolean delivered = false;
+        for (SseEmitter emitter : userEmitters) {
+            // SseEventBuilder 는 보낼 때 내용을 덧붙이므로 연결마다 새로 만든다
+            delivered |= trySend(userId, emitter, SseEmitter.event().id(eventId).data(message));
+        }
+        return delivered;
+    }
+
+    public boolean contains(Long userId) {
+        return emitters.containsKey(userId);
+    }
+
+    public Set<Long> connectedUserIds() {
+        return emitters.keySet();
+    }
+
+    private void sendHeartbeats() {
+        try {
+            emitters.forEach((userId, userEmitters) -> {
+                for (SseEmitter emitter : userEmitters) {
+                    trySend(userId, emitter, SseEmitter.event().comment("heartbeat"));
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("SSE heartbeat 전송 중 오류", e);
+        }
+    }
+
+    // 보내지 못한 연결은 바로 빼고 끝낸다, 완료 콜백이 늦게 와도 그 사이 다시 보내지 않는다
+    private boolean trySend(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패, 연결을 뺍니다. userId={}", userId);
+            remove(userId, emitter);
+            evictions.increment();
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package ddog.notification.application.dto;
+
+import java.util.List;
+
+// 일괄 전송 결과, 받는 사람 목록과 같은 순서로 전송 여부를 담는다
+public class AlimTalkBulkResult {
+
+    private final boolean[] delivered;
+
+    public AlimTalkBulkResult(boolean[] delivered) {
+        this.delivered = delivered;
+    }
+
+    public boolean isDelivered(int index) {
+        return delivered[index];
+    }
+
+    public int deliveredCount() {
+        int count = 0;
+        for (boolean each : delivered) {
+            if (each) count++;
+        }
+        return count;
+    }
+
+    public int failedCount() {
+        return delivered.length - deliveredCount();
+    }
+
+    public static AlimTalkBulkResult allFailed(List<AlimTalkRecipient> recipients) {
+        return new AlimTalkBulkResult(new boolean[recipients.size()]);
+    }
+}
@@ -0,0 +1,11 @@
+package ddog.notification.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AlimTalkRecipient {
+    private String userName;
+    private String phoneNumber;
+}
@@ -0,0 +1,12 @@
+package ddog.notification.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// SSE 로 보낸 알림, id 는 시간순으로 증가하므로 Last-Event-ID 이후의 것만 골라 다시 보낼 수 있다
+@Getter
+@AllArgsConstructor
+public class NotificationEvent {
+    private long id;
+    private String message;
+}
@@ -0,0 +1,13 @@
+package ddog.notification.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class NotificationPageResp {
+    private List<NotificationResp> notifications;
+    private Long nextCursor; // 다음 페이지 요청의 cursor, 마지막 페이지면 null
+}
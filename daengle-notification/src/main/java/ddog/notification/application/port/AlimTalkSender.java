@@ -0,0 +1,17 @@
+package ddog.notification.application.port;
+
+import net.nurigo.sdk.message.model.Message;
+
+import java.util.List;
+import java.util.Set;
+
+// 카카오 알림톡 발송, 실제로는 솔라피(Nurigo)로 보내고 부하 테스트에서는 가짜로 바꾼다 (kakao.sender)
+public interface AlimTalkSender {
+    // 한 번에 보낼 수 있는 최대 메시지 수
+    int MAX_BATCH_SIZE = 10_000;
+
+    void sendOne(Message message);
+    // messages 는 MAX_BATCH_SIZE 개 이하이고 받는 번호가 겹치지 않아야 한다
+    // 받지 못한 번호를 돌려준다 (모두 보냈으면 빈 집합), 요청 자체가 실패하면 예외를 던진다
+    Set<String> sendMany(List<Message> messages);
+}
@@ -2,10 +2,10 @@ package ddog.notification.application.port;
 
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
-
 public interface ClientConnect {
-    SseEmitter toConnectClient(Long userId);
-    void sendNotificationToUser(Long userId, String message) throws IOException;
+    // lastEventId 는 다시 연결할 때 브라우저가 보내는 Last-Event-ID, 처음 연결이면 null
+    SseEmitter toConnectClient(Long userId, String lastEventId);
+    // 어느 서버에든 연결이 있어 전달했으면 true, 아무 연결도 없으면 false
+    boolean sendNotificationToUser(Long userId, String message);
     boolean isUserConnected(Long userId);
 }
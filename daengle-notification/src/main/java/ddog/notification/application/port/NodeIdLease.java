@@ -0,0 +1,6 @@
+package ddog.notification.application.port;
+
+// 알림 id 생성기에 쓸 서버별 노드 번호, 살아 있는 서버끼리는 겹치지 않는다
+public interface NodeIdLease {
+    int nodeId();
+}
@@ -0,0 +1,12 @@
+package ddog.notification.application.port;
+
+import ddog.notification.application.dto.NotificationEvent;
+
+import java.util.List;
+
+// 사용자별로 최근 보낸 알림 몇 개만 잠시 남겨, 다시 연결한 클라이언트가 놓친 알림을 받게 한다
+public interface NotificationReplay {
+    void append(Long userId, NotificationEvent event);
+    // lastEventId 보다 뒤에 보낸 알림을 오래된 것부터
+    List<NotificationEvent> findAfter(Long userId, long lastEventId);
+}
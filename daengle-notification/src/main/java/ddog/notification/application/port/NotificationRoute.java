@@ -0,0 +1,11 @@
+package ddog.notification.application.port;
+
+import ddog.notification.application.dto.NotificationEvent;
+
+// 사용자가 어느 서버에 SSE 로 붙어 있는지 공유하고, 다른 서버에 붙은 사용자에게 알림을 넘긴다
+public interface NotificationRoute {
+    void connected(Long userId);
+    void disconnected(Long userId);
+    boolean isConnectedElsewhere(Long userId);
+    boolean routeToOtherNodes(Long userId, NotificationEvent event);
+}
@@ -0,0 +1,10 @@
+package ddog.notification.application.port;
+
+// 사용자별 저장된(읽지 않은) 알림 수 캐시, 없으면 null 이고 DB 에서 세어 채운다
+public interface UnreadNotificationCounter {
+    Long find(Long userId);
+    void init(Long userId, long count);
+    // 캐시가 있을 때만 바꾼다, 없으면 다음 조회 때 DB 에서 다시 센다
+    void increase(Long userId);
+    void decrease(Long userId, long count);
+}
@@ -0,0 +1,101 @@
+import ddog.notification.application.KakaoNotificationService;
+import ddog.notification.application.dto.AlimTalkBulkResult;
+import ddog.notification.application.dto.AlimTalkRecipient;
+import ddog.notification.application.port.AlimTalkSender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.nurigo.sdk.message.model.Message;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 일괄 전송은 공유 실행기에서 돌고, 일부만 실패해도 받는 사람마다 결과가 나뉘어야 한다
+public class KakaoNotificationServiceBulkTest {
+
+    private final RecordingSender sender = new RecordingSender();
+    private final KakaoNotificationService kakaoNotificationService =
+            new KakaoNotificationService(sender, new SimpleMeterRegistry(), 2, 10, 5_000);
+
+    @AfterEach
+    public void tearDown() {
+        kakaoNotificationService.shutdown();
+    }
+
+    @Test
+    public void testPartialFailureIsReportedPerRecipient() {
+        sender.failingNumbers.add("01022223333");
+        List<AlimTalkRecipient> recipients = List.of(
+                new AlimTalkRecipient("가", "010-1111-2222"),
+                new AlimTalkRecipient("나", "010-2222-3333"),
+                new AlimTalkRecipient("다", "010-3333-4444"));
+
+        AlimTalkBulkResult result = kakaoNotificationService.sendBulkTalk(recipients, "template");
+
+        Assertions.assertTrue(result.isDelivered(0));
+        Assertions.assertFalse(result.isDelivered(1));
+        Assertions.assertTrue(result.isDelivered(2));
+        Assertions.assertEquals(1, result.failedCount());
+        Assertions.assertTrue(sender.threadNames.stream().allMatch(name -> name.startsWith("kakao-notification-")),
+                "일괄 전송이 공유 실행기 밖에서 실행되었습니다: " + sender.threadNames);
+    }
+
+    @Test
+    public void testDuplicateRecipientIsSentInSeparateRequest() {
+        List<AlimTalkRecipient> recipients = List.of(
+                new AlimTalkRecipient("가", "01011112222"),
+                new AlimTalkRecipient("나", "01022223333"),
+                new AlimTalkRecipient("가", "010-1111-2222"));
+
+        AlimTalkBulkResult result = kakaoNotificationService.sendBulkTalk(recipients, "template");
+
+        Assertions.assertEquals(3, result.deliveredCount());
+        Assertions.assertEquals(2, sender.requests.size());
+        for (List<String> request : sender.requests) {
+            Assertions.assertEquals(new HashSet<>(request).size(), request.size(), "한 요청에 같은 번호가 두 번 들어갔습니다.");
+        }
+    }
+
+    @Test
+    public void testFailedRequestFailsItsRecipients() {
+        sender.failRequests = true;
+        List<AlimTalkRecipient> recipients = List.of(new AlimTalkRecipient("가", "01011112222"));
+
+        AlimTalkBulkResult result = kakaoNotificationService.sendBulkTalk(recipients, "template");
+
+        Assertions.assertFalse(result.isDelivered(0));
+    }
+
+    private static class RecordingSender implements AlimTalkSender {
+
+        private final Set<String> failingNumbers = new HashSet<>();
+        private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+        private final List<String> threadNames = new CopyOnWriteArrayList<>();
+        private volatile boolean failRequests;
+
+        @Override
+        public void sendOne(Message message) {
+        }
+
+        @Override
+        public Set<String> sendMany(List<Message> messages) {
+            threadNames.add(Thread.currentThread().getName());
+            if (failRequests) {
+                throw new IllegalStateException("요청 실패");
+            }
+
+            List<String> numbers = new ArrayList<>();
+            Set<String> failed = new HashSet<>();
+            for (Message message : messages) {
+                String number = message.getTo().replace("-", "");
+                numbers.add(number);
+                if (failingNumbers.contains(number)) {
+                    failed.add(message.getTo());
+                }
+            }
+            requests.add(numbers);
+            return failed;
+        }
+    }
+}
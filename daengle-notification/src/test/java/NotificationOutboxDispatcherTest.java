@@ -0,0 +1,206 @@
+import ddog.domain.notification.NotificationOutbox;
+import ddog.domain.notification.enums.NotifyType;
+import ddog.domain.notification.port.NotificationOutboxPersist;
+import ddog.notification.application.KakaoNotificationService;
+import ddog.notification.application.NotificationOutboxDispatcher;
+import ddog.notification.application.NotificationService;
+import ddog.notification.application.dto.AlimTalkBulkResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 꺼낼 때 임대를 걸고, 받는 사람마다 결과를 표시하고, 실패하면 미뤘다가 maxAttempts 번째에 dead 로 표시해야 한다
+public class NotificationOutboxDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long LEASE_MILLIS = 60_000;
+    private static final long RETRY_BASE_MILLIS = 1_000;
+
+    private InMemoryOutboxPersist outboxPersist;
+    private KakaoNotificationService kakaoNotificationService;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    public void setUp() {
+        outboxPersist = new InMemoryOutboxPersist();
+        kakaoNotificationService = mock(KakaoNotificationService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new NotificationOutboxDispatcher(outboxPersist, mock(NotificationService.class), kakaoNotificationService,
+                mock(PlatformTransactionManager.class), meterRegistry,
+                10, MAX_ATTEMPTS, 1_000, LEASE_MILLIS, RETRY_BASE_MILLIS, 600_000);
+    }
+
+    @Test
+    public void testClaimLeasesRowsUntilSent() {
+        outboxPersist.add(alimTalk(1L, 0));
+        when(kakaoNotificationService.sendBulkTalk(anyList(), eq("template"))).thenAnswer(invocation -> {
+            // 보내는 동안에는 임대가 걸려 있어 다른 디스패처가 꺼내지 않는다
+            Assertions.assertTrue(outboxPersist.claimPending(10, LocalDateTime.now(), LocalDateTime.now()).isEmpty());
+            return new AlimTalkBulkResult(new boolean[]{true});
+        });
+
+        LocalDateTime before = LocalDateTime.now();
+        Assertions.assertEquals(1, dispatcher.dispatchBatch());
+
+        Assertions.assertFalse(outboxPersist.lastLeaseUntil.isBefore(before.plus(Duration.ofMillis(LEASE_MILLIS))));
+        Assertions.assertTrue(outboxPersist.rows.get(1L).dispatched);
+        Assertions.assertEquals(0, dispatcher.dispatchBatch());
+    }
+
+    @Test
+    public void testBulkResultIsRecordedPerRow() {
+        outboxPersist.add(alimTalk(1L, 0));
+        outboxPersist.add(alimTalk(2L, 0));
+        outboxPersist.add(alimTalk(3L, 0));
+        when(kakaoNotificationService.sendBulkTalk(anyList(), eq("template")))
+                .thenReturn(new AlimTalkBulkResult(new boolean[]{true, false, true}));
+
+        dispatcher.dispatchBatch();
+
+        Assertions.assertTrue(outboxPersist.rows.get(1L).dispatched);
+        Assertions.assertFalse(outboxPersist.rows.get(2L).dispatched);
+        Assertions.assertEquals(1, outboxPersist.rows.get(2L).attempts);
+        Assertions.assertTrue(outboxPersist.rows.get(3L).dispatched);
+        Assertions.assertEquals(2, meterRegistry.counter("notification.outbox.dispatched").count());
+        Assertions.assertEquals(1, meterRegistry.counter("notification.outbox.failed").count());
+    }
+
+    @Test
+    public void testFailedRowBacksOffByAttempts() {
+        outboxPersist.add(alimTalk(1L, 1));
+        when(kakaoNotificationService.sendBulkTalk(anyList(), eq("template"))).thenThrow(new IllegalStateException("전송 실패"));
+
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.dispatchBatch();
+        LocalDateTime after = LocalDateTime.now();
+
+        // 한 번 실패했던 알림이 또 실패하면 retryBase * 2 뒤에 다시 시도한다
+        StoredOutbox row = outboxPersist.rows.get(1L);
+        Assertions.assertEquals(2, row.attempts);
+        Assertions.assertFalse(row.nextAttemptAt.isBefore(before.plus(Duration.ofMillis(RETRY_BASE_MILLIS * 2))));
+        Assertions.assertFalse(row.nextAttemptAt.isAfter(after.plus(Duration.ofMillis(RETRY_BASE_MILLIS * 2))));
+        Assertions.assertEquals(0, dispatcher.dispatchBatch());
+    }
+
+    @Test
+    public void testRowPastMaxAttemptsIsDead() {
+        outboxPersist.add(alimTalk(1L, MAX_ATTEMPTS - 1));
+        when(kakaoNotificationService.sendBulkTalk(anyList(), eq("template")))
+                .thenReturn(new AlimTalkBulkResult(new boolean[]{false}));
+
+        dispatcher.dispatchBatch();
+
+        StoredOutbox row = outboxPersist.rows.get(1L);
+        Assertions.assertTrue(row.dead);
+        Assertions.assertEquals(MAX_ATTEMPTS, row.attempts);
+        Assertions.assertEquals(1, meterRegistry.counter("notification.outbox.dead").count());
+
+        // 다시 시도할 때가 지나도 꺼내지 않는다
+        row.nextAttemptAt = LocalDateTime.now().minusDays(1);
+        Assertions.assertEquals(0, dispatcher.dispatchBatch());
+    }
+
+    private static NotificationOutbox alimTalk(Long id, int attempts) {
+        return NotificationOutbox.builder()
+                .id(id)
+                .userId(id)
+                .notifyType(NotifyType.RESERVED)
+                .templateId("template")
+                .receiverName("사용자" + id)
+                .receiverPhone("0101111000" + id)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+
+    private static class StoredOutbox {
+        private final NotificationOutbox outbox;
+        private int attempts;
+        private LocalDateTime nextAttemptAt;
+        private boolean dispatched;
+        private boolean dead;
+
+        private StoredOutbox(NotificationOutbox outbox) {
+            this.outbox = outbox;
+            this.attempts = outbox.getAttempts();
+            this.nextAttemptAt = outbox.getNextAttemptAt();
+        }
+
+        private NotificationOutbox toModel() {
+            return NotificationOutbox.builder()
+                    .id(outbox.getId())
+                    .userId(outbox.getUserId())
+                    .notifyType(outbox.getNotifyType())
+                    .message(outbox.getMessage())
+                    .templateId(outbox.getTemplateId())
+                    .receiverName(outbox.getReceiverName())
+                    .receiverPhone(outbox.getReceiverPhone())
+                    .attempts(attempts)
+                    .nextAttemptAt(nextAttemptAt)
+                    .build();
+        }
+    }
+
+    // lockPending 과 같은 조건으로 꺼내고 임대를 건다
+    private static class InMemoryOutboxPersist implements NotificationOutboxPersist {
+
+        private final Map<Long, StoredOutbox> rows = new TreeMap<>();
+        private LocalDateTime lastLeaseUntil;
+
+        private void add(NotificationOutbox outbox) {
+            rows.put(outbox.getId(), new StoredOutbox(outbox));
+        }
+
+        @Override
+        public void save(NotificationOutbox outbox) {
+            add(outbox);
+        }
+
+        @Override
+        public List<NotificationOutbox> claimPending(int batchSize, LocalDateTime now, LocalDateTime leaseUntil) {
+            List<NotificationOutbox> claimed = new ArrayList<>();
+            for (StoredOutbox row : rows.values()) {
+                if (claimed.size() == batchSize) break;
+                if (row.dispatched || row.dead || row.nextAttemptAt.isAfter(now)) continue;
+
+                claimed.add(row.toModel());
+                row.nextAttemptAt = leaseUntil;
+            }
+            if (!claimed.isEmpty()) {
+                lastLeaseUntil = leaseUntil;
+            }
+            return claimed;
+        }
+
+        @Override
+        public void markDispatched(List<Long> outboxIds) {
+            outboxIds.forEach(id -> rows.get(id).dispatched = true);
+        }
+
+        @Override
+        public void markFailed(List<Long> outboxIds, LocalDateTime nextAttemptAt) {
+            outboxIds.forEach(id -> {
+                rows.get(id).attempts++;
+                rows.get(id).nextAttemptAt = nextAttemptAt;
+            });
+        }
+
+        @Override
+        public void markDead(List<Long> outboxIds) {
+            outboxIds.forEach(id -> {
+                rows.get(id).attempts++;
+                rows.get(id).dead = true;
+            });
+        }
+    }
+}
@@ -0,0 +1,87 @@
+import ddog.domain.notification.Notification;
+import ddog.domain.notification.port.NotificationPersist;
+import ddog.notification.application.NotificationService;
+import ddog.notification.application.dto.NotificationResp;
+import ddog.notification.application.exception.NotificationException;
+import ddog.notification.application.port.ClientConnect;
+import ddog.notification.application.port.UnreadNotificationCounter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 일괄 확인은 자기 알림만 지우고 지운 만큼만 안 읽은 수를 내리며, 한 번에 1000개까지만 받는다
+public class NotificationServiceCheckTest {
+
+    private final Map<Long, Long> owners = new HashMap<>(); // 알림 ID -> 사용자 ID
+    private NotificationPersist notificationPersist;
+    private UnreadNotificationCounter unreadNotificationCounter;
+    private NotificationService notificationService;
+
+    @BeforeEach
+    public void setUp() {
+        notificationPersist = mock(NotificationPersist.class);
+        // DELETE ... WHERE userId = ? AND id IN (...) 와 같다
+        when(notificationPersist.deleteNotificationsByIds(anyLong(), anyList())).thenAnswer(invocation -> {
+            Long userId = invocation.getArgument(0);
+            List<Long> ids = invocation.getArgument(1);
+            int deleted = 0;
+            for (Long id : new HashSet<>(ids)) {
+                if (userId.equals(owners.get(id))) {
+                    owners.remove(id);
+                    deleted++;
+                }
+            }
+            return deleted;
+        });
+        unreadNotificationCounter = mock(UnreadNotificationCounter.class);
+        notificationService = new NotificationService(mock(ClientConnect.class), notificationPersist, unreadNotificationCounter);
+    }
+
+    @Test
+    public void testBulkCheckSkipsOtherUsersNotifications() {
+        owners.put(1L, 10L);
+        owners.put(2L, 20L);
+        owners.put(3L, 10L);
+
+        Map<String, Object> response = notificationService.checkNotifications(10L, List.of(1L, 2L, 3L, 99L));
+
+        Assertions.assertEquals(2, response.get("deleted"));
+        Assertions.assertEquals(Map.of(2L, 20L), owners);
+        verify(unreadNotificationCounter).decrease(10L, 2);
+    }
+
+    @Test
+    public void testBulkCheckAcceptsUpToThousandIds() {
+        List<Long> ids = LongStream.rangeClosed(1, 1000).boxed().collect(Collectors.toList());
+        ids.forEach(id -> owners.put(id, 10L));
+
+        Assertions.assertEquals(1000, notificationService.checkNotifications(10L, ids).get("deleted"));
+    }
+
+    @Test
+    public void testBulkCheckRejectsMoreThanThousandIds() {
+        List<Long> ids = LongStream.rangeClosed(1, 1001).boxed().collect(Collectors.toList());
+
+        Assertions.assertThrows(NotificationException.class, () -> notificationService.checkNotifications(10L, ids));
+        Assertions.assertThrows(NotificationException.class, () -> notificationService.checkNotifications(10L, List.of()));
+        verify(notificationPersist, never()).deleteNotificationsByIds(anyLong(), anyList());
+    }
+
+    @Test
+    public void testAllNotificationsKeepsListShape() {
+        when(notificationPersist.findAllNotificationsByUserId(10L)).thenReturn(List.of(
+                Notification.builder().id(1L).message("첫 알림").userId(10L).build(),
+                Notification.builder().id(2L).message("둘째 알림").userId(10L).build()));
+
+        Assertions.assertEquals(List.of("첫 알림", "둘째 알림"),
+                notificationService.findAllNotificationsBy(10L).stream().map(NotificationResp::getMessage).toList());
+        Assertions.assertThrows(NotificationException.class, () -> notificationService.findAllNotificationsBy(20L));
+    }
+}
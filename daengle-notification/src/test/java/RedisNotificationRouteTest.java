@@ -0,0 +1,205 @@
+import ddog.notification.application.adapter.RedisNotificationReplay;
+import ddog.notification.application.adapter.RedisNotificationRoute;
+import ddog.notification.application.adapter.SseEmitterRegistry;
+import ddog.notification.application.dto.NotificationEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 내장 Redis 하나에 알림 서버 여러 대(노드)를 붙여 접속 정보 공유와 서버 간 전달을 확인한다
+public class RedisNotificationRouteTest {
+
+    private static final int REDIS_PORT = 16380;
+    private static final long DELIVERY_TIMEOUT_MILLIS = 2_000;
+
+    private static RedisServer redisServer;
+
+    private final List<Node> nodes = new ArrayList<>();
+
+    @BeforeAll
+    public static void startRedis() throws Exception {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+    }
+
+    @AfterAll
+    public static void stopRedis() throws Exception {
+        redisServer.stop();
+    }
+
+    @AfterEach
+    public void stopNodes() {
+        nodes.forEach(Node::stop);
+        nodes.clear();
+    }
+
+    @Test
+    public void testNotificationIsRoutedToOwningNode() throws Exception {
+        Node nodeA = node("a", 30_000);
+        Node nodeB = node("b", 30_000);
+        nodeB.connect(1L);
+
+        Assertions.assertTrue(nodeA.route.isConnectedElsewhere(1L));
+        Assertions.assertFalse(nodeB.route.isConnectedElsewhere(1L), "자기 자신은 다른 서버로 보지 않아야 합니다.");
+
+        Assertions.assertTrue(nodeA.route.routeToOtherNodes(1L, new NotificationEvent(11L, "예약이 확정되었습니다.\n내일 10시")));
+        Assertions.assertEquals("1:11:예약이 확정되었습니다.\n내일 10시", nodeB.registry.received.poll(DELIVERY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testEveryDeviceNodeReceivesNotification() throws Exception {
+        Node nodeA = node("a", 30_000);
+        Node phoneNode = node("phone", 30_000);
+        Node tabletNode = node("tablet", 30_000);
+        phoneNode.connect(2L);
+        tabletNode.connect(2L);
+
+        Assertions.assertTrue(nodeA.route.routeToOtherNodes(2L, new NotificationEvent(21L, "새 견적")));
+        Assertions.assertEquals("2:21:새 견적", phoneNode.registry.received.poll(DELIVERY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals("2:21:새 견적", tabletNode.registry.received.poll(DELIVERY_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testDisconnectedUserIsNotRouted() {
+        Node nodeA = node("a", 30_000);
+        Node nodeB = node("b", 30_000);
+        nodeB.connect(3L);
+        nodeB.disconnect(3L);
+
+        Assertions.assertFalse(nodeA.route.isConnectedElsewhere(3L));
+        Assertions.assertFalse(nodeA.route.routeToOtherNodes(3L, new NotificationEvent(31L, "아무도 없음")));
+    }
+
+    @Test
+    public void testPresenceOfDeadNodeIsNotDelivery() {
+        Node nodeA = node("a", 30_000);
+        // 접속 정보만 남기고 채널을 구독하지 않는 서버 (갑자기 죽어 아직 만료되지 않은 서버와 같다)
+        new StringRedisTemplate(nodeA.connectionFactory).opsForZSet()
+                .add("sse:presence:9", "dead-" + System.nanoTime(), System.currentTimeMillis() + 30_000);
+
+        Assertions.assertTrue(nodeA.route.isConnectedElsewhere(9L));
+        Assertions.assertFalse(nodeA.route.routeToOtherNodes(9L, new NotificationEvent(91L, "받을 서버 없음")));
+    }
+
+    @Test
+    public void testHeartbeatKeepsPresenceAndStaleNodesExpire() throws Exception {
+        Node nodeA = node("a", 30_000);
+        Node liveNode = node("live", 300);
+        Node staleNode = node("stale", 300);
+        liveNode.connect(4L);
+        // 접속 정보만 올리고 연결 목록에는 없으므로 갱신되지 않는다 (죽은 서버와 같다)
+        staleNode.route.connected(5L);
+
+        Thread.sleep(1_000);
+
+        Assertions.assertTrue(nodeA.route.isConnectedElsewhere(4L), "갱신 중인 접속 정보가 만료되었습니다.");
+        Assertions.assertFalse(nodeA.route.isConnectedElsewhere(5L), "갱신되지 않은 접속 정보가 남아 있습니다.");
+    }
+
+    @Test
+    public void testShutdownRemovesPresence() throws Exception {
+        Node nodeA = node("a", 30_000);
+        Node nodeB = node("b", 30_000);
+        nodeB.connect(6L);
+
+        nodeB.route.shutdown();
+        nodes.remove(nodeB);
+        nodeB.connectionFactory.destroy();
+
+        Assertions.assertFalse(nodeA.route.isConnectedElsewhere(6L));
+    }
+
+    @Test
+    public void testReplayReturnsOnlyEventsAfterLastEventId() {
+        Node nodeA = node("a", 30_000);
+        RedisNotificationReplay replay = new RedisNotificationReplay(new StringRedisTemplate(nodeA.connectionFactory), 3, 60_000);
+        for (long id = 1; id <= 5; id++) {
+            replay.append(7L, new NotificationEvent(id, "알림 " + id + "\n둘째 줄"));
+        }
+
+        // 최근 3개만 남고, 마지막으로 받은 id 뒤의 것만 오래된 순서로 돌려준다
+        List<NotificationEvent> missed = replay.findAfter(7L, 3L);
+        Assertions.assertEquals(List.of(4L, 5L), missed.stream().map(NotificationEvent::getId).toList());
+        Assertions.assertEquals("알림 4\n둘째 줄", missed.get(0).getMessage());
+        Assertions.assertEquals(List.of(3L, 4L, 5L), replay.findAfter(7L, 0L).stream().map(NotificationEvent::getId).toList());
+        Assertions.assertTrue(replay.findAfter(8L, 0L).isEmpty());
+    }
+
+    private Node node(String nodeId, long presenceTtlMillis) {
+        Node node = new Node(nodeId, presenceTtlMillis);
+        nodes.add(node);
+        return node;
+    }
+
+    // 실제 SSE 연결 대신 받은 알림을 모으는 연결 목록
+    private static class CapturingRegistry extends SseEmitterRegistry {
+
+        private final Set<Long> users = ConcurrentHashMap.newKeySet();
+        private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+
+        private CapturingRegistry() {
+            super(new SimpleMeterRegistry(), 15_000);
+        }
+
+        @Override
+        public boolean send(Long userId, String eventId, String message) {
+            received.add(userId + ":" + eventId + ":" + message);
+            return users.contains(userId);
+        }
+
+        @Override
+        public boolean contains(Long userId) {
+            return users.contains(userId);
+        }
+
+        @Override
+        public Set<Long> connectedUserIds() {
+            return users;
+        }
+    }
+
+    private static class Node {
+
+        private final LettuceConnectionFactory connectionFactory;
+        private final CapturingRegistry registry = new CapturingRegistry();
+        private final RedisNotificationRoute route;
+
+        private Node(String nodeId, long presenceTtlMillis) {
+            connectionFactory = new LettuceConnectionFactory("localhost", REDIS_PORT);
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+
+            route = new RedisNotificationRoute(new StringRedisTemplate(connectionFactory), connectionFactory,
+                    registry, presenceTtlMillis, nodeId + "-" + System.nanoTime());
+            route.start();
+        }
+
+        private void connect(Long userId) {
+            registry.users.add(userId);
+            route.connected(userId);
+        }
+
+        private void disconnect(Long userId) {
+            registry.users.remove(userId);
+            route.disconnected(userId);
+        }
+
+        private void stop() {
+            try {
+                route.shutdown();
+            } catch (Exception ignored) {
+            }
+            connectionFactory.destroy();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+import ddog.notification.application.adapter.RedisUnreadNotificationCounter;
+import org.junit.jupiter.api.*;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+// 캐시가 없을 때는 올리거나 내리지 않고, 있을 때는 0 밑으로 내려가지 않아야 한다
+public class RedisUnreadNotificationCounterTest {
+
+    private static final int REDIS_PORT = 16381;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private StringRedisTemplate redisTemplate;
+    private RedisUnreadNotificationCounter counter;
+
+    @BeforeAll
+    public static void startRedis() throws Exception {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory("localhost", REDIS_PORT);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    public static void stopRedis() throws Exception {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        counter = new RedisUnreadNotificationCounter(redisTemplate, 60_000);
+    }
+
+    @Test
+    public void testMissingCounterIsNotChanged() {
+        counter.increase(1L);
+        counter.decrease(1L, 3);
+
+        Assertions.assertNull(counter.find(1L));
+        Assertions.assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey("notify:unread:1")));
+    }
+
+    @Test
+    public void testPresentCounterIsAdjusted() {
+        counter.init(2L, 5);
+        counter.increase(2L);
+        counter.decrease(2L, 2);
+
+        Assertions.assertEquals(4L, counter.find(2L));
+    }
+
+    @Test
+    public void testCounterDoesNotGoBelowZeroAndKeepsTtl() {
+        counter.init(3L, 1);
+        counter.decrease(3L, 5);
+
+        Assertions.assertEquals(0L, counter.find(3L));
+        Long ttl = redisTemplate.getExpire("notify:unread:3");
+        Assertions.assertTrue(ttl != null && ttl > 0, "0 으로 되돌리면서 TTL 이 사라졌습니다.");
+    }
+
+    @Test
+    public void testInitDoesNotOverwriteFilledCounter() {
+        counter.init(4L, 2);
+        counter.increase(4L);
+        counter.init(4L, 10);
+
+        Assertions.assertEquals(3L, counter.find(4L));
+    }
+}
@@ -0,0 +1,307 @@
+package ddog.persistence.nosql.adapter;
+
+import ddog.domain.chat.ChatMessage;
+import ddog.domain.chat.ChatRoomActivity;
+import ddog.persistence.nosql.entity.ChatMessageDynamoEntity;
+import ddog.persistence.nosql.entity.ChatRoomSummaryDynamoEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+
+// 채팅 메시지를 요청 스레드에서 바로 쓰지 않고 대기열에 모았다가 BatchWriteItem(최대 25건)으로 비동기 저장한다
+// 대기열에 넣기 전에 ChatMessageJournal 에 남기므로 프로세스가 죽어도 다음 시작 때 저널에서 다시 저장한다
+// 끝내 저장하지 못한 배치는 저널 디렉터리의 dead-letter.log 로 옮긴다
+// 저널 디렉터리는 컨테이너를 다시 만들어도 남는 볼륨의 절대 경로여야 한다 (chat-api Dockerfile 의 VOLUME), 상대 경로면 기동하지 않는다
+// 지표는 chat.message.write.queue (대기열 길이), chat.message.write.rejected (대기열이 가득 차 거절), chat.message.write.failed (실패 파일로 옮김),
+// chat.summary.update.failed (다시 시도해도 채팅방 요약을 갱신하지 못함)
+@Slf4j
+@Component
+public class ChatMessageBatchWriter {
+
+    private static final int MAX_BATCH_SIZE = 25; // BatchWriteItem 한 번에 쓸 수 있는 최대 건수
+    private static final int MAX_ATTEMPTS = 8;
+    private static final long RETRY_BACKOFF_MILLIS = 25;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+    private static final int MAX_SUMMARY_ATTEMPTS = 6;
+
+    private final DynamoDbAsyncClient dynamoDbAsyncClient;
+    private final ChatMessageJournal journal;
+    private final BlockingQueue<ChatMessageJournal.Entry> queue;
+    // 대기열 자리를 저널에 쓰기 전에 먼저 잡아, 저널에는 남았는데 대기열에 못 들어가는 메시지가 없게 한다
+    private final Semaphore queueSlots;
+    private final Semaphore inFlightBatches;
+    private final int maxInFlightBatches;
+    private final long lingerNanos;
+    private final long enqueueTimeoutMillis;
+    private final Thread flusher;
+    private final Counter rejected;
+    private final Counter failed;
+    private final Counter summaryFailed;
+    private volatile boolean running = true;
+
+    public ChatMessageBatchWriter(DynamoDbAsyncClient dynamoDbAsyncClient, MeterRegistry meterRegistry,
+                                  @Value("${chat.write-behind.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${chat.write-behind.max-in-flight-batches:8}") int maxInFlightBatches,
+                                  @Value("${chat.write-behind.linger-ms:5}") long lingerMillis,
+                                  @Value("${chat.write-behind.enqueue-timeout-ms:100}") long enqueueTimeoutMillis,
+                                  @Value("${chat.write-behind.journal-dir:/var/lib/daengle/chat-journal}") String journalDir,
+                                  @Value("${chat.write-behind.journal-segment-messages:10000}") int journalSegmentMessages)
+            throws IOException, InterruptedException {
+        this.dynamoDbAsyncClient = dynamoDbAsyncClient;
+        Path journalPath = Path.of(journalDir);
+        if (!journalPath.isAbsolute()) {
+            // 상대 경로는 작업 디렉터리를 따라가므로 컨테이너를 다시 만들면 저널이 사라진다
+            throw new IllegalStateException("chat.write-behind.journal-dir 는 영구 볼륨의 절대 경로여야 합니다: " + journalDir);
+        }
+        this.journal = new ChatMessageJournal(journalPath, journalSegmentMessages);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.queueSlots = new Semaphore(queueCapacity);
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.inFlightBatches = new Semaphore(maxInFlightBatches);
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+        this.flusher = new Thread(this::flushLoop, "chat-message-writer");
+        this.flusher.setDaemon(true); // 종료 시 대기열 비우기는 shutdown() 이 맡는다
+
+        this.rejected = Counter.builder("chat.message.write.rejected").register(meterRegistry);
+        this.failed = Counter.builder("chat.message.write.failed").register(meterRegistry);
+        this.summaryFailed = Counter.builder("chat.summary.update.failed").register(meterRegistry);
+        Gauge.builder("chat.message.write.queue", queue, BlockingQueue::size).register(meterRegistry);
+
+        this.flusher.start();
+
+        // 지난번에 저장하지 못하고 끝난 메시지를 먼저 넣는다, 대기열보다 많으면 저장되는 만큼씩 기다리며 넣는다
+        List<ChatMessageJournal.Entry> recovered = journal.recover();
+        if (!recovered.isEmpty()) {
+            log.warn("채팅 메시지 저널에서 {}건을 다시 저장합니다.", recovered.size());
+        }
+        for (ChatMessageJournal.Entry entry : recovered) {
+            queueSlots.acquire();
+            queue.put(entry);
+        }
+    }
+
+    // 저널에 쓰고 fsync 한 뒤 대기열에 넣으면 저장된 것으로 응답한다
+    // 대기열이 가득 차 있으면 잠시 기다린 뒤 거절한다 (DynamoDB 가 따라오지 못하는 상황)
+    public void enqueue(ChatMessage message) {
+        if (!running) {
+            throw new IllegalStateException("채팅 메시지 저장기가 종료 중입니다.");
+        }
+
+        try {
+            if (!queueSlots.tryAcquire(enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new IllegalStateException("채팅 메시지 저장 대기열이 가득 찼습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("채팅 메시지 저장이 중단되었습니다.", e);
+        }
+
+        ChatMessageJournal.Entry entry;
+        try {
+            entry = journal.append(message);
+            journal.sync(entry.sequence());
+        } catch (IOException e) {
+            queueSlots.release();
+            rejected.increment();
+            throw new UncheckedIOException("채팅 메시지를 저널에 쓰지 못했습니다.", e);
+        }
+        // 자리를 먼저 잡았으므로 기다리지 않고 들어간다
+        queue.add(entry);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        flusher.join(SHUTDOWN_TIMEOUT_MILLIS);
+
+        // 보낸 배치가 모두 끝날 때까지 기다린다
+        if (!inFlightBatches.tryAcquire(maxInFlightBatches, SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            log.warn("채팅 메시지 저장이 끝나기 전에 종료합니다. 남은 대기열 {}건은 다음 시작 때 저널에서 다시 저장합니다.", queue.size());
+        }
+
+        try {
+            journal.close();
+        } catch (IOException e) {
+            log.error("채팅 메시지 저널을 닫지 못했습니다.", e);
+        }
+    }
+
+    private void flushLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<ChatMessageJournal.Entry> batch = nextBatch();
+                if (batch.isEmpty()) continue;
+
+                // 동시에 보내는 배치 수를 제한한다, 모두 사용 중이면 그 사이 대기열에 더 모인다
+                inFlightBatches.acquire();
+                try {
+                    write(batch).whenComplete((ignored, error) -> inFlightBatches.release());
+                } catch (RuntimeException e) {
+                    inFlightBatches.release();
+                    throw e;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("채팅 메시지 배치 전송 실패", e);
+            }
+        }
+    }
+
+    // 첫 메시지를 기다린 뒤 linger 동안 25건이 찰 때까지 더 모은다 (부하가 높으면 기다리지 않고 바로 찬다)
+    private List<ChatMessageJournal.Entry> nextBatch() throws InterruptedException {
+        ChatMessageJournal.Entry first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) return Collections.emptyList();
+
+        List<ChatMessageJournal.Entry> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        batch.add(first);
+        queue.drainTo(batch, MAX_BATCH_SIZE - batch.size());
+
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < MAX_BATCH_SIZE && running) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) break;
+
+            ChatMessageJournal.Entry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) break;
+            batch.add(next);
+            queue.drainTo(batch, MAX_BATCH_SIZE - batch.size());
+        }
+        queueSlots.release(batch.size());
+        return batch;
+    }
+
+    // 저장했거나 실패 파일로 옮긴 메시지만 저널에서 끝낸다, 실패 파일에도 못 쓰면 저널에 남겨 다음 시작 때 다시 저장한다
+    private CompletableFuture<Void> write(List<ChatMessageJournal.Entry> entries) {
+        List<ChatMessage> batch = entries.stream().map(ChatMessageJournal.Entry::message).toList();
+
+        // 같은 키(방, 정렬 키)가 한 요청에 두 번 들어가면 요청 전체가 거절되므로 나중 것만 남긴다 (같은 메시지를 다시 보낸 경우)
+        Map<String, WriteRequest> writeRequests = new LinkedHashMap<>();
+        for (ChatMessage message : batch) {
+            ChatMessageDynamoEntity entity = ChatMessageDynamoEntity.from(message);
+            writeRequests.put(entity.getChatRoomId() + "|" + entity.getTimestamp(), WriteRequest.builder()
+                    .putRequest(PutRequest.builder()
+                            .item(ChatMessageDynamoEntity.TABLE_SCHEMA.itemToMap(entity, true))
+                            .build())
+                    .build());
+        }
+
+        return writeItems(Map.of(ChatMessageDynamoRepository.TABLE_NAME, new ArrayList<>(writeRequests.values())), 1)
+                .thenCompose(ignored -> updateSummaries(batch))
+                .handle((ignored, error) -> {
+                    if (error != null) {
+                        log.error("채팅 메시지 {}건 저장 실패 messageIds={}", batch.size(),
+                                batch.stream().map(ChatMessage::getMessageId).toList(), error);
+                        try {
+                            journal.deadLetter(batch);
+                            failed.increment(batch.size());
+                        } catch (IOException e) {
+                            log.error("채팅 메시지 {}건을 실패 파일에 옮기지 못했습니다. 저널에 남겨 둡니다.", batch.size(), e);
+                            return null;
+                        }
+                    }
+                    entries.forEach(ChatMessageJournal.Entry::complete);
+                    return null;
+                });
+    }
+
+    // 처리되지 않은 항목(용량 초과 등)과 실패한 요청은 지수 백오프로 다시 보낸다
+    private CompletableFuture<Void> writeItems(Map<String, List<WriteRequest>> requestItems, int attempt) {
+        return dynamoDbAsyncClient.batchWriteItem(BatchWriteItemRequest.builder().requestItems(requestItems).build())
+                .handle((response, error) -> {
+                    Map<String, List<WriteRequest>> remaining = error != null ? requestItems : response.unprocessedItems();
+                    if (remaining == null || remaining.isEmpty()) {
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
+                    if (attempt >= MAX_ATTEMPTS) {
+                        return CompletableFuture.<Void>failedFuture(error != null ? error
+                                : new IllegalStateException("처리되지 않은 채팅 메시지가 남았습니다."));
+                    }
+
+                    Executor delayed = CompletableFuture.delayedExecutor(RETRY_BACKOFF_MILLIS << (attempt - 1), TimeUnit.MILLISECONDS);
+                    return CompletableFuture.runAsync(() -> { }, delayed)
+                            .thenCompose(ignored -> writeItems(remaining, attempt + 1));
+                })
+                .thenCompose(future -> future);
+    }
+
+    // 배치 안의 메시지를 방마다 묶어 방당 UpdateItem 한 번으로 반영한다
+    private CompletableFuture<Void> updateSummaries(List<ChatMessage> batch) {
+        Map<Long, List<ChatMessage>> messagesByRoom = new HashMap<>();
+        for (ChatMessage message : batch) {
+            messagesByRoom.computeIfAbsent(message.getChatRoomId(), chatRoomId -> new ArrayList<>()).add(message);
+        }
+
+        List<CompletableFuture<?>> updates = new ArrayList<>(messagesByRoom.size());
+        messagesByRoom.forEach((chatRoomId, messages) ->
+                updates.add(updateSummary(messages, null, 1)
+                        .exceptionally(error -> {
+                            // 메시지는 저장되었으므로 배치는 실패로 돌리지 않는다, 마지막 메시지와 안 읽은 수가 어긋날 수 있어 ERROR 와 지표로 알린다
+                            summaryFailed.increment();
+                            log.error("채팅방 요약 갱신 실패 chatRoomId={}, messageIds={}", chatRoomId,
+                                    messages.stream().map(ChatMessage::getMessageId).toList(), unwrap(error));
+                            return null;
+                        })));
+        return CompletableFuture.allOf(updates.toArray(new CompletableFuture[0]));
+    }
+
+    // 처음에는 요약을 읽지 않고 커서가 모두 배치보다 앞선다고 보고 쓴다
+    // 조건에 걸리면 (읽음 처리가 먼저 됐거나 다른 배치와 겹침) 요약을 읽어 그 커서 기준으로 다시 쓴다
+    // 그 밖의 오류 (처리량 초과, 네트워크 등)는 같은 내용으로 지수 백오프 뒤에 다시 쓴다
+    private CompletableFuture<Void> updateSummary(List<ChatMessage> messages, Map<String, AttributeValue> current, int attempt) {
+        Map<Long, Long> lastReadMessageIds = current != null
+                ? ChatRoomSummaryDynamoEntity.lastReadMessageIds(current) : Collections.emptyMap();
+        UpdateItemRequest request = ChatRoomSummaryDynamoEntity.activityUpdate(ChatRoomActivity.of(messages, lastReadMessageIds), current);
+        if (request == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return dynamoDbAsyncClient.updateItem(request)
+                .handle((response, error) -> {
+                    if (error == null) {
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
+                    if (attempt >= MAX_SUMMARY_ATTEMPTS) {
+                        return CompletableFuture.<Void>failedFuture(unwrap(error));
+                    }
+                    if (!(unwrap(error) instanceof ConditionalCheckFailedException)) {
+                        return retrySummaryLater(messages, current, attempt);
+                    }
+                    return dynamoDbAsyncClient.getItem(GetItemRequest.builder()
+                                    .tableName(ChatRoomSummaryDynamoEntity.TABLE_NAME)
+                                    .key(ChatRoomSummaryDynamoEntity.key(messages.get(0).getChatRoomId()))
+                                    .consistentRead(true)
+                                    .build())
+                            .handle((item, readError) -> readError != null
+                                    ? retrySummaryLater(messages, current, attempt)
+                                    : updateSummary(messages, item.hasItem() ? item.item() : Collections.emptyMap(), attempt + 1))
+                            .thenCompose(future -> future);
+                })
+                .thenCompose(future -> future);
+    }
+
+    private CompletableFuture<Void> retrySummaryLater(List<ChatMessage> messages, Map<String, AttributeValue> current, int attempt) {
+        Executor delayed = CompletableFuture.delayedExecutor(RETRY_BACKOFF_MILLIS << (attempt - 1), TimeUnit.MILLISECONDS);
+        return CompletableFuture.runAsync(() -> { }, delayed)
+                .thenCompose(ignored -> updateSummary(messages, current, attempt + 1));
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
@@ -1,86 +1,80 @@
 package ddog.persistence.nosql.adapter;
 
 import ddog.domain.chat.ChatMessage;
-
+import ddog.domain.chat.ChatMessagePage;
 import ddog.domain.chat.port.ChatMessagePersist;
+import ddog.domain.id.SnowflakeIdGenerator;
 import ddog.persistence.nosql.entity.ChatMessageDynamoEntity;
-import lombok.RequiredArgsConstructor;
 import software.amazon.awssdk.enhanced.dynamodb.*;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Repository
-@RequiredArgsConstructor
 public class ChatMessageDynamoRepository implements ChatMessagePersist {
 
-    private final DynamoDbEnhancedClient dynamoDbEnhancedClient;
+    static final String TABLE_NAME = "chat_message";
+    private static final String PARTITION_KEY = "chatRoomId";
+    private static final String SORT_KEY = "timestamp";
 
-    private static final String TABLE_NAME = "chat_message";
+    // 테이블 핸들은 불변이고 스레드 안전하므로 한 번만 만든다
+    private final DynamoDbTable<ChatMessageDynamoEntity> table;
+    private final ChatMessageBatchWriter chatMessageBatchWriter;
 
-    private DynamoDbTable<ChatMessageDynamoEntity> getTable() {
-        return dynamoDbEnhancedClient.table(TABLE_NAME, TableSchema.fromBean(ChatMessageDynamoEntity.class));
+    public ChatMessageDynamoRepository(DynamoDbEnhancedClient dynamoDbEnhancedClient, ChatMessageBatchWriter chatMessageBatchWriter) {
+        this.table = dynamoDbEnhancedClient.table(TABLE_NAME, ChatMessageDynamoEntity.TABLE_SCHEMA);
+        this.chatMessageBatchWriter = chatMessageBatchWriter;
     }
 
+    // 저장 대기열에 넣고 바로 돌아온다, 메시지와 채팅방 요약은 ChatMessageBatchWriter 가 배치로 쓴다
     @Override
     public ChatMessage save(ChatMessage message) {
-        ChatMessageDynamoEntity entity = ChatMessageDynamoEntity.from(message);
-
-        try {
-            getTable().putItem(entity);
-            System.out.println("SAVE SUCCESS");
-
-        } catch (DynamoDbException e) {
-            System.err.println("SAVE FAILED" + e.getMessage());
-            throw e;
-        }
-
+        chatMessageBatchWriter.enqueue(message);
         return message;
     }
 
     @Override
-    public List<ChatMessage> findByChatRoomId(Long chatRoomId) {
+    public ChatMessagePage findByChatRoomId(Long chatRoomId, String cursor, int size) {
         try {
-            QueryEnhancedRequest queryRequest = QueryEnhancedRequest.builder()
+            // 최신 메시지부터 size 개만 읽고, 커서가 있으면 그 메시지 바로 이전부터 이어서 읽는다
+            QueryEnhancedRequest.Builder queryRequest = QueryEnhancedRequest.builder()
                     .queryConditional(QueryConditional.keyEqualTo(Key.builder()
                             .partitionValue(chatRoomId)
                             .build()))
                     .scanIndexForward(false)
-                    .build();
+                    .limit(size);
+            if (cursor != null && !cursor.isEmpty()) {
+                queryRequest.exclusiveStartKey(decodeCursor(chatRoomId, cursor));
+            }
 
-            List<ChatMessage> messages = getTable()
-                    .query(queryRequest)
-                    .items()
+            // items() 는 다음 페이지까지 계속 읽으므로 첫 페이지만 꺼낸다
+            Page<ChatMessageDynamoEntity> page = table.query(queryRequest.build())
                     .stream()
-                    .map(ChatMessageDynamoEntity::toModel)
-                    .collect(Collectors.toList());
-
-            if (messages.isEmpty()) {
-                return Collections.emptyList();
+                    .findFirst()
+                    .orElse(null);
+            if (page == null || page.items().isEmpty()) {
+                return new ChatMessagePage(Collections.emptyList(), null);
             }
 
-            Map<LocalDate, List<ChatMessage>> groupedMessages = messages.stream()
-                    .collect(Collectors.groupingBy(
-                            message -> message.getTimestamp().toLocalDate()
-                    ));
-
-            groupedMessages.forEach((date, messageList) -> {
-                messageList.sort(Comparator.comparing(ChatMessage::getTimestamp));
-            });
-
-            List<ChatMessage> sortedMessages = groupedMessages.entrySet().stream()
-                    .flatMap(entry -> entry.getValue().stream())
-                    .collect(Collectors.toList());
+            List<ChatMessage> messages = new ArrayList<>(page.items().size());
+            for (int i = page.items().size() - 1; i >= 0; i--) {
+                messages.add(page.items().get(i).toModel());
+            }
 
-            return sortedMessages;
+            return new ChatMessagePage(messages, encodeCursor(page.lastEvaluatedKey()));
 
         } catch (DynamoDbException e) {
             System.err.println("FETCH FAILED: " + e.getMessage());
@@ -88,7 +82,6 @@ public class ChatMessageDynamoRepository implements ChatMessagePersist {
         }
     }
 
-
     @Override
     public ChatMessage findLatestMessageByRoomId(Long chatRoomId) {
         try {
@@ -100,7 +93,7 @@ public class ChatMessageDynamoRepository implements ChatMessagePersist {
                     .limit(1)
                     .build();
 
-            return getTable().query(queryRequest)
+            return table.query(queryRequest)
                     .items()
                     .stream()
                     .findFirst()
@@ -111,4 +104,47 @@ public class ChatMessageDynamoRepository implements ChatMessagePersist {
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    // 커서는 마지막으로 읽은 메시지의 ID 만 담는다, 정렬 키는 ID 에 든 시각으로 다시 만들고 파티션 키는 요청의 방 번호로 채운다
+    // ID 가 정렬 키에 없는 이전 메시지에서 끝난 페이지는 정렬 키(timestamp)를 Base64 로 담는다
+    private String encodeCursor(Map<String, AttributeValue> lastEvaluatedKey) {
+        if (lastEvaluatedKey == null || !lastEvaluatedKey.containsKey(SORT_KEY)) return null;
+
+        String sortKey = lastEvaluatedKey.get(SORT_KEY).s();
+        int separator = sortKey.lastIndexOf(ChatMessageDynamoEntity.SORT_KEY_ID_SEPARATOR);
+        if (separator >= 0) {
+            return Long.toString(Long.parseLong(sortKey.substring(separator + 1)));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sortKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 커서는 IllegalArgumentException 으로 400 응답이 된다
+    private Map<String, AttributeValue> decodeCursor(Long chatRoomId, String cursor) {
+        String sortKey;
+        if (isMessageId(cursor)) {
+            sortKey = sortKeyOf(Long.parseLong(cursor));
+        } else {
+            sortKey = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        }
+        return Map.of(
+                PARTITION_KEY, AttributeValue.builder().n(chatRoomId.toString()).build(),
+                SORT_KEY, AttributeValue.builder().s(sortKey).build());
+    }
+
+    // 메시지의 시각은 ID 에서 꺼낸 것이므로 ID 만으로 정렬 키를 다시 만들 수 있다
+    private String sortKeyOf(long messageId) {
+        LocalDateTime timestamp = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(SnowflakeIdGenerator.timestampMillis(messageId)), ZoneId.systemDefault());
+        return ChatMessageDynamoEntity.sortKey(timestamp, messageId);
+    }
+
+    // Base64 로 담은 ISO 시각은 "MjA" 로 시작하므로 숫자만으로 된 커서와 겹치지 않는다
+    private boolean isMessageId(String cursor) {
+        if (cursor.length() > 19) return false;
+        for (int i = 0; i < cursor.length(); i++) {
+            char c = cursor.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return true;
+    }
+}
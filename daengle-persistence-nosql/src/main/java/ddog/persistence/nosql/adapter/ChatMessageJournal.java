@@ -0,0 +1,252 @@
+package ddog.persistence.nosql.adapter;
+
+import ddog.domain.chat.ChatMessage;
+import ddog.domain.chat.enums.ChatType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+// 저장 대기열에 넣기 전에 메시지를 로컬 파일(세그먼트)에 한 줄씩 덧붙이고 fsync 한다, 프로세스가 죽어도 다음 시작 때 다시 읽어 저장한다
+// fsync 는 여러 요청 스레드가 한 번에 묶어 한다 (먼저 들어온 스레드가 그때까지 쓴 줄을 모두 내려보낸다)
+// 세그먼트는 maxSegmentMessages 줄마다 새로 열고, 닫힌 세그먼트의 메시지가 모두 끝나면 (저장 또는 실패 파일로 옮김) 지운다
+// 줄 형식: messageId \t chatRoomId \t messageType \t senderId \t recipientId \t timestamp \t Base64(content), null 은 빈 칸
+@Slf4j
+class ChatMessageJournal {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String DEAD_LETTER_FILE = "dead-letter.log";
+    private static final char FIELD_SEPARATOR = '\t';
+
+    private final Path directory;
+    private final int maxSegmentMessages;
+    private final Object syncLock = new Object();
+
+    private long nextSegmentIndex;
+    private Segment current;
+    private long appendedSequence;
+    private long syncedSequence;
+
+    ChatMessageJournal(Path directory, int maxSegmentMessages) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxSegmentMessages = maxSegmentMessages;
+    }
+
+    // 이전 프로세스가 남긴 세그먼트를 순서대로 읽는다, 줄바꿈까지 쓰지 못한 마지막 줄은 응답하지 않은 메시지이므로 건너뛴다
+    // 이미 DynamoDB 에 쓰인 메시지가 섞여 있어도 같은 키로 덮어쓰므로 다시 저장해도 된다
+    synchronized List<Entry> recover() throws IOException {
+        List<Path> segmentFiles;
+        try (Stream<Path> files = Files.list(directory)) {
+            segmentFiles = files.filter(file -> segmentIndex(file) >= 0)
+                    .sorted(Comparator.comparingLong(ChatMessageJournal::segmentIndex))
+                    .toList();
+        }
+
+        List<Entry> recovered = new ArrayList<>();
+        for (Path file : segmentFiles) {
+            nextSegmentIndex = Math.max(nextSegmentIndex, segmentIndex(file) + 1);
+
+            Segment segment = new Segment(file, null);
+            String text = Files.readString(file, StandardCharsets.UTF_8);
+            String[] lines = text.substring(0, text.lastIndexOf('\n') + 1).split("\n");
+            for (String line : lines) {
+                if (line.isEmpty()) continue;
+                ChatMessage message = parse(line);
+                if (message == null) {
+                    log.warn("채팅 메시지 저널에서 읽을 수 없는 줄을 건너뜁니다. file={}", file);
+                    continue;
+                }
+                segment.outstanding.incrementAndGet();
+                recovered.add(new Entry(message, segment, 0));
+            }
+            segment.close();
+        }
+        return recovered;
+    }
+
+    // 돌아온 항목의 sequence 까지 sync 해야 디스크에 남는다
+    synchronized Entry append(ChatMessage message) throws IOException {
+        if (current == null) {
+            Path file = directory.resolve(SEGMENT_PREFIX + String.format("%019d", nextSegmentIndex++) + SEGMENT_SUFFIX);
+            current = new Segment(file, FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+        }
+
+        ByteBuffer line = ByteBuffer.wrap(format(message).getBytes(StandardCharsets.UTF_8));
+        try {
+            while (line.hasRemaining()) {
+                current.channel.write(line);
+            }
+        } catch (IOException e) {
+            // 반쯤 쓴 줄 뒤에 다음 메시지를 이어 쓰지 않도록 이 세그먼트는 닫고 다음 메시지부터 새 파일에 쓴다
+            Segment failed = current;
+            current = null;
+            try {
+                failed.channel.force(false);
+            } finally {
+                failed.close();
+            }
+            throw e;
+        }
+        current.outstanding.incrementAndGet();
+        current.lines++;
+        return new Entry(message, current, ++appendedSequence);
+    }
+
+    void sync(long sequence) throws IOException {
+        synchronized (syncLock) {
+            if (syncedSequence >= sequence) return;
+
+            Segment segment;
+            long target;
+            synchronized (this) {
+                segment = current;
+                target = appendedSequence;
+            }
+            // 닫힌 세그먼트는 닫기 전에 force 했다
+            if (segment != null) {
+                segment.channel.force(false);
+            }
+            syncedSequence = target;
+
+            // 세그먼트는 sync 를 마친 뒤에만 바꾸므로 force 하는 동안 채널이 닫히지 않는다
+            synchronized (this) {
+                if (segment != null && current == segment && segment.lines >= maxSegmentMessages) {
+                    current = null;
+                    segment.close();
+                }
+            }
+        }
+    }
+
+    // 다시 보내도 저장하지 못한 메시지는 실패 파일에 옮겨 두고 운영자가 다시 넣는다
+    synchronized void deadLetter(List<ChatMessage> messages) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (ChatMessage message : messages) {
+            lines.append(format(message));
+        }
+        try (FileChannel channel = FileChannel.open(directory.resolve(DEAD_LETTER_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    void close() throws IOException {
+        synchronized (syncLock) {
+            synchronized (this) {
+                if (current != null) {
+                    current.channel.force(false);
+                    current.close();
+                    current = null;
+                }
+                syncedSequence = appendedSequence;
+            }
+        }
+    }
+
+    private static long segmentIndex(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) return -1;
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    static String format(ChatMessage message) {
+        StringJoiner line = new StringJoiner(String.valueOf(FIELD_SEPARATOR), "", "\n");
+        line.add(text(message.getMessageId()));
+        line.add(text(message.getChatRoomId()));
+        line.add(message.getMessageType() != null ? message.getMessageType().name() : "");
+        line.add(text(message.getSenderId()));
+        line.add(text(message.getRecipientId()));
+        line.add(message.getTimestamp() != null ? message.getTimestamp().toString() : "");
+        line.add(message.getContent() != null
+                ? Base64.getEncoder().encodeToString(message.getContent().getBytes(StandardCharsets.UTF_8)) : "");
+        return line.toString();
+    }
+
+    static ChatMessage parse(String line) {
+        String[] fields = line.split(String.valueOf(FIELD_SEPARATOR), -1);
+        if (fields.length != 7) return null;
+        try {
+            return ChatMessage.builder()
+                    .messageId(longValue(fields[0]))
+                    .chatRoomId(longValue(fields[1]))
+                    .messageType(fields[2].isEmpty() ? null : ChatType.valueOf(fields[2]))
+                    .senderId(longValue(fields[3]))
+                    .recipientId(longValue(fields[4]))
+                    .timestamp(fields[5].isEmpty() ? null : LocalDateTime.parse(fields[5]))
+                    .content(fields[6].isEmpty() ? null : new String(Base64.getDecoder().decode(fields[6]), StandardCharsets.UTF_8))
+                    .build();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String text(Long value) {
+        return value != null ? value.toString() : "";
+    }
+
+    private static Long longValue(String text) {
+        return text.isEmpty() ? null : Long.valueOf(text);
+    }
+
+    record Entry(ChatMessage message, Segment segment, long sequence) {
+
+        // 저장했거나 실패 파일로 옮긴 뒤에 부른다
+        void complete() {
+            segment.complete();
+        }
+    }
+
+    static class Segment {
+
+        private final Path file;
+        private final FileChannel channel;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private int lines;
+        private volatile boolean closed;
+
+        private Segment(Path file, FileChannel channel) {
+            this.file = file;
+            this.channel = channel;
+        }
+
+        private void complete() {
+            if (outstanding.decrementAndGet() == 0 && closed) {
+                delete();
+            }
+        }
+
+        private void close() throws IOException {
+            if (channel != null) {
+                channel.close();
+            }
+            closed = true;
+            if (outstanding.get() == 0) {
+                delete();
+            }
+        }
+
+        private void delete() {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("채팅 메시지 저널 세그먼트를 지우지 못했습니다. file={}", file, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package ddog.persistence.nosql.adapter;
+
+import ddog.domain.chat.ChatRoomSummary;
+import ddog.domain.chat.port.ChatRoomSummaryPersist;
+import ddog.persistence.nosql.entity.ChatRoomSummaryDynamoEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+import java.util.*;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ChatRoomSummaryDynamoRepository implements ChatRoomSummaryPersist {
+
+    private static final int MAX_BATCH_GET_KEYS = 100; // BatchGetItem 한 번에 읽을 수 있는 최대 키 수
+    private static final int MAX_UNPROCESSED_RETRIES = 5;
+    private static final long RETRY_BACKOFF_MILLIS = 20;
+
+    private final DynamoDbClient dynamoDbClient;
+
+    // 방 100개마다 BatchGetItem 한 번, 처리되지 않은 키는 잠깐 쉬었다가 다시 요청한다
+    @Override
+    public List<ChatRoomSummary> findByChatRoomIds(List<Long> chatRoomIds) {
+        List<Long> distinctIds = chatRoomIds.stream().distinct().toList();
+        List<ChatRoomSummary> summaries = new ArrayList<>(distinctIds.size());
+
+        try {
+            for (int from = 0; from < distinctIds.size(); from += MAX_BATCH_GET_KEYS) {
+                List<Map<String, AttributeValue>> keys = distinctIds.subList(from, Math.min(from + MAX_BATCH_GET_KEYS, distinctIds.size()))
+                        .stream()
+                        .map(ChatRoomSummaryDynamoEntity::key)
+                        .toList();
+
+                Map<String, KeysAndAttributes> requestItems = Map.of(ChatRoomSummaryDynamoEntity.TABLE_NAME,
+                        KeysAndAttributes.builder().keys(keys).build());
+                for (int attempt = 0; !requestItems.isEmpty(); attempt++) {
+                    if (attempt > MAX_UNPROCESSED_RETRIES) {
+                        throw new IllegalStateException("채팅방 요약 조회가 제한되어 일부를 읽지 못했습니다.");
+                    }
+                    if (attempt > 0) {
+                        Thread.sleep(RETRY_BACKOFF_MILLIS << attempt);
+                    }
+
+                    BatchGetItemResponse response = dynamoDbClient.batchGetItem(BatchGetItemRequest.builder()
+                            .requestItems(requestItems)
+                            .build());
+                    response.responses().getOrDefault(ChatRoomSummaryDynamoEntity.TABLE_NAME, Collections.emptyList())
+                            .forEach(item -> summaries.add(ChatRoomSummaryDynamoEntity.toModel(item)));
+                    requestItems = response.unprocessedKeys();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("채팅방 요약 조회가 중단되었습니다.", e);
+        } catch (DynamoDbException e) {
+            log.error("채팅방 요약 {}개 조회 실패", distinctIds.size(), e);
+            throw e;
+        }
+
+        return summaries;
+    }
+
+    // 요약이 생기기 전의 방을 채울 때만 쓴다, 그 사이 메시지 저장으로 요약이 생겼으면 그대로 둔다
+    @Override
+    public void saveIfAbsent(ChatRoomSummary summary) {
+        try {
+            dynamoDbClient.putItem(PutItemRequest.builder()
+                    .tableName(ChatRoomSummaryDynamoEntity.TABLE_NAME)
+                    .item(ChatRoomSummaryDynamoEntity.from(summary))
+                    .conditionExpression("attribute_not_exists(" + ChatRoomSummaryDynamoEntity.PARTITION_KEY + ")")
+                    .build());
+        } catch (ConditionalCheckFailedException ignored) {
+        } catch (DynamoDbException e) {
+            log.error("채팅방 요약 저장 실패 chatRoomId={}", summary.getChatRoomId(), e);
+            throw e;
+        }
+    }
+
+    // 마지막 메시지까지 읽었으면 안 읽은 수를 0 으로, 아니면 커서만 앞당긴다
+    // 커서가 이미 더 앞이거나 요약이 없는 방이면 조건에 걸려 아무것도 바꾸지 않는다
+    @Override
+    public void markRead(Long chatRoomId, Long accountId, Long messageId) {
+        try {
+            try {
+                dynamoDbClient.updateItem(ChatRoomSummaryDynamoEntity.readToEndUpdate(chatRoomId, accountId, messageId));
+            } catch (ConditionalCheckFailedException e) {
+                dynamoDbClient.updateItem(ChatRoomSummaryDynamoEntity.readUpdate(chatRoomId, accountId, messageId));
+            }
+        } catch (ConditionalCheckFailedException ignored) {
+        } catch (DynamoDbException e) {
+            log.error("읽음 커서 갱신 실패 chatRoomId={}, accountId={}, messageId={}", chatRoomId, accountId, messageId, e);
+            throw e;
+        }
+    }
+}
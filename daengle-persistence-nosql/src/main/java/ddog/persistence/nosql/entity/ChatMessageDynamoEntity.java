@@ -3,55 +3,79 @@ package ddog.persistence.nosql.entity;
 import ddog.domain.chat.ChatMessage;
 import ddog.domain.chat.enums.ChatType;
 import lombok.*;
-import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
-import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
-import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primarySortKey;
+
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@DynamoDbBean
 @Data
 public class ChatMessageDynamoEntity {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    public static final char SORT_KEY_ID_SEPARATOR = '#';
+
+    // 리플렉션 없이 getter/setter 를 직접 연결한 스키마, 속성 이름과 형식은 기존 빈 매핑과 같다
+    public static final TableSchema<ChatMessageDynamoEntity> TABLE_SCHEMA = StaticTableSchema.builder(ChatMessageDynamoEntity.class)
+            .newItemSupplier(ChatMessageDynamoEntity::new)
+            .addAttribute(Long.class, a -> a.name("chatRoomId")
+                    .getter(ChatMessageDynamoEntity::getChatRoomId)
+                    .setter(ChatMessageDynamoEntity::setChatRoomId)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, a -> a.name("timestamp")
+                    .getter(ChatMessageDynamoEntity::getTimestamp)
+                    .setter(ChatMessageDynamoEntity::setTimestamp)
+                    .tags(primarySortKey()))
+            .addAttribute(Long.class, a -> a.name("timestampNanos")
+                    .getter(ChatMessageDynamoEntity::getTimestampNanos)
+                    .setter(ChatMessageDynamoEntity::setTimestampNanos))
+            .addAttribute(Long.class, a -> a.name("messageId")
+                    .getter(ChatMessageDynamoEntity::getMessageId)
+                    .setter(ChatMessageDynamoEntity::setMessageId))
+            .addAttribute(String.class, a -> a.name("messageType")
+                    .getter(entity -> entity.getMessageType() != null ? entity.getMessageType().name() : null)
+                    .setter((entity, messageType) -> entity.setMessageType(messageType != null ? ChatType.valueOf(messageType) : null)))
+            .addAttribute(Long.class, a -> a.name("senderId")
+                    .getter(ChatMessageDynamoEntity::getSenderId)
+                    .setter(ChatMessageDynamoEntity::setSenderId))
+            .addAttribute(Long.class, a -> a.name("recipientId")
+                    .getter(ChatMessageDynamoEntity::getRecipientId)
+                    .setter(ChatMessageDynamoEntity::setRecipientId))
+            .addAttribute(String.class, a -> a.name("content")
+                    .getter(ChatMessageDynamoEntity::getContent)
+                    .setter(ChatMessageDynamoEntity::setContent))
+            .build();
+
     private Long messageId;
     private Long chatRoomId;
     private ChatType messageType;
     private Long senderId;
     private Long recipientId;
-    private String timestamp;
+    private String timestamp; // 정렬 키 "<ISO 시각>#<19자리 메시지 ID>", 기존 데이터(ISO 시각만)와 같은 순서로 섞이도록 시각을 앞에 둔다
+    private Long timestampNanos; // 읽을 때 파싱하지 않도록 같은 시각을 1970-01-01T00:00 부터의 나노초로 함께 저장한다
     private String content;
 
-    @DynamoDbSortKey
-    public String getTimestamp() {
-        return timestamp;
-    }
-
-    @DynamoDbPartitionKey
-    public Long getChatRoomId() {
-        return chatRoomId;
-    }
-
     public ChatMessage toModel() {
-
-        DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
-        LocalDateTime parsedTimestamp = LocalDateTime.parse(timestamp, formatter);
-
         return ChatMessage.builder()
                 .chatRoomId(chatRoomId)
                 .messageId(messageId)
                 .messageType(messageType)
                 .senderId(senderId)
                 .recipientId(recipientId)
-                .timestamp(parsedTimestamp)
+                .timestamp(toLocalDateTime())
                 .content(content)
                 .build();
     }
 
     public static ChatMessageDynamoEntity from(ChatMessage message) {
-        DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+        LocalDateTime timestamp = message.getTimestamp();
 
         return ChatMessageDynamoEntity.builder()
                 .chatRoomId(message.getChatRoomId())
@@ -59,8 +83,32 @@ public class ChatMessageDynamoEntity {
                 .messageType(message.getMessageType())
                 .senderId(message.getSenderId())
                 .recipientId(message.getRecipientId())
-                .timestamp(message.getTimestamp().format(formatter))
+                .timestamp(sortKey(timestamp, message.getMessageId()))
+                .timestampNanos(toNanos(timestamp))
                 .content(message.getContent())
                 .build();
     }
+
+    // 같은 시각에 보낸 메시지도 ID 로 구분되어 서로 덮어쓰지 않는다
+    // '#' 은 숫자와 '.' 보다 앞이라 소수 자릿수가 다른 시각끼리도 문자열 순서가 시간 순서와 같다
+    public static String sortKey(LocalDateTime timestamp, long messageId) {
+        return timestamp.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + SORT_KEY_ID_SEPARATOR + String.format("%019d", messageId);
+    }
+
+    // timestampNanos 가 없는 이전 메시지만 문자열을 파싱한다
+    private LocalDateTime toLocalDateTime() {
+        if (timestampNanos == null) {
+            return LocalDateTime.parse(timestamp, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        }
+        return fromNanos(timestampNanos);
+    }
+
+    static long toNanos(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * NANOS_PER_SECOND + dateTime.getNano();
+    }
+
+    static LocalDateTime fromNanos(long nanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND),
+                (int) Math.floorMod(nanos, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
 }
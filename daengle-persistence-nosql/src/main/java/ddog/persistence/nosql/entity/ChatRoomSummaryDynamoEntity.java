@@ -0,0 +1,216 @@
+package ddog.persistence.nosql.entity;
+
+import ddog.domain.chat.ChatMessage;
+import ddog.domain.chat.ChatRoomActivity;
+import ddog.domain.chat.ChatRoomSummary;
+import ddog.domain.chat.enums.ChatType;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 채팅방 요약 항목 (chat_room_summary, 파티션 키 chatRoomId)
+// 읽음 커서(마지막으로 읽은 메시지 ID)는 참여자마다 "lastRead_<accountId>", 안 읽은 수는 "unreadCount_<accountId>" 속성에 두어
+// 맵 초기화 없이 SET / ADD 한 번으로 바꾼다, 예전에 쓰던 "unread_<accountId>" 속성은 읽지 않는다
+// 속성 이름이 동적이라 빈 스키마 대신 속성 맵을 직접 다룬다
+public class ChatRoomSummaryDynamoEntity {
+
+    public static final String TABLE_NAME = "chat_room_summary";
+    public static final String PARTITION_KEY = "chatRoomId";
+
+    private static final String LAST_MESSAGE_ID = "lastMessageId";
+    private static final String LAST_MESSAGE = "lastMessage";
+    private static final String LAST_MESSAGE_TYPE = "lastMessageType";
+    private static final String LAST_SENDER_ID = "lastSenderId";
+    private static final String LAST_MESSAGE_TIME_NANOS = "lastMessageTimeNanos";
+    private static final String LAST_READ_PREFIX = "lastRead_";
+    private static final String UNREAD_COUNT_PREFIX = "unreadCount_";
+
+    private ChatRoomSummaryDynamoEntity() {
+    }
+
+    public static Map<String, AttributeValue> key(Long chatRoomId) {
+        return Map.of(PARTITION_KEY, number(chatRoomId));
+    }
+
+    public static String lastReadAttribute(Long accountId) {
+        return LAST_READ_PREFIX + accountId;
+    }
+
+    public static String unreadCountAttribute(Long accountId) {
+        return UNREAD_COUNT_PREFIX + accountId;
+    }
+
+    // 방의 마지막 메시지까지 읽었으면 커서를 앞당기고 안 읽은 수를 0 으로 한다
+    // 커서는 앞으로만 간다, 요약이 없는 방에 읽음 정보만 있는 항목이 생기지 않도록 있을 때만 갱신한다
+    public static UpdateItemRequest readToEndUpdate(Long chatRoomId, Long accountId, Long messageId) {
+        return UpdateItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(key(chatRoomId))
+                .updateExpression("SET #lastRead = :messageId, #unread = :zero")
+                .conditionExpression("attribute_exists(" + PARTITION_KEY + ") AND (attribute_not_exists(#lastRead) OR #lastRead < :messageId)"
+                        + " AND (attribute_not_exists(" + LAST_MESSAGE_ID + ") OR " + LAST_MESSAGE_ID + " <= :messageId)")
+                .expressionAttributeNames(Map.of("#lastRead", lastReadAttribute(accountId), "#unread", unreadCountAttribute(accountId)))
+                .expressionAttributeValues(Map.of(":messageId", number(messageId), ":zero", number(0L)))
+                .build();
+    }
+
+    // 마지막 메시지보다 앞까지만 읽었으면 커서만 앞당긴다, 커서와 마지막 메시지 사이의 수를 모르므로 안 읽은 수는 그대로 둔다
+    public static UpdateItemRequest readUpdate(Long chatRoomId, Long accountId, Long messageId) {
+        return UpdateItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(key(chatRoomId))
+                .updateExpression("SET #lastRead = :messageId")
+                .conditionExpression("attribute_exists(" + PARTITION_KEY + ") AND (attribute_not_exists(#lastRead) OR #lastRead < :messageId)")
+                .expressionAttributeNames(Map.of("#lastRead", lastReadAttribute(accountId)))
+                .expressionAttributeValues(Map.of(":messageId", number(messageId)))
+                .build();
+    }
+
+    // 배치로 저장한 메시지를 UpdateItem 한 번으로 반영한다, 요약이 없으면 새로 만든다
+    // - 마지막 메시지: 먼저 보낸 배치가 늦게 끝나도 되돌아가지 않도록 더 최신일 때만 바꾼다
+    // - 안 읽은 수: ADD 로 더하고, 보낸 사람은 커서를 보낸 메시지까지 앞당기며 SET 으로 다시 정한다
+    // current 가 null 이면 모든 커서가 배치의 메시지보다 앞선다고 보고 조건으로 확인한다 (대부분 그렇다)
+    // 조건에 걸리면 요약을 읽어 current 로 다시 만든다, 이때는 커서가 읽은 값 그대로일 때만 쓴다
+    // 바꿀 것이 없으면 null
+    public static UpdateItemRequest activityUpdate(ChatRoomActivity activity, Map<String, AttributeValue> current) {
+        Map<String, String> names = new HashMap<>();
+        Map<String, AttributeValue> values = new HashMap<>();
+        List<String> sets = new ArrayList<>();
+        List<String> adds = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+
+        ChatMessage lastMessage = activity.getLastMessage();
+        long time = ChatMessageDynamoEntity.toNanos(lastMessage.getTimestamp());
+        AttributeValue currentTime = current != null ? current.get(LAST_MESSAGE_TIME_NANOS) : null;
+        if (currentTime == null || currentTime.n() == null || Long.parseLong(currentTime.n()) <= time) {
+            values.put(":messageId", number(lastMessage.getMessageId()));
+            values.put(":content", string(lastMessage.getContent()));
+            values.put(":type", string(lastMessage.getMessageType() != null ? lastMessage.getMessageType().name() : null));
+            values.put(":sender", number(lastMessage.getSenderId()));
+            values.put(":time", number(time));
+            sets.add(LAST_MESSAGE_ID + " = :messageId");
+            sets.add(LAST_MESSAGE + " = :content");
+            sets.add(LAST_MESSAGE_TYPE + " = :type");
+            sets.add(LAST_SENDER_ID + " = :sender");
+            sets.add(LAST_MESSAGE_TIME_NANOS + " = :time");
+            conditions.add("(attribute_not_exists(" + LAST_MESSAGE_TIME_NANOS + ") OR " + LAST_MESSAGE_TIME_NANOS + " <= :time)");
+        }
+
+        for (Long accountId : activity.participantIds()) {
+            String lastRead = "#lastRead_" + accountId;
+            String unread = "#unread_" + accountId;
+            names.put(lastRead, lastReadAttribute(accountId));
+
+            // 쓰지 않는 이름을 넘기면 요청이 거절되므로 바꿀 때만 넣는다
+            Long moved = activity.getMovedReadMessageIds().get(accountId);
+            Integer increment = activity.getUnreadIncrements().get(accountId);
+            if (moved != null || (increment != null && increment > 0)) {
+                names.put(unread, unreadCountAttribute(accountId));
+            }
+            if (moved != null) {
+                values.put(":lastRead_" + accountId, number(moved));
+                values.put(":unread_" + accountId, number(activity.getUnreadResets().get(accountId).longValue()));
+                sets.add(lastRead + " = :lastRead_" + accountId);
+                sets.add(unread + " = :unread_" + accountId);
+            }
+            if (increment != null && increment > 0) {
+                values.put(":add_" + accountId, number(increment.longValue()));
+                adds.add(unread + " :add_" + accountId);
+            }
+
+            if (current == null) {
+                values.put(":oldest_" + accountId, number(activity.getOldestMessageIds().get(accountId)));
+                conditions.add("(attribute_not_exists(" + lastRead + ") OR " + lastRead + " < :oldest_" + accountId + ")");
+            } else if (current.get(lastReadAttribute(accountId)) != null) {
+                values.put(":seen_" + accountId, current.get(lastReadAttribute(accountId)));
+                conditions.add(lastRead + " = :seen_" + accountId);
+            } else {
+                conditions.add("attribute_not_exists(" + lastRead + ")");
+            }
+        }
+
+        if (sets.isEmpty() && adds.isEmpty()) return null;
+
+        String expression = (sets.isEmpty() ? "" : "SET " + String.join(", ", sets))
+                + (adds.isEmpty() ? "" : (sets.isEmpty() ? "" : " ") + "ADD " + String.join(", ", adds));
+        return UpdateItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(key(activity.getChatRoomId()))
+                .updateExpression(expression)
+                .conditionExpression(String.join(" AND ", conditions))
+                .expressionAttributeNames(names)
+                .expressionAttributeValues(values)
+                .build();
+    }
+
+    public static Map<Long, Long> lastReadMessageIds(Map<String, AttributeValue> item) {
+        Map<Long, Long> lastReadMessageIds = new HashMap<>();
+        item.forEach((name, value) -> {
+            if (name.startsWith(LAST_READ_PREFIX) && value.n() != null) {
+                lastReadMessageIds.put(Long.parseLong(name.substring(LAST_READ_PREFIX.length())), Long.parseLong(value.n()));
+            }
+        });
+        return lastReadMessageIds;
+    }
+
+    public static Map<String, AttributeValue> from(ChatRoomSummary summary) {
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put(PARTITION_KEY, number(summary.getChatRoomId()));
+        if (summary.getLastMessageTime() != null) {
+            item.put(LAST_MESSAGE_ID, number(summary.getLastMessageId()));
+            item.put(LAST_MESSAGE, string(summary.getLastMessage()));
+            item.put(LAST_MESSAGE_TYPE, string(summary.getLastMessageType() != null ? summary.getLastMessageType().name() : null));
+            item.put(LAST_SENDER_ID, number(summary.getLastSenderId()));
+            item.put(LAST_MESSAGE_TIME_NANOS, number(ChatMessageDynamoEntity.toNanos(summary.getLastMessageTime())));
+        }
+        if (summary.getLastReadMessageIds() != null) {
+            summary.getLastReadMessageIds().forEach((accountId, messageId) -> item.put(lastReadAttribute(accountId), number(messageId)));
+        }
+        if (summary.getUnreadCounts() != null) {
+            summary.getUnreadCounts().forEach((accountId, count) -> item.put(unreadCountAttribute(accountId), number(count.longValue())));
+        }
+        return item;
+    }
+
+    public static ChatRoomSummary toModel(Map<String, AttributeValue> item) {
+        Map<Long, Integer> unreadCounts = new HashMap<>();
+        item.forEach((name, value) -> {
+            if (name.startsWith(UNREAD_COUNT_PREFIX) && value.n() != null) {
+                unreadCounts.put(Long.parseLong(name.substring(UNREAD_COUNT_PREFIX.length())), Integer.parseInt(value.n()));
+            }
+        });
+
+        AttributeValue lastMessageType = item.get(LAST_MESSAGE_TYPE);
+        AttributeValue lastMessageTime = item.get(LAST_MESSAGE_TIME_NANOS);
+        return ChatRoomSummary.builder()
+                .chatRoomId(longValue(item.get(PARTITION_KEY)))
+                .lastMessageId(longValue(item.get(LAST_MESSAGE_ID)))
+                .lastMessage(stringValue(item.get(LAST_MESSAGE)))
+                .lastMessageType(lastMessageType != null && lastMessageType.s() != null ? ChatType.valueOf(lastMessageType.s()) : null)
+                .lastSenderId(longValue(item.get(LAST_SENDER_ID)))
+                .lastMessageTime(lastMessageTime != null ? ChatMessageDynamoEntity.fromNanos(Long.parseLong(lastMessageTime.n())) : null)
+                .lastReadMessageIds(lastReadMessageIds(item))
+                .unreadCounts(unreadCounts)
+                .build();
+    }
+
+    private static AttributeValue number(Long value) {
+        return value != null ? AttributeValue.builder().n(value.toString()).build() : AttributeValue.builder().nul(true).build();
+    }
+
+    private static AttributeValue string(String value) {
+        return value != null ? AttributeValue.builder().s(value).build() : AttributeValue.builder().nul(true).build();
+    }
+
+    private static Long longValue(AttributeValue value) {
+        return value != null && value.n() != null ? Long.valueOf(value.n()) : null;
+    }
+
+    private static String stringValue(AttributeValue value) {
+        return value != null ? value.s() : null;
+    }
+}
@@ -0,0 +1,190 @@
+import ddog.domain.chat.ChatMessage;
+import ddog.domain.chat.enums.ChatType;
+import ddog.persistence.nosql.adapter.ChatMessageBatchWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 저널에 남긴 메시지는 다음 시작 때 다시 저장하고, 끝난 세그먼트는 지우고, 끝내 저장하지 못한 배치는 실패 파일로 옮겨야 한다
+public class ChatMessageBatchWriterTest {
+
+    private static final long WAIT_MILLIS = 15_000;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 12, 1, 10, 0);
+
+    @TempDir
+    Path journalDir;
+
+    private final List<ChatMessageBatchWriter> writers = new ArrayList<>();
+    private final List<Long> writtenIds = new CopyOnWriteArrayList<>();
+    private DynamoDbAsyncClient dynamoDbAsyncClient;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        dynamoDbAsyncClient = mock(DynamoDbAsyncClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(dynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            request.requestItems().values().forEach(requests -> requests.forEach(write ->
+                    writtenIds.add(Long.valueOf(write.putRequest().item().get("messageId").n()))));
+            return CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build());
+        });
+        when(dynamoDbAsyncClient.updateItem(any(UpdateItemRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(UpdateItemResponse.builder().build()));
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        for (ChatMessageBatchWriter writer : writers) {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    public void testRelativeJournalDirIsRejected() {
+        Assertions.assertThrows(IllegalStateException.class, () -> new ChatMessageBatchWriter(dynamoDbAsyncClient, meterRegistry,
+                100, 2, 1, 100, "chat-journal", 100));
+    }
+
+    @Test
+    public void testJournaledMessagesAreWrittenAfterRestart() throws Exception {
+        // 저장 요청이 끝나지 않은 채 프로세스가 죽은 것과 같다 (shutdown 하지 않는다)
+        DynamoDbAsyncClient stuckClient = mock(DynamoDbAsyncClient.class);
+        when(stuckClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(new CompletableFuture<>());
+        ChatMessageBatchWriter crashed = new ChatMessageBatchWriter(stuckClient, new SimpleMeterRegistry(),
+                100, 2, 1, 100, journalDir.toString(), 100);
+        crashed.enqueue(message(1L));
+        crashed.enqueue(message(2L));
+
+        // 줄바꿈까지 쓰지 못한 마지막 줄은 응답하지 않은 메시지이므로 다시 저장하지 않는다
+        Path segment = segmentFiles().get(0);
+        Files.writeString(segment, "3\t1\tTEXT_MESSAGE", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        writer(100);
+
+        await(() -> writtenIds.containsAll(List.of(1L, 2L)));
+        await(() -> !Files.exists(segment));
+        Assertions.assertFalse(writtenIds.contains(3L));
+    }
+
+    @Test
+    public void testSegmentsAreDeletedOnceWritten() throws Exception {
+        ChatMessageBatchWriter writer = writer(2);
+        for (long id = 1; id <= 5; id++) {
+            writer.enqueue(message(id));
+        }
+
+        await(() -> writtenIds.size() == 5);
+        // 가득 차 닫힌 세그먼트는 지우고 아직 쓰는 세그먼트 하나만 남는다
+        await(() -> segmentFiles().size() <= 1);
+
+        writer.shutdown();
+        writers.remove(writer);
+        Assertions.assertTrue(segmentFiles().isEmpty());
+    }
+
+    @Test
+    public void testFailedBatchIsMovedToDeadLetter() throws Exception {
+        when(dynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(DynamoDbException.builder().message("쓰기 실패").build()));
+        ChatMessageBatchWriter writer = writer(100);
+        writer.enqueue(message(1L));
+        writer.enqueue(message(2L));
+
+        Path deadLetter = journalDir.resolve("dead-letter.log");
+        await(() -> deadLetterIds(deadLetter).size() == 2);
+        Assertions.assertEquals(List.of("1", "2"), deadLetterIds(deadLetter));
+        Assertions.assertEquals(2, meterRegistry.counter("chat.message.write.failed").count());
+
+        writer.shutdown();
+        writers.remove(writer);
+        Assertions.assertTrue(segmentFiles().isEmpty(), "실패 파일로 옮긴 메시지가 저널에 남았습니다.");
+    }
+
+    @Test
+    public void testSummaryUpdateIsRetriedAfterTransientError() throws Exception {
+        AtomicInteger updates = new AtomicInteger();
+        when(dynamoDbAsyncClient.updateItem(any(UpdateItemRequest.class))).thenAnswer(invocation -> updates.incrementAndGet() == 1
+                ? CompletableFuture.failedFuture(ProvisionedThroughputExceededException.builder().message("처리량 초과").build())
+                : CompletableFuture.completedFuture(UpdateItemResponse.builder().build()));
+        ChatMessageBatchWriter writer = writer(100);
+        writer.enqueue(message(1L));
+
+        await(() -> updates.get() == 2);
+        writer.shutdown();
+        writers.remove(writer);
+        Assertions.assertEquals(0, meterRegistry.counter("chat.summary.update.failed").count());
+        Assertions.assertEquals(0, meterRegistry.counter("chat.message.write.failed").count());
+    }
+
+    private ChatMessageBatchWriter writer(int segmentMessages) throws Exception {
+        ChatMessageBatchWriter writer = new ChatMessageBatchWriter(dynamoDbAsyncClient, meterRegistry,
+                100, 2, 1, 100, journalDir.toString(), segmentMessages);
+        writers.add(writer);
+        return writer;
+    }
+
+    private static ChatMessage message(Long messageId) {
+        return ChatMessage.builder()
+                .chatRoomId(1L)
+                .messageId(messageId)
+                .messageType(ChatType.TEXT_MESSAGE)
+                .senderId(10L)
+                .recipientId(20L)
+                .timestamp(BASE_TIME.plusSeconds(messageId))
+                .content("메시지 " + messageId)
+                .build();
+    }
+
+    private List<Path> segmentFiles() {
+        try (Stream<Path> files = Files.list(journalDir)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("segment-")).toList();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<String> deadLetterIds(Path deadLetter) {
+        try {
+            if (!Files.exists(deadLetter)) return List.of();
+            return Files.readAllLines(deadLetter, StandardCharsets.UTF_8).stream()
+                    .map(line -> line.substring(0, line.indexOf('\t')))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                Assertions.fail("시간 안에 조건을 만족하지 못했습니다.");
+            }
+            Thread.sleep(20);
+        }
+    }
+}
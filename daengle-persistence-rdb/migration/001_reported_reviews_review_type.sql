@@ -0,0 +1,27 @@
+-- 신고된 리뷰를 (review_type, reported_review_id) 로 구분한다
+-- 배포 전에 한 번 실행한다, reporter_id 는 미용사 앱에서 신고했으면 groomer_id, 병원 앱에서 신고했으면 vet_id 다
+
+ALTER TABLE reported_reviews ADD COLUMN review_type ENUM ('CARE', 'GROOMING') NULL;
+
+-- 신고자가 리뷰의 대상이고 작성자도 같은 쪽으로 정한다
+UPDATE reported_reviews r
+    JOIN grooming_reviews g ON g.grooming_review_id = r.reported_review_id
+        AND g.groomer_id = r.reporter_id
+        AND g.reviewer_id = r.reviewer_id
+SET r.review_type = 'GROOMING'
+WHERE r.review_type IS NULL;
+
+UPDATE reported_reviews r
+    JOIN care_reviews c ON c.care_review_id = r.reported_review_id
+        AND c.vet_id = r.reporter_id
+        AND c.reviewer_id = r.reviewer_id
+SET r.review_type = 'CARE'
+WHERE r.review_type IS NULL;
+
+-- 양쪽 모두 맞지 않는 행 (리뷰가 지워졌거나 ID 가 겹친 행), 남아 있으면 아래 ALTER 가 실패하므로 직접 정하거나 지운다
+SELECT * FROM reported_reviews WHERE review_type IS NULL;
+
+ALTER TABLE reported_reviews
+    MODIFY review_type ENUM ('CARE', 'GROOMING') NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (review_type, reported_review_id);
@@ -0,0 +1,15 @@
+-- 아웃박스에 다시 시도할 시각과 dead 표시를 더한다
+-- 배포 전에 한 번 실행한다, 실행하는 동안 이전 버전 디스패처는 멈춰 둔다
+
+ALTER TABLE notification_outboxes
+    ADD COLUMN next_attempt_at DATETIME(6) NULL,
+    ADD COLUMN dead BIT(1) NOT NULL DEFAULT 0;
+
+UPDATE notification_outboxes SET next_attempt_at = created_at WHERE next_attempt_at IS NULL;
+
+-- 이전 버전은 notify.outbox.max-attempts (기본 5) 번 실패한 행을 꺼내지 않고 남겨 두었다, 설정을 바꿨다면 그 값으로 고친다
+UPDATE notification_outboxes SET dead = 1 WHERE dispatched = 0 AND attempts >= 5;
+
+ALTER TABLE notification_outboxes
+    DROP INDEX idx_notification_outboxes_pending,
+    ADD INDEX idx_notification_outboxes_pending (dispatched, dead, next_attempt_at);
@@ -8,6 +8,9 @@ import ddog.domain.account.port.AccountPersist;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -34,6 +37,15 @@ public class AccountRepository implements AccountPersist {
                 .toModel();
     }
 
+    @Override
+    public List<Account> findByIds(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) return Collections.emptyList();
+
+        return accountJpaRepository.findAllById(accountIds).stream()
+                .map(AccountJpaEntity::toModel)
+                .toList();
+    }
+
     @Override
     public Optional<Account> findAccountByEmailAndRole(String email, Role role) {
         return accountJpaRepository.findByEmailAndRole(email, role)
@@ -1,14 +1,17 @@
 package ddog.persistence.rdb.adapter;
 
 import ddog.domain.review.CareReview;
+import ddog.domain.review.ReviewContent;
 import ddog.persistence.rdb.jpa.entity.CareReviewJpaEntity;
 import ddog.persistence.rdb.jpa.repository.CareReviewJpaRepository;
 import ddog.domain.review.port.CareReviewPersist;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -57,5 +60,9 @@ public class CareReviewRepository implements CareReviewPersist {
     public Page<CareReview> findByVetId(Long vetId, Pageable pageable) {
         return careReviewJpaRepository.findByVetId(vetId, pageable).map(CareReviewJpaEntity::toModel);
     }
-}
 
+    @Override
+    public List<ReviewContent> findContentsAfter(Long lastReviewId, int chunkSize) {
+        return careReviewJpaRepository.findContentsAfter(lastReviewId, PageRequest.of(0, chunkSize));
+    }
+}
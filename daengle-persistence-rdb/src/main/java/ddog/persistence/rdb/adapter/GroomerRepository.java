@@ -1,5 +1,6 @@
 package ddog.persistence.rdb.adapter;
 
+import ddog.domain.account.ProfileSummary;
 import ddog.domain.groomer.Groomer;
 import ddog.domain.groomer.enums.GroomingBadge;
 import ddog.persistence.rdb.jpa.entity.GroomerJpaEntity;
@@ -10,6 +11,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -24,6 +28,13 @@ public class GroomerRepository implements GroomerPersist {
                 .map(GroomerJpaEntity::toModel);
     }
 
+    @Override
+    public List<ProfileSummary> findProfilesByAccountIds(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) return Collections.emptyList();
+
+        return groomerJpaRepository.findProfilesByAccountIdIn(accountIds);
+    }
+
     @Override
     public Groomer save(Groomer newGroomer) {
         return groomerJpaRepository.save(GroomerJpaEntity.from(newGroomer)).toModel();
@@ -1,14 +1,17 @@
 package ddog.persistence.rdb.adapter;
 
 import ddog.domain.review.GroomingReview;
+import ddog.domain.review.ReviewContent;
 import ddog.persistence.rdb.jpa.entity.GroomingReviewJpaEntity;
 import ddog.persistence.rdb.jpa.repository.GroomingReviewJpaRepository;
 import ddog.domain.review.port.GroomingReviewPersist;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -57,4 +60,9 @@ public class GroomingReviewRepository implements GroomingReviewPersist {
     public Page<GroomingReview> findByGroomerId(Long groomerId, Pageable pageable) {
         return groomingReviewJpaRepository.findByGroomerId(groomerId, pageable).map(GroomingReviewJpaEntity::toModel);
     }
+
+    @Override
+    public List<ReviewContent> findContentsAfter(Long lastReviewId, int chunkSize) {
+        return groomingReviewJpaRepository.findContentsAfter(lastReviewId, PageRequest.of(0, chunkSize));
+    }
 }
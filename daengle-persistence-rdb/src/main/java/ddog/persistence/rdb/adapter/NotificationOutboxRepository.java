@@ -0,0 +1,53 @@
+package ddog.persistence.rdb.adapter;
+
+import ddog.domain.notification.NotificationOutbox;
+import ddog.domain.notification.port.NotificationOutboxPersist;
+import ddog.persistence.rdb.jpa.entity.NotificationOutboxJpaEntity;
+import ddog.persistence.rdb.jpa.repository.NotificationOutboxJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationOutboxRepository implements NotificationOutboxPersist {
+
+    private final NotificationOutboxJpaRepository notificationOutboxJpaRepository;
+
+    @Override
+    public void save(NotificationOutbox outbox) {
+        notificationOutboxJpaRepository.save(NotificationOutboxJpaEntity.from(outbox));
+    }
+
+    @Override
+    public List<NotificationOutbox> claimPending(int batchSize, LocalDateTime now, LocalDateTime leaseUntil) {
+        List<NotificationOutbox> claimed = notificationOutboxJpaRepository.lockPending(batchSize, now).stream()
+                .map(NotificationOutboxJpaEntity::toModel)
+                .collect(Collectors.toList());
+        if (!claimed.isEmpty()) {
+            notificationOutboxJpaRepository.deferUntil(claimed.stream().map(NotificationOutbox::getId).toList(), leaseUntil);
+        }
+        return claimed;
+    }
+
+    @Override
+    public void markDispatched(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) return;
+        notificationOutboxJpaRepository.markDispatched(outboxIds, LocalDateTime.now());
+    }
+
+    @Override
+    public void markFailed(List<Long> outboxIds, LocalDateTime nextAttemptAt) {
+        if (outboxIds.isEmpty()) return;
+        notificationOutboxJpaRepository.increaseAttempts(outboxIds, nextAttemptAt);
+    }
+
+    @Override
+    public void markDead(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) return;
+        notificationOutboxJpaRepository.markDead(outboxIds);
+    }
+}
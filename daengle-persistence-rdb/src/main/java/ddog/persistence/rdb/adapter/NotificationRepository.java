@@ -1,14 +1,15 @@
 package ddog.persistence.rdb.adapter;
 
 import ddog.domain.notification.Notification;
+import ddog.domain.notification.NotificationPage;
 import ddog.persistence.rdb.jpa.entity.NotificationJpaEntity;
 import ddog.persistence.rdb.jpa.repository.NotificationJpaRepository;
 import ddog.domain.notification.port.NotificationPersist;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Repository
@@ -18,27 +19,42 @@ public class NotificationRepository implements NotificationPersist {
     private final NotificationJpaRepository notificationJpaRepository;
 
     @Override
-    public List<Notification> findNotificationsByUserId(Long userId) {
-        List<NotificationJpaEntity> notifications = notificationJpaRepository.findByUserId(userId);
+    public List<Notification> findAllNotificationsByUserId(Long userId) {
+        return notificationJpaRepository.findByUserIdOrderByIdAsc(userId).stream()
+                .map(NotificationJpaEntity::toModel)
+                .collect(Collectors.toList());
+    }
 
-        return notifications.stream()
+    // (userId, id) 인덱스로 cursor 바로 앞부터 size + 1 개만 읽고, 하나 더 있으면 다음 페이지가 있다
+    @Override
+    public NotificationPage findNotificationsByUserId(Long userId, Long cursor, int size) {
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<NotificationJpaEntity> entities = cursor == null
+                ? notificationJpaRepository.findByUserIdOrderByIdDesc(userId, limit)
+                : notificationJpaRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, cursor, limit);
+
+        boolean hasNext = entities.size() > size;
+        List<Notification> notifications = entities.stream()
+                .limit(size)
                 .map(NotificationJpaEntity::toModel)
                 .collect(Collectors.toList());
+
+        Long nextCursor = hasNext ? notifications.get(notifications.size() - 1).getId() : null;
+        return new NotificationPage(notifications, nextCursor);
     }
 
     @Override
-    public void saveNotificationWithLogoutUser(Notification notification) {
-        notificationJpaRepository.save(NotificationJpaEntity.from(notification));
+    public long countNotificationsByUserId(Long userId) {
+        return notificationJpaRepository.countByUserId(userId);
     }
 
     @Override
-    public Optional<Notification> findNotificationById(Long notificationId) {
-        return notificationJpaRepository.findById(notificationId)
-                .map(NotificationJpaEntity::toModel);
+    public void saveNotificationWithLogoutUser(Notification notification) {
+        notificationJpaRepository.save(NotificationJpaEntity.from(notification));
     }
 
     @Override
-    public void deleteNotificationById(Long notificationId) {
-        notificationJpaRepository.deleteById(notificationId);
+    public int deleteNotificationsByIds(Long userId, List<Long> notificationIds) {
+        return notificationJpaRepository.deleteByUserIdAndIdIn(userId, notificationIds);
     }
 }
@@ -1,6 +1,7 @@
 package ddog.persistence.rdb.adapter;
 
 import ddog.domain.review.ReportedReview;
+import ddog.domain.review.enums.ReviewType;
 import ddog.domain.review.port.ReportedReviewPersist;
 import ddog.persistence.rdb.jpa.entity.ReportedReviewJpaEntity;
 import ddog.persistence.rdb.jpa.repository.ReportedReviewJpaRepository;
@@ -9,6 +10,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 @RequiredArgsConstructor
 public class ReportedReviewRepository implements ReportedReviewPersist {
@@ -21,7 +24,19 @@ public class ReportedReviewRepository implements ReportedReviewPersist {
     }
 
     @Override
-    public Page<ReportedReview> findByReporterId(Long vetId, Pageable pageable) {
-        return reportedReviewJpaRepository.findByReporterId(vetId, pageable).map(ReportedReviewJpaEntity::toModel);
+    public List<ReportedReview> saveAll(List<ReportedReview> reportedReviews) {
+        List<ReportedReviewJpaEntity> entities = reportedReviews.stream().map(ReportedReviewJpaEntity::from).toList();
+        return reportedReviewJpaRepository.saveAll(entities).stream().map(ReportedReviewJpaEntity::toModel).toList();
+    }
+
+    @Override
+    public List<Long> findReportedReviewIds(ReviewType reviewType, List<Long> reviewIds) {
+        return reportedReviewJpaRepository.findReportedReviewIds(reviewType, reviewIds);
+    }
+
+    @Override
+    public Page<ReportedReview> findByReporterId(Long reporterId, ReviewType reviewType, Pageable pageable) {
+        return reportedReviewJpaRepository.findByReporterIdAndReviewType(reporterId, reviewType, pageable)
+                .map(ReportedReviewJpaEntity::toModel);
     }
 }
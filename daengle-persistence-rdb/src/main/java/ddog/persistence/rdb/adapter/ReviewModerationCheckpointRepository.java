@@ -0,0 +1,27 @@
+package ddog.persistence.rdb.adapter;
+
+import ddog.domain.review.ReviewModerationCheckpoint;
+import ddog.domain.review.port.ReviewModerationCheckpointPersist;
+import ddog.persistence.rdb.jpa.entity.ReviewModerationCheckpointJpaEntity;
+import ddog.persistence.rdb.jpa.repository.ReviewModerationCheckpointJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class ReviewModerationCheckpointRepository implements ReviewModerationCheckpointPersist {
+
+    private final ReviewModerationCheckpointJpaRepository reviewModerationCheckpointJpaRepository;
+
+    @Override
+    public Optional<ReviewModerationCheckpoint> findByJobName(String jobName) {
+        return reviewModerationCheckpointJpaRepository.findById(jobName).map(ReviewModerationCheckpointJpaEntity::toModel);
+    }
+
+    @Override
+    public ReviewModerationCheckpoint save(ReviewModerationCheckpoint checkpoint) {
+        return reviewModerationCheckpointJpaRepository.save(ReviewModerationCheckpointJpaEntity.from(checkpoint)).toModel();
+    }
+}
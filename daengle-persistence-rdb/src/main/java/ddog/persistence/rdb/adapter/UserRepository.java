@@ -1,5 +1,6 @@
 package ddog.persistence.rdb.adapter;
 
+import ddog.domain.account.ProfileSummary;
 import ddog.domain.user.User;
 import ddog.persistence.rdb.jpa.entity.UserJpaEntity;
 import ddog.persistence.rdb.jpa.repository.UserJpaRepository;
@@ -7,6 +8,9 @@ import ddog.domain.user.port.UserPersist;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -26,6 +30,13 @@ public class UserRepository implements UserPersist {
                 .map(UserJpaEntity::toModel);
     }
 
+    @Override
+    public List<ProfileSummary> findProfilesByAccountIds(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) return Collections.emptyList();
+
+        return userJpaRepository.findProfilesByAccountIdIn(accountIds);
+    }
+
     @Override
     public Boolean hasNickname(String nickname) {
         return userJpaRepository.existsByNickname(nickname);
@@ -1,5 +1,6 @@
 package ddog.persistence.rdb.adapter;
 
+import ddog.domain.account.ProfileSummary;
 import ddog.domain.vet.Vet;
 import ddog.domain.vet.enums.CareBadge;
 import ddog.persistence.rdb.jpa.entity.VetJpaEntity;
@@ -10,6 +11,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -26,6 +29,13 @@ public class VetRepository implements VetPersist {
                 .map(VetJpaEntity::toModel);
     }
 
+    @Override
+    public List<ProfileSummary> findProfilesByAccountIds(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) return Collections.emptyList();
+
+        return vetJpaRepository.findProfilesByAccountIdIn(accountIds);
+    }
+
     @Override
     public Optional<Vet> findByVetId(Long vetId) {
         return vetJpaRepository.findByVetId(vetId)
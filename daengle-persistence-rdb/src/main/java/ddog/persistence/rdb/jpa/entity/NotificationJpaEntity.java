@@ -14,6 +14,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity(name = "Notification")
+@Table(
+        indexes = {
+                @Index(name = "idx_notification_user_id", columnList = "userId, id") // 사용자별 최신 순 페이지 조회
+        }
+)
 public class NotificationJpaEntity {
 
     @Id
@@ -0,0 +1,87 @@
+package ddog.persistence.rdb.jpa.entity;
+
+import ddog.domain.notification.NotificationOutbox;
+import ddog.domain.notification.enums.NotifyType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "NotificationOutboxes")
+@Table(
+        name = "notification_outboxes",
+        indexes = {
+                @Index(name = "idx_notification_outboxes_pending", columnList = "dispatched, dead, nextAttemptAt") // 보내지 않은 알림 중 시도할 때가 된 것을 꺼낸다
+        }
+)
+public class NotificationOutboxJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long userId;
+
+    @Enumerated(value = EnumType.STRING)
+    private NotifyType notifyType;
+
+    private String message;
+
+    private String templateId;
+
+    private String receiverName;
+
+    private String receiverPhone;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    private boolean dispatched;
+
+    private boolean dead; // maxAttempts 번 실패해 더 보내지 않는다
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime dispatchedAt;
+
+    public static NotificationOutboxJpaEntity from(NotificationOutbox outbox) {
+        LocalDateTime createdAt = outbox.getCreatedAt() != null ? outbox.getCreatedAt() : LocalDateTime.now();
+        return NotificationOutboxJpaEntity.builder()
+                .id(outbox.getId())
+                .userId(outbox.getUserId())
+                .notifyType(outbox.getNotifyType())
+                .message(outbox.getMessage())
+                .templateId(outbox.getTemplateId())
+                .receiverName(outbox.getReceiverName())
+                .receiverPhone(outbox.getReceiverPhone())
+                .attempts(outbox.getAttempts())
+                .nextAttemptAt(outbox.getNextAttemptAt() != null ? outbox.getNextAttemptAt() : createdAt)
+                .dispatched(false)
+                .dead(false)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    public NotificationOutbox toModel() {
+        return NotificationOutbox.builder()
+                .id(id)
+                .userId(userId)
+                .notifyType(notifyType)
+                .message(message)
+                .templateId(templateId)
+                .receiverName(receiverName)
+                .receiverPhone(receiverPhone)
+                .attempts(attempts)
+                .nextAttemptAt(nextAttemptAt)
+                .createdAt(createdAt)
+                .build();
+    }
+}
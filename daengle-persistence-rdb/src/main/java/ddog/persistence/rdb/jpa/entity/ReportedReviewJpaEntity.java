@@ -2,18 +2,23 @@ package ddog.persistence.rdb.jpa.entity;
 
 import ddog.domain.review.ReportedReview;
 import ddog.domain.review.enums.ReportType;
+import ddog.domain.review.enums.ReviewType;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
+import lombok.*;
+
+import java.io.Serializable;
 
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity(name = "ReportedReviews")
+@IdClass(ReportedReviewJpaEntity.ReportedReviewKey.class)
 public class ReportedReviewJpaEntity {
+    // 미용 리뷰와 진료 리뷰의 ID 가 겹치므로 종류와 함께 키로 쓴다
+    @Id
+    @Enumerated(EnumType.STRING)
+    private ReviewType reviewType;
     @Id
     private Long reportedReviewId; //groomingId or careReviewId
     private Long reporterId;
@@ -27,6 +32,7 @@ public class ReportedReviewJpaEntity {
     public ReportedReview toModel() {
         return ReportedReview.builder()
                 .reportedReviewId(reportedReviewId)
+                .reviewType(reviewType)
                 .reporterId(reporterId)
                 .reviewerId(reviewerId)
                 .reportType(reportType)
@@ -37,10 +43,20 @@ public class ReportedReviewJpaEntity {
     public static ReportedReviewJpaEntity from(ReportedReview reportedReview) {
         return ReportedReviewJpaEntity.builder()
                 .reportedReviewId(reportedReview.getReportedReviewId())
+                .reviewType(reportedReview.getReviewType())
                 .reporterId(reportedReview.getReporterId())
                 .reviewerId(reportedReview.getReviewerId())
                 .reportType(reportedReview.getReportType())
                 .reportContent(reportedReview.getReportContent())
                 .build();
     }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class ReportedReviewKey implements Serializable {
+        private ReviewType reviewType;
+        private Long reportedReviewId;
+    }
 }
@@ -0,0 +1,39 @@
+package ddog.persistence.rdb.jpa.entity;
+
+import ddog.domain.review.ReviewModerationCheckpoint;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "ReviewModerationCheckpoints")
+public class ReviewModerationCheckpointJpaEntity {
+    @Id
+    private String jobName;
+    private Long lastReviewId;
+    private LocalDateTime modifiedAt;
+
+    public ReviewModerationCheckpoint toModel() {
+        return ReviewModerationCheckpoint.builder()
+                .jobName(jobName)
+                .lastReviewId(lastReviewId)
+                .modifiedAt(modifiedAt)
+                .build();
+    }
+
+    public static ReviewModerationCheckpointJpaEntity from(ReviewModerationCheckpoint checkpoint) {
+        return ReviewModerationCheckpointJpaEntity.builder()
+                .jobName(checkpoint.getJobName())
+                .lastReviewId(checkpoint.getLastReviewId())
+                .modifiedAt(checkpoint.getModifiedAt())
+                .build();
+    }
+}
@@ -1,10 +1,14 @@
 package ddog.persistence.rdb.jpa.repository;
 
+import ddog.domain.review.ReviewContent;
 import ddog.persistence.rdb.jpa.entity.CareReviewJpaEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CareReviewJpaRepository extends JpaRepository<CareReviewJpaEntity, Long> {
@@ -13,4 +17,9 @@ public interface CareReviewJpaRepository extends JpaRepository<CareReviewJpaEnti
     Page<CareReviewJpaEntity> findByReviewerId(Long reviewerId, Pageable pageable);
     Page<CareReviewJpaEntity> findByRevieweeId(Long reviewerId, Pageable pageable);
     Page<CareReviewJpaEntity> findByVetId(Long vetId, Pageable pageable);
+
+    // 키셋 페이지네이션: offset 없이 마지막으로 읽은 id 이후만 조회한다
+    @Query("SELECT new ddog.domain.review.ReviewContent(r.careReviewId, r.reviewerId, r.vetId, r.content) " +
+            "FROM CareReviews r WHERE r.careReviewId > :lastReviewId ORDER BY r.careReviewId ASC")
+    List<ReviewContent> findContentsAfter(@Param("lastReviewId") Long lastReviewId, Pageable pageable);
 }
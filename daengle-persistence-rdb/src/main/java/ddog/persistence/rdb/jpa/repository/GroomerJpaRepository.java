@@ -1,5 +1,6 @@
 package ddog.persistence.rdb.jpa.repository;
 
+import ddog.domain.account.ProfileSummary;
 import ddog.domain.groomer.enums.GroomingBadge;
 import ddog.persistence.rdb.jpa.entity.GroomerJpaEntity;
 import org.springframework.data.domain.Page;
@@ -8,12 +9,19 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface GroomerJpaRepository extends JpaRepository<GroomerJpaEntity, Long> {
 
     Optional<GroomerJpaEntity> findByAccountId(Long accountId);
 
+    // 컬렉션(뱃지, 자격증 등)을 읽지 않도록 필요한 컬럼만 조회한다
+    @Query("SELECT new ddog.domain.account.ProfileSummary(g.accountId, g.name, g.imageUrl) " +
+            "FROM Groomers g WHERE g.accountId IN :accountIds")
+    List<ProfileSummary> findProfilesByAccountIdIn(@Param("accountIds") Collection<Long> accountIds);
+
     Optional<GroomerJpaEntity> findByGroomerId(Long groomerId);
 
     @Query("SELECT v FROM Groomers v " +
@@ -1,10 +1,14 @@
 package ddog.persistence.rdb.jpa.repository;
 
+import ddog.domain.review.ReviewContent;
 import ddog.persistence.rdb.jpa.entity.GroomingReviewJpaEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface GroomingReviewJpaRepository extends JpaRepository<GroomingReviewJpaEntity, Long> {
@@ -13,4 +17,9 @@ public interface GroomingReviewJpaRepository extends JpaRepository<GroomingRevie
     Page<GroomingReviewJpaEntity> findByReviewerId(Long reviewerId, Pageable pageable);
     Page<GroomingReviewJpaEntity> findByRevieweeId(Long reviewerId, Pageable pageable);
     Page<GroomingReviewJpaEntity> findByGroomerId(Long groomerId, Pageable pageable);
+
+    // 키셋 페이지네이션: offset 없이 마지막으로 읽은 id 이후만 조회한다
+    @Query("SELECT new ddog.domain.review.ReviewContent(r.groomingReviewId, r.reviewerId, r.groomerId, r.content) " +
+            "FROM GroomingReviews r WHERE r.groomingReviewId > :lastReviewId ORDER BY r.groomingReviewId ASC")
+    List<ReviewContent> findContentsAfter(@Param("lastReviewId") Long lastReviewId, Pageable pageable);
 }
@@ -2,11 +2,28 @@ package ddog.persistence.rdb.jpa.repository;
 
 
 import ddog.persistence.rdb.jpa.entity.NotificationJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 public interface NotificationJpaRepository extends JpaRepository<NotificationJpaEntity, Long> {
-    List<NotificationJpaEntity> findByUserId(Long userId);
+
+    List<NotificationJpaEntity> findByUserIdOrderByIdAsc(Long userId);
+
+    List<NotificationJpaEntity> findByUserIdOrderByIdDesc(Long userId, Pageable pageable);
+
+    List<NotificationJpaEntity> findByUserIdAndIdLessThanOrderByIdDesc(Long userId, Long id, Pageable pageable);
+
+    long countByUserId(Long userId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Notification n WHERE n.userId = :userId AND n.id IN :ids")
+    int deleteByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") List<Long> ids);
 
 }
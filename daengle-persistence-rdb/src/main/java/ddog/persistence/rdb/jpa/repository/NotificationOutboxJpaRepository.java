@@ -0,0 +1,37 @@
+package ddog.persistence.rdb.jpa.repository;
+
+import ddog.persistence.rdb.jpa.entity.NotificationOutboxJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxJpaRepository extends JpaRepository<NotificationOutboxJpaEntity, Long> {
+
+    // MySQL 8 의 SKIP LOCKED 로 다른 디스패처가 잡고 있는 행은 기다리지 않고 건너뛴다
+    @Query(value = "SELECT * FROM notification_outboxes " +
+            "WHERE dispatched = false AND dead = false AND next_attempt_at <= :now " +
+            "ORDER BY id " +
+            "LIMIT :batchSize " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutboxJpaEntity> lockPending(@Param("batchSize") int batchSize, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE NotificationOutboxes o SET o.nextAttemptAt = :nextAttemptAt WHERE o.id IN :ids")
+    void deferUntil(@Param("ids") List<Long> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Modifying
+    @Query("UPDATE NotificationOutboxes o SET o.dispatched = true, o.dispatchedAt = :dispatchedAt WHERE o.id IN :ids")
+    void markDispatched(@Param("ids") List<Long> ids, @Param("dispatchedAt") LocalDateTime dispatchedAt);
+
+    @Modifying
+    @Query("UPDATE NotificationOutboxes o SET o.attempts = o.attempts + 1, o.nextAttemptAt = :nextAttemptAt WHERE o.id IN :ids")
+    void increaseAttempts(@Param("ids") List<Long> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Modifying
+    @Query("UPDATE NotificationOutboxes o SET o.attempts = o.attempts + 1, o.dead = true WHERE o.id IN :ids")
+    void markDead(@Param("ids") List<Long> ids);
+}
@@ -1,11 +1,19 @@
 package ddog.persistence.rdb.jpa.repository;
 
+import ddog.domain.review.enums.ReviewType;
 import ddog.persistence.rdb.jpa.entity.ReportedReviewJpaEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ReportedReviewJpaRepository extends JpaRepository<ReportedReviewJpaEntity, Long> {
+import java.util.List;
+
+public interface ReportedReviewJpaRepository extends JpaRepository<ReportedReviewJpaEntity, ReportedReviewJpaEntity.ReportedReviewKey> {
     ReportedReviewJpaEntity save(ReportedReviewJpaEntity reportedReviewJpaEntity);
-    Page<ReportedReviewJpaEntity> findByReporterId(Long vetId, Pageable pageable);
+    Page<ReportedReviewJpaEntity> findByReporterIdAndReviewType(Long reporterId, ReviewType reviewType, Pageable pageable);
+
+    @Query("SELECT r.reportedReviewId FROM ReportedReviews r WHERE r.reviewType = :reviewType AND r.reportedReviewId IN :reviewIds")
+    List<Long> findReportedReviewIds(@Param("reviewType") ReviewType reviewType, @Param("reviewIds") List<Long> reviewIds);
 }
@@ -0,0 +1,7 @@
+package ddog.persistence.rdb.jpa.repository;
+
+import ddog.persistence.rdb.jpa.entity.ReviewModerationCheckpointJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReviewModerationCheckpointJpaRepository extends JpaRepository<ReviewModerationCheckpointJpaEntity, String> {
+}
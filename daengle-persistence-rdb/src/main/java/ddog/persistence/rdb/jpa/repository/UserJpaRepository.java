@@ -1,8 +1,13 @@
 package ddog.persistence.rdb.jpa.repository;
 
+import ddog.domain.account.ProfileSummary;
 import ddog.persistence.rdb.jpa.entity.UserJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserJpaRepository extends JpaRepository<UserJpaEntity, Long> {
@@ -11,5 +16,10 @@ public interface UserJpaRepository extends JpaRepository<UserJpaEntity, Long> {
 
     Optional<UserJpaEntity> findByAccountId(Long accountId);
 
+    // 반려견 목록을 읽지 않도록 필요한 컬럼만 조회한다
+    @Query("SELECT new ddog.domain.account.ProfileSummary(u.accountId, u.nickname, u.imageUrl) " +
+            "FROM Users u WHERE u.accountId IN :accountIds")
+    List<ProfileSummary> findProfilesByAccountIdIn(@Param("accountIds") Collection<Long> accountIds);
+
     void deleteByAccountId(Long accountId);
 }
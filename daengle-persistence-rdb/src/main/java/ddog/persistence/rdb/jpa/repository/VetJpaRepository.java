@@ -1,5 +1,6 @@
 package ddog.persistence.rdb.jpa.repository;
 
+import ddog.domain.account.ProfileSummary;
 import ddog.domain.vet.enums.CareBadge;
 import ddog.persistence.rdb.jpa.entity.VetJpaEntity;
 import org.springframework.data.domain.Page;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +18,11 @@ public interface VetJpaRepository extends JpaRepository<VetJpaEntity, Long> {
     Optional<VetJpaEntity> findByAccountId(Long accountId);
     Optional<VetJpaEntity> findByVetId(Long vetId);
 
+    // 컬렉션(휴무일, 자격증 등)을 읽지 않도록 필요한 컬럼만 조회한다
+    @Query("SELECT new ddog.domain.account.ProfileSummary(v.accountId, v.name, v.imageUrl) " +
+            "FROM Vets v WHERE v.accountId IN :accountIds")
+    List<ProfileSummary> findProfilesByAccountIdIn(@Param("accountIds") Collection<Long> accountIds);
+
     @Query("SELECT v FROM Vets v " +
             "WHERE REPLACE(v.address, ' ', '') LIKE CONCAT('%', REPLACE(:address, ' ', ''), '%')")
     Page<VetJpaEntity> findVetsByAddress(@Param("address") String address, Pageable pageable);
@@ -0,0 +1,80 @@
+import ddog.domain.notification.Notification;
+import ddog.domain.notification.NotificationPage;
+import ddog.domain.notification.enums.NotifyType;
+import ddog.persistence.rdb.adapter.NotificationRepository;
+import ddog.persistence.rdb.jpa.entity.NotificationJpaEntity;
+import ddog.persistence.rdb.jpa.repository.NotificationJpaRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 최신 순 키셋 페이지가 겹치거나 빠지지 않고 이어지고, 마지막 페이지에서 nextCursor 가 null 이어야 한다
+public class NotificationRepositoryPagingTest {
+
+    private final List<NotificationJpaEntity> rows = new ArrayList<>();
+    private NotificationRepository notificationRepository;
+
+    @BeforeEach
+    public void setUp() {
+        NotificationJpaRepository notificationJpaRepository = mock(NotificationJpaRepository.class);
+        when(notificationJpaRepository.findByUserIdOrderByIdDesc(anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> page(invocation.getArgument(0), Long.MAX_VALUE, invocation.getArgument(1)));
+        when(notificationJpaRepository.findByUserIdAndIdLessThanOrderByIdDesc(anyLong(), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> page(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+        notificationRepository = new NotificationRepository(notificationJpaRepository);
+
+        // 사용자 1 의 알림 7개 사이에 다른 사용자의 알림을 섞는다
+        for (long id = 1; id <= 10; id++) {
+            rows.add(NotificationJpaEntity.builder()
+                    .id(id)
+                    .userId(id % 3 == 0 ? 2L : 1L)
+                    .notifyType(NotifyType.ESTIMATED)
+                    .message("알림 " + id)
+                    .build());
+        }
+    }
+
+    @Test
+    public void testPagesFollowCursorNewestFirst() {
+        NotificationPage first = notificationRepository.findNotificationsByUserId(1L, null, 3);
+        Assertions.assertEquals(List.of(10L, 8L, 7L), ids(first));
+        Assertions.assertEquals(7L, first.getNextCursor());
+
+        NotificationPage second = notificationRepository.findNotificationsByUserId(1L, first.getNextCursor(), 3);
+        Assertions.assertEquals(List.of(5L, 4L, 2L), ids(second));
+        Assertions.assertEquals(2L, second.getNextCursor());
+
+        NotificationPage last = notificationRepository.findNotificationsByUserId(1L, second.getNextCursor(), 3);
+        Assertions.assertEquals(List.of(1L), ids(last));
+        Assertions.assertNull(last.getNextCursor());
+    }
+
+    @Test
+    public void testExactlyFullLastPageHasNoNextCursor() {
+        NotificationPage page = notificationRepository.findNotificationsByUserId(2L, null, 3);
+
+        Assertions.assertEquals(List.of(9L, 6L, 3L), ids(page));
+        Assertions.assertNull(page.getNextCursor());
+    }
+
+    // (userId, id) 인덱스를 id 내림차순으로 읽는 것과 같다
+    private List<NotificationJpaEntity> page(Long userId, Long idLessThan, Pageable pageable) {
+        return rows.stream()
+                .filter(row -> row.getUserId().equals(userId) && row.getId() < idLessThan)
+                .sorted(Comparator.comparing(NotificationJpaEntity::getId).reversed())
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    private static List<Long> ids(NotificationPage page) {
+        return page.getNotifications().stream().map(Notification::getId).toList();
+    }
+}
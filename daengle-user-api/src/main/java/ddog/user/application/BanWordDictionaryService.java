@@ -0,0 +1,171 @@
+package ddog.user.application;
+
+import ddog.domain.filtering.AutomatonSnapshot;
+import ddog.domain.filtering.BanWordValidator;
+import ddog.domain.filtering.DoubleArrayAutomaton;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// filter.hot-reload 를 켜면 reload-interval-ms 마다 단어 파일의 수정 시각을 보고 바뀐 사전을 다시 적용한다
+// 수정 시각은 파일 시스템에 있는 파일만 알 수 있으므로, 켤 때는 단어 파일 위치를 file: 로 지정해야 한다 (아니면 기동에 실패한다)
+// jar 안의 classpath 기본 사전은 재배포해야만 바뀐다
+@Slf4j
+@Service
+public class BanWordDictionaryService {
+
+    private final Resource banWordsResource;
+    private final Resource allowWordsResource;
+    private final Path snapshotPath;
+    private final boolean jamoMatching;
+    private final boolean hotReload;
+    private final Timer buildTimer;
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong wordCount = new AtomicLong();
+
+    // 검증 중인 요청은 교체 전 사전을 끝까지 사용하고, 다음 요청부터 새 사전을 읽는다
+    private volatile BanWordValidator banWordValidator;
+    private long banWordsLastModified;
+    private long allowWordsLastModified;
+
+    public BanWordDictionaryService(ResourceLoader resourceLoader, MeterRegistry meterRegistry,
+                                    @Value("${filter.ban-words-location:classpath:filter/badWords.txt}") String banWordsLocation,
+                                    @Value("${filter.allow-words-location:classpath:filter/allowWords.txt}") String allowWordsLocation,
+                                    @Value("${filter.snapshot-location:}") String snapshotLocation,
+                                    @Value("${filter.jamo-matching:false}") boolean jamoMatching,
+                                    @Value("${filter.hot-reload:false}") boolean hotReload) throws IOException {
+        this.banWordsResource = resourceLoader.getResource(banWordsLocation);
+        this.allowWordsResource = resourceLoader.getResource(allowWordsLocation);
+        this.snapshotPath = snapshotLocation.isBlank() ? null : Path.of(snapshotLocation);
+        this.jamoMatching = jamoMatching;
+        this.hotReload = hotReload;
+        if (hotReload) {
+            requireFile(banWordsResource, banWordsLocation);
+            requireFile(allowWordsResource, allowWordsLocation);
+        }
+        this.buildTimer = Timer.builder("ban_word.dictionary.build")
+                .description("금칙어 오토마톤 빌드 시간")
+                .register(meterRegistry);
+        Gauge.builder("ban_word.dictionary.version", version, AtomicLong::get)
+                .description("현재 적용 중인 금칙어 사전 버전")
+                .register(meterRegistry);
+        Gauge.builder("ban_word.dictionary.words", wordCount, AtomicLong::get)
+                .description("현재 적용 중인 금칙어/허용어 수")
+                .register(meterRegistry);
+
+        reload();
+    }
+
+    public BanWordValidator getBanWordValidator() {
+        return banWordValidator;
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    @Scheduled(fixedDelayString = "${filter.reload-interval-ms:60000}")
+    public void reloadIfModified() {
+        if (!hotReload) return;
+
+        try {
+            if (lastModified(banWordsResource) == banWordsLastModified
+                    && lastModified(allowWordsResource) == allowWordsLastModified) return;
+
+            reload();
+        } catch (IOException | RuntimeException e) {
+            log.warn("금칙어 사전 갱신 실패, 기존 사전(version={})을 유지합니다.", version.get(), e);
+        }
+    }
+
+    public synchronized void reload() throws IOException {
+        long banWordsModified = lastModified(banWordsResource);
+        long allowWordsModified = lastModified(allowWordsResource);
+
+        long startTime = System.nanoTime();
+        Optional<AutomatonSnapshot.Mapping> snapshot = mapSnapshot();
+        BanWordValidator rebuilt;
+        int banWordCount;
+        int allowWordCount;
+        if (snapshot.isPresent() && !jamoMatching) {
+            // 스냅샷이 맞으면 단어를 읽지 않는다
+            rebuilt = new BanWordValidator(snapshot.get().automaton(), null, false);
+            banWordCount = snapshot.get().banWordCount();
+            allowWordCount = snapshot.get().allowWordCount();
+        } else {
+            Set<String> banWords = loadWordsFromResource(banWordsResource);
+            Set<String> allowWords = loadWordsFromResource(allowWordsResource);
+            DoubleArrayAutomaton automaton = snapshot.map(AutomatonSnapshot.Mapping::automaton)
+                    .orElseGet(() -> BanWordValidator.compile(banWords, allowWords, false));
+            // 자모 오토마톤은 스냅샷에 담지 않고 기동/갱신 시 함께 컴파일한다
+            DoubleArrayAutomaton jamoAutomaton = jamoMatching ? BanWordValidator.compileJamo(banWords, allowWords, false) : null;
+            rebuilt = new BanWordValidator(automaton, jamoAutomaton, false);
+            banWordCount = banWords.size();
+            allowWordCount = allowWords.size();
+        }
+        long buildTimeNanos = System.nanoTime() - startTime;
+
+        banWordValidator = rebuilt;
+        banWordsLastModified = banWordsModified;
+        allowWordsLastModified = allowWordsModified;
+        buildTimer.record(buildTimeNanos, TimeUnit.NANOSECONDS);
+        wordCount.set(banWordCount + allowWordCount);
+        long currentVersion = version.incrementAndGet();
+
+        log.info("금칙어 사전 적용 version={}, banWords={}, allowWords={}, snapshot={}, jamoMatching={}, buildTime={}ms",
+                currentVersion, banWordCount, allowWordCount, snapshot.isPresent(), jamoMatching, buildTimeNanos / 1_000_000);
+    }
+
+    // 스냅샷 헤더에는 단어 파일 바이트의 해시가 있어, 파일이 바뀌었으면(갱신된 단어 파일 등) 사용하지 않고 다시 컴파일한다
+    private Optional<AutomatonSnapshot.Mapping> mapSnapshot() throws IOException {
+        if (snapshotPath == null) return Optional.empty();
+
+        try (InputStream banWords = banWordsResource.getInputStream();
+             InputStream allowWords = allowWordsResource.getInputStream()) {
+            return AutomatonSnapshot.map(snapshotPath, AutomatonSnapshot.fingerprint(banWords, allowWords, false));
+        }
+    }
+
+    private void requireFile(Resource resource, String location) {
+        if (!resource.isFile()) {
+            throw new IllegalStateException("filter.hot-reload 는 파일 시스템의 단어 파일에만 쓸 수 있습니다 (file: 위치 필요): " + location);
+        }
+    }
+
+    private long lastModified(Resource resource) throws IOException {
+        return resource.isFile() ? resource.lastModified() : 0L;
+    }
+
+    private Set<String> loadWordsFromResource(Resource resource) throws IOException {
+        Set<String> words = new HashSet<>();
+        try (InputStream inputStream = resource.getInputStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    words.add(line.trim());
+                }
+            }
+        }
+        return words;
+    }
+}
@@ -1,6 +1,6 @@
 package ddog.user.application;
 
-import ddog.domain.filtering.BanWordValidator;
+import ddog.domain.notification.enums.NotifyType;
 import ddog.domain.payment.Reservation;
 import ddog.domain.payment.enums.ServiceType;
 import ddog.domain.payment.port.ReservationPersist;
@@ -31,6 +31,7 @@ import ddog.user.presentation.review.dto.response.CareReviewDetailResp;
 import ddog.user.presentation.review.dto.response.CareReviewListResp;
 import ddog.user.presentation.review.dto.response.CareReviewSummaryResp;
 import ddog.user.presentation.review.dto.response.ReviewResp;
+import ddog.notification.application.NotificationOutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -55,7 +56,8 @@ public class CareReviewService {
     private final ReservationPersist reservationPersist;
     private final VetDaengleMeterPersist vetDaengleMeterPersist;
 
-    private final BanWordValidator banWordValidator;
+    private final BanWordDictionaryService banWordDictionaryService;
+    private final NotificationOutboxService notificationOutboxService;
 
     @Transactional(readOnly = true)
     public CareReviewDetailResp findReview(Long reviewId) {
@@ -95,7 +97,7 @@ public class CareReviewService {
 
         validatePostCareReviewInfoDataFormat(postCareReviewInfo);
 
-        String includedBanWord = banWordValidator.findBanWords(postCareReviewInfo.getContent());
+        String includedBanWord = banWordDictionaryService.getBanWordValidator().findBanWords(postCareReviewInfo.getContent());
         if (includedBanWord != null)
             throw new ReviewException(ReviewExceptionType.REVIEW_CONTENT_CONTAIN_BAN_WORD, includedBanWord);
 
@@ -115,6 +117,8 @@ public class CareReviewService {
         savedVet.updateDaengleMeter(vetDaengleMeter.getScore());
         vetPersist.save(savedVet);
 
+        notificationOutboxService.enqueueAlimTalk(savedVet.getAccountId(), NotifyType.REVIEWED, savedVet.getName(), savedVet.getPhoneNumber());
+
         return ReviewResp.builder()
                 .reviewId(savedCareReview.getCareReviewId())
                 .reviewerId(savedCareReview.getReviewerId())
@@ -168,7 +172,7 @@ public class CareReviewService {
 
         validateModifyCareReviewInfoDataFormat(updateCareReviewInfo);
 
-        String includedBanWord = banWordValidator.findBanWords(updateCareReviewInfo.getContent());
+        String includedBanWord = banWordDictionaryService.getBanWordValidator().findBanWords(updateCareReviewInfo.getContent());
         if (includedBanWord != null)
             throw new ReviewException(ReviewExceptionType.REVIEW_CONTENT_CONTAIN_BAN_WORD, includedBanWord);
 
@@ -1,6 +1,5 @@
 package ddog.user.application;
 
-import ddog.domain.filtering.BanWordValidator;
 import ddog.domain.groomer.Groomer;
 import ddog.domain.groomer.GroomerDaengleMeter;
 import ddog.domain.groomer.GroomerKeyword;
@@ -9,6 +8,7 @@ import ddog.domain.groomer.enums.GroomingKeyword;
 import ddog.domain.groomer.port.GroomerDaengleMeterPersist;
 import ddog.domain.groomer.port.GroomerKeywordPersist;
 import ddog.domain.groomer.port.GroomerPersist;
+import ddog.domain.notification.enums.NotifyType;
 import ddog.domain.payment.Reservation;
 import ddog.domain.payment.enums.ServiceType;
 import ddog.domain.payment.port.ReservationPersist;
@@ -31,6 +31,7 @@ import ddog.user.presentation.review.dto.response.GroomingReviewDetailResp;
 import ddog.user.presentation.review.dto.response.GroomingReviewListResp;
 import ddog.user.presentation.review.dto.response.GroomingReviewSummaryResp;
 import ddog.user.presentation.review.dto.response.ReviewResp;
+import ddog.notification.application.NotificationOutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -54,7 +55,8 @@ public class GroomingReviewService {
     private final GroomingReviewPersist groomingReviewPersist;
     private final GroomerDaengleMeterPersist groomerDaengleMeterPersist;
 
-    private final BanWordValidator banWordValidator;
+    private final BanWordDictionaryService banWordDictionaryService;
+    private final NotificationOutboxService notificationOutboxService;
 
     @Transactional(readOnly = true)
     public GroomingReviewDetailResp findReview(Long reviewId) {
@@ -94,7 +96,7 @@ public class GroomingReviewService {
 
         validatePostGroomingReviewInfoDataFormat(postGroomingReviewInfo);
 
-        String includedBanWord = banWordValidator.findBanWords(postGroomingReviewInfo.getContent());
+        String includedBanWord = banWordDictionaryService.getBanWordValidator().findBanWords(postGroomingReviewInfo.getContent());
         if (includedBanWord != null)
             throw new ReviewException(ReviewExceptionType.REVIEW_CONTENT_CONTAIN_BAN_WORD, includedBanWord);
 
@@ -114,6 +116,11 @@ public class GroomingReviewService {
         savedGroomer.updateDaengleMeter(groomerDaengleMeter.getScore());
         groomerPersist.save(savedGroomer);
 
+        // 알림톡의 #{사용자} 에는 리뷰를 쓴 사용자의 닉네임을 넣는다
+        User reviewer = userPersist.findByAccountId(SavedGroomingReview.getReviewerId())
+                .orElseThrow(() -> new UserException(UserExceptionType.USER_NOT_FOUND));
+        notificationOutboxService.enqueueAlimTalk(savedGroomer.getAccountId(), NotifyType.REVIEWED, reviewer.getNickname(), savedGroomer.getPhoneNumber());
+
         return ReviewResp.builder()
                 .reviewId(SavedGroomingReview.getGroomingReviewId())
                 .reviewerId(SavedGroomingReview.getReviewerId())
@@ -168,7 +175,7 @@ public class GroomingReviewService {
 
         validateModifyGroomingReviewInfoDataFormat(updateGroomingReviewInfo);
 
-        String includedBanWord = banWordValidator.findBanWords(updateGroomingReviewInfo.getContent());
+        String includedBanWord = banWordDictionaryService.getBanWordValidator().findBanWords(updateGroomingReviewInfo.getContent());
         if (includedBanWord != null)
             throw new ReviewException(ReviewExceptionType.REVIEW_CONTENT_CONTAIN_BAN_WORD, includedBanWord);
 
@@ -0,0 +1,210 @@
+package ddog.user.application;
+
+import ddog.domain.filtering.BanWordValidator;
+import ddog.domain.review.ReportedReview;
+import ddog.domain.review.ReviewContent;
+import ddog.domain.review.ReviewModerationCheckpoint;
+import ddog.domain.review.enums.ReportType;
+import ddog.domain.review.enums.ReviewType;
+import ddog.domain.review.port.CareReviewPersist;
+import ddog.domain.review.port.GroomingReviewPersist;
+import ddog.domain.review.port.ReportedReviewPersist;
+import ddog.domain.review.port.ReviewModerationCheckpointPersist;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+public class ReviewRemoderationJob {
+
+    static final String GROOMING_REVIEW_JOB = "GROOMING_REVIEW_REMODERATION";
+    static final String CARE_REVIEW_JOB = "CARE_REVIEW_REMODERATION";
+
+    private static final String REPORT_CONTENT_FORMAT = "금칙어 사전 재검수로 자동 신고된 리뷰입니다. (금칙어: %s)";
+    private static final long PROGRESS_LOG_INTERVAL = 100_000;
+
+    private final BanWordDictionaryService banWordDictionaryService;
+    private final GroomingReviewPersist groomingReviewPersist;
+    private final CareReviewPersist careReviewPersist;
+    private final ReportedReviewPersist reportedReviewPersist;
+    private final ReviewModerationCheckpointPersist reviewModerationCheckpointPersist;
+    private final int chunkSize;
+    private final int parallelism;
+
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "review-remoderation"));
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ReviewRemoderationJob(BanWordDictionaryService banWordDictionaryService,
+                                 GroomingReviewPersist groomingReviewPersist,
+                                 CareReviewPersist careReviewPersist,
+                                 ReportedReviewPersist reportedReviewPersist,
+                                 ReviewModerationCheckpointPersist reviewModerationCheckpointPersist,
+                                 @Value("${filter.remoderation.chunk-size:1000}") int chunkSize,
+                                 @Value("${filter.remoderation.parallelism:0}") int parallelism) {
+        this.banWordDictionaryService = banWordDictionaryService;
+        this.groomingReviewPersist = groomingReviewPersist;
+        this.careReviewPersist = careReviewPersist;
+        this.reportedReviewPersist = reportedReviewPersist;
+        this.reviewModerationCheckpointPersist = reviewModerationCheckpointPersist;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    // 기본값 "-" 는 비활성화, 사전이 커진 뒤 cron 을 지정하거나 start() 를 직접 호출한다
+    // 스케줄러 스레드(사전 갱신과 공유)를 붙잡지 않도록 전용 스레드에서 실행한다
+    @Scheduled(cron = "${filter.remoderation.cron:-}")
+    public void start() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("리뷰 재검수가 이미 실행 중입니다.");
+            return;
+        }
+
+        coordinator.execute(() -> {
+            try {
+                run();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    void run() {
+        // 한 번의 실행 동안은 같은 사전으로 검사한다 (도중에 사전이 갱신되어도 다음 실행에서 반영)
+        BanWordValidator banWordValidator = banWordDictionaryService.getBanWordValidator();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        try {
+            remoderate(GROOMING_REVIEW_JOB, ReviewType.GROOMING, groomingReviewPersist::findContentsAfter, banWordValidator, workers);
+            remoderate(CARE_REVIEW_JOB, ReviewType.CARE, careReviewPersist::findContentsAfter, banWordValidator, workers);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("리뷰 재검수가 중단되었습니다. 다음 실행은 체크포인트부터 이어서 진행합니다.");
+        } catch (ExecutionException | RuntimeException e) {
+            log.error("리뷰 재검수 실패, 다음 실행은 체크포인트부터 이어서 진행합니다.", e);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void remoderate(String jobName, ReviewType reviewType, ChunkReader chunkReader, BanWordValidator banWordValidator,
+                            ExecutorService workers) throws InterruptedException, ExecutionException {
+        ReviewModerationCheckpoint checkpoint = reviewModerationCheckpointPersist.findByJobName(jobName)
+                .orElseGet(() -> ReviewModerationCheckpoint.start(jobName));
+        log.info("리뷰 재검수 시작 job={}, lastReviewId={}, dictionaryVersion={}",
+                jobName, checkpoint.getLastReviewId(), banWordDictionaryService.getVersion());
+
+        long startTime = System.nanoTime();
+        long scanned = 0;
+        long flagged = 0;
+
+        List<ReviewContent> chunk = chunkReader.read(checkpoint.getLastReviewId(), chunkSize);
+        while (!chunk.isEmpty()) {
+            List<Future<List<ReportedReview>>> validations = validate(reviewType, chunk, banWordValidator, workers);
+            Long chunkLastReviewId = chunk.get(chunk.size() - 1).getReviewId();
+
+            // 검증하는 동안 다음 청크를 미리 읽는다 (메모리에는 최대 두 청크만 올라간다)
+            List<ReviewContent> nextChunk = chunk.size() < chunkSize ? List.of() : chunkReader.read(chunkLastReviewId, chunkSize);
+
+            List<ReportedReview> reports = new ArrayList<>();
+            for (Future<List<ReportedReview>> validation : validations) {
+                reports.addAll(validation.get());
+            }
+            flagged += report(reviewType, reports);
+
+            // 신고 저장 후 체크포인트를 옮긴다, 그 사이에 중단되면 같은 청크를 다시 검사하지만 이미 신고된 리뷰는 건너뛴다
+            checkpoint.advance(chunkLastReviewId);
+            reviewModerationCheckpointPersist.save(checkpoint);
+
+            long previousScanned = scanned;
+            scanned += chunk.size();
+            if (scanned / PROGRESS_LOG_INTERVAL != previousScanned / PROGRESS_LOG_INTERVAL) {
+                log.info("리뷰 재검수 진행 job={}, scanned={}, flagged={}, lastReviewId={}, rowsPerSec={}",
+                        jobName, scanned, flagged, chunkLastReviewId, rowsPerSecond(scanned, startTime));
+            }
+            chunk = nextChunk;
+        }
+
+        // 한 바퀴를 끝내면 다음 실행은 처음부터 다시 검사한다
+        checkpoint.advance(0L);
+        reviewModerationCheckpointPersist.save(checkpoint);
+
+        log.info("리뷰 재검수 완료 job={}, scanned={}, flagged={}, elapsed={}ms, rowsPerSec={}",
+                jobName, scanned, flagged, (System.nanoTime() - startTime) / 1_000_000, rowsPerSecond(scanned, startTime));
+    }
+
+    // 청크를 코어 수만큼 나눠 공유 검증기로 동시에 검사한다 (검증기는 불변, 정규화 버퍼는 스레드별)
+    private List<Future<List<ReportedReview>>> validate(ReviewType reviewType, List<ReviewContent> chunk,
+                                                        BanWordValidator banWordValidator, ExecutorService workers) {
+        int sliceSize = (chunk.size() + parallelism - 1) / parallelism;
+        List<Future<List<ReportedReview>>> validations = new ArrayList<>();
+        for (int from = 0; from < chunk.size(); from += sliceSize) {
+            List<ReviewContent> slice = chunk.subList(from, Math.min(from + sliceSize, chunk.size()));
+            validations.add(workers.submit(() -> {
+                List<ReportedReview> reports = new ArrayList<>();
+                for (ReviewContent review : slice) {
+                    if (review.getContent() == null) continue;
+
+                    String banWord = banWordValidator.findBanWords(review.getContent());
+                    if (banWord != null) {
+                        reports.add(toReportedReview(reviewType, review, banWord));
+                    }
+                }
+                return reports;
+            }));
+        }
+        return validations;
+    }
+
+    private int report(ReviewType reviewType, List<ReportedReview> reports) {
+        if (reports.isEmpty()) return 0;
+
+        // 사용자가 이미 신고한 리뷰는 덮어쓰지 않는다, 미용/진료 리뷰의 ID 가 겹치므로 같은 종류 안에서만 찾는다
+        Set<Long> reportedReviewIds = new HashSet<>(reportedReviewPersist.findReportedReviewIds(reviewType,
+                reports.stream().map(ReportedReview::getReportedReviewId).toList()));
+        List<ReportedReview> newReports = reports.stream()
+                .filter(report -> !reportedReviewIds.contains(report.getReportedReviewId()))
+                .toList();
+        if (newReports.isEmpty()) return 0;
+
+        reportedReviewPersist.saveAll(newReports);
+        return newReports.size();
+    }
+
+    private ReportedReview toReportedReview(ReviewType reviewType, ReviewContent review, String banWord) {
+        return ReportedReview.builder()
+                .reportedReviewId(review.getReviewId())
+                .reviewType(reviewType)
+                .reporterId(review.getRevieweeId())
+                .reviewerId(review.getReviewerId())
+                .reportType(ReportType.BAD_WORD)
+                .reportContent(String.format(REPORT_CONTENT_FORMAT, banWord))
+                .build();
+    }
+
+    private long rowsPerSecond(long scanned, long startTime) {
+        long elapsedNanos = Math.max(1, System.nanoTime() - startTime);
+        return scanned * 1_000_000_000L / elapsedNanos;
+    }
+
+    @FunctionalInterface
+    private interface ChunkReader {
+        List<ReviewContent> read(Long lastReviewId, int chunkSize);
+    }
+}
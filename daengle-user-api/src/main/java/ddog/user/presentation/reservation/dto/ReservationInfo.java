@@ -51,16 +51,4 @@ public class ReservationInfo {
             private LocalDateTime reservedDate;
         }
     }
-
-    @Getter
-    @Builder
-    public static class ReservationUsersInfo {
-        private Long estimateId;
-        private Long partnerId;
-        private String partnerPhone;
-        private String partnerName;
-        private Long userId;
-        private String userName;
-
-    }
 }
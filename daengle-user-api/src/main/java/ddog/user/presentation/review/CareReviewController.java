@@ -2,9 +2,6 @@ package ddog.user.presentation.review;
 
 import ddog.auth.dto.PayloadDto;
 import ddog.auth.exception.common.CommonResponseEntity;
-import ddog.notification.application.KakaoNotificationService;
-import ddog.user.application.ReservationService;
-import ddog.user.presentation.reservation.dto.ReservationInfo;
 import ddog.user.presentation.review.dto.response.CareReviewListResp;
 import ddog.user.presentation.review.dto.request.UpdateCareReviewInfo;
 import ddog.user.presentation.review.dto.request.PostCareReviewInfo;
@@ -12,7 +9,6 @@ import ddog.user.application.CareReviewService;
 import ddog.user.presentation.review.dto.response.CareReviewDetailResp;
 import ddog.user.presentation.review.dto.response.ReviewResp;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.env.Environment;
 import org.springframework.web.bind.annotation.*;
 
 import static ddog.auth.exception.common.CommonResponseEntity.success;
@@ -23,9 +19,6 @@ import static ddog.auth.exception.common.CommonResponseEntity.success;
 public class CareReviewController {
 
     private final CareReviewService careReviewService;
-    private final ReservationService reservationService;
-    private final KakaoNotificationService kakaoNotificationService;
-    private final Environment environment;
 
     @GetMapping("/care/review/{reviewId}")
     public CommonResponseEntity<CareReviewDetailResp> findReview(@PathVariable Long reviewId) {
@@ -34,8 +27,6 @@ public class CareReviewController {
 
     @PostMapping("/care/review")
     public CommonResponseEntity<ReviewResp> postReview(@RequestBody PostCareReviewInfo postCareReviewInfo) {
-        ReservationInfo.ReservationUsersInfo findReservationInfo= reservationService.getCareUserAndPartnerDetail(postCareReviewInfo.getReservationId());
-        kakaoNotificationService.sendOneTalk(findReservationInfo.getPartnerName(), findReservationInfo.getPartnerPhone(), environment.getProperty("templateId.REVIEWED"));
         return success(careReviewService.postReview(postCareReviewInfo));
     }
 
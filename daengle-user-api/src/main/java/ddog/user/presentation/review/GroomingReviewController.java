@@ -3,10 +3,6 @@ package ddog.user.presentation.review;
 import ddog.auth.dto.PayloadDto;
 import ddog.auth.exception.common.CommonResponseEntity;
 import ddog.domain.notification.enums.NotifyType;
-import ddog.notification.application.KakaoNotificationService;
-import ddog.notification.application.NotificationService;
-import ddog.user.application.ReservationService;
-import ddog.user.presentation.reservation.dto.ReservationInfo;
 import ddog.user.presentation.review.dto.request.UpdateGroomingReviewInfo;
 import ddog.user.presentation.review.dto.request.PostGroomingReviewInfo;
 import ddog.user.application.GroomingReviewService;
@@ -14,7 +10,6 @@ import ddog.user.presentation.review.dto.response.GroomingReviewDetailResp;
 import ddog.user.presentation.review.dto.response.GroomingReviewListResp;
 import ddog.user.presentation.review.dto.response.ReviewResp;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.env.Environment;
 import org.springframework.web.bind.annotation.*;
 
 import static ddog.auth.exception.common.CommonResponseEntity.success;
@@ -25,9 +20,6 @@ import static ddog.auth.exception.common.CommonResponseEntity.success;
 public class GroomingReviewController {
 
     private final GroomingReviewService groomingReviewService;
-    private final ReservationService reservationService;
-    private final KakaoNotificationService kakaoNotificationService;
-    private final Environment environment;
 
     @GetMapping("/grooming/review/{reviewId}")
     public CommonResponseEntity<GroomingReviewDetailResp> findReview(@PathVariable Long reviewId) {
@@ -36,8 +28,6 @@ public class GroomingReviewController {
 
     @PostMapping("/grooming/review")
     public CommonResponseEntity<ReviewResp> postReview(@RequestBody PostGroomingReviewInfo postGroomingReviewInfo) {
-        ReservationInfo.ReservationUsersInfo findReservationInfo = reservationService.getGroomingUserAndPartnerDetail(postGroomingReviewInfo.getReservationId());
-        kakaoNotificationService.sendOneTalk(findReservationInfo.getUserName(), findReservationInfo.getPartnerPhone(), environment.getProperty("templateId.REVIEWED"));
         return success(groomingReviewService.postReview(postGroomingReviewInfo));
     }
 
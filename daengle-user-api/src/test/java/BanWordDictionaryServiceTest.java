@@ -0,0 +1,66 @@
+import ddog.user.application.BanWordDictionaryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+// 핫 리로드는 파일 시스템의 사전에서만 동작해야 하고, jar 안의 사전으로 켜면 기동에 실패해야 한다
+public class BanWordDictionaryServiceTest {
+
+    @TempDir
+    Path dictionaryDir;
+
+    @Test
+    public void testHotReloadOnClasspathDictionaryFailsAtStartup() throws Exception {
+        Path banWords = write("badWords.txt", "개새끼");
+
+        Assertions.assertThrows(IllegalStateException.class, () -> service("classpath:filter/badWords.txt",
+                "file:" + banWords, true));
+        Assertions.assertThrows(IllegalStateException.class, () -> service("file:" + banWords,
+                "classpath:filter/allowWords.txt", true));
+    }
+
+    @Test
+    public void testModifiedDictionaryFileIsReloaded() throws Exception {
+        Path banWords = write("badWords.txt", "개새끼");
+        Path allowWords = write("allowWords.txt", "");
+        BanWordDictionaryService service = service("file:" + banWords, "file:" + allowWords, true);
+        Assertions.assertNull(service.getBanWordValidator().findBanWords("바보야"));
+
+        Files.writeString(banWords, "개새끼\n바보\n", StandardCharsets.UTF_8);
+        // 파일 시스템의 수정 시각 해상도가 낮아도 바뀐 것으로 보이게 한다
+        Files.setLastModifiedTime(banWords, FileTime.fromMillis(Files.getLastModifiedTime(banWords).toMillis() + 10_000));
+        service.reloadIfModified();
+
+        Assertions.assertEquals(2, service.getVersion());
+        Assertions.assertNotNull(service.getBanWordValidator().findBanWords("바보야"));
+    }
+
+    @Test
+    public void testDictionaryIsNotReloadedWhenHotReloadIsOff() throws Exception {
+        Path banWords = write("badWords.txt", "개새끼");
+        Path allowWords = write("allowWords.txt", "");
+        BanWordDictionaryService service = service("file:" + banWords, "file:" + allowWords, false);
+
+        Files.writeString(banWords, "개새끼\n바보\n", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(banWords, FileTime.fromMillis(Files.getLastModifiedTime(banWords).toMillis() + 10_000));
+        service.reloadIfModified();
+
+        Assertions.assertEquals(1, service.getVersion());
+    }
+
+    private BanWordDictionaryService service(String banWordsLocation, String allowWordsLocation, boolean hotReload) throws Exception {
+        return new BanWordDictionaryService(new DefaultResourceLoader(), new SimpleMeterRegistry(),
+                banWordsLocation, allowWordsLocation, "", false, hotReload);
+    }
+
+    private Path write(String fileName, String content) throws Exception {
+        return Files.writeString(dictionaryDir.resolve(fileName), content, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,125 @@
+import ddog.domain.filtering.BanWordValidator;
+import ddog.domain.review.ReportedReview;
+import ddog.domain.review.ReviewContent;
+import ddog.domain.review.enums.ReportType;
+import ddog.domain.review.enums.ReviewType;
+import ddog.domain.review.port.CareReviewPersist;
+import ddog.domain.review.port.GroomingReviewPersist;
+import ddog.domain.review.port.ReportedReviewPersist;
+import ddog.domain.review.port.ReviewModerationCheckpointPersist;
+import ddog.user.application.BanWordDictionaryService;
+import ddog.user.application.ReviewRemoderationJob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.*;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+// 미용 리뷰와 진료 리뷰는 ID 를 따로 매기므로 같은 ID 라도 서로의 신고에 가려지면 안 된다
+public class ReviewRemoderationJobTest {
+
+    private static final Long REVIEW_ID = 7L;
+    private static final String USER_REPORT_CONTENT = "사용자가 직접 신고한 리뷰입니다.";
+
+    private GroomingReviewPersist groomingReviewPersist;
+    private CareReviewPersist careReviewPersist;
+    private ReviewModerationCheckpointPersist checkpointPersist;
+    private InMemoryReportedReviews reportedReviews;
+    private ReviewRemoderationJob job;
+
+    @BeforeEach
+    public void setUp() {
+        BanWordDictionaryService banWordDictionaryService = mock(BanWordDictionaryService.class);
+        when(banWordDictionaryService.getBanWordValidator()).thenReturn(new BanWordValidator(Set.of("개새끼"), Set.of()));
+
+        groomingReviewPersist = mock(GroomingReviewPersist.class);
+        careReviewPersist = mock(CareReviewPersist.class);
+        checkpointPersist = mock(ReviewModerationCheckpointPersist.class);
+        when(checkpointPersist.findByJobName(any())).thenReturn(Optional.empty());
+        reportedReviews = new InMemoryReportedReviews();
+
+        job = new ReviewRemoderationJob(banWordDictionaryService, groomingReviewPersist, careReviewPersist,
+                reportedReviews, checkpointPersist, 1000, 1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        job.shutdown();
+    }
+
+    @Test
+    public void testCareReviewIsReportedWhenGroomingReviewWithSameIdWasReported() {
+        // 미용 리뷰 7번은 미용사가 이미 신고했고, 같은 ID 의 진료 리뷰 7번에 금칙어가 있다
+        reportedReviews.saveAll(List.of(ReportedReview.builder()
+                .reportedReviewId(REVIEW_ID)
+                .reviewType(ReviewType.GROOMING)
+                .reportType(ReportType.SLANDER)
+                .reportContent(USER_REPORT_CONTENT)
+                .build()));
+        when(groomingReviewPersist.findContentsAfter(anyLong(), anyInt()))
+                .thenReturn(List.of(new ReviewContent(REVIEW_ID, 100L, 200L, "개새끼 같은 미용실")));
+        when(careReviewPersist.findContentsAfter(anyLong(), anyInt()))
+                .thenReturn(List.of(new ReviewContent(REVIEW_ID, 101L, 300L, "개새끼 같은 병원")));
+
+        runJob();
+
+        // 미용 리뷰의 사용자 신고는 그대로, 진료 리뷰는 새로 신고된다
+        ReportedReview groomingReport = reportedReviews.find(ReviewType.GROOMING, REVIEW_ID);
+        Assertions.assertEquals(ReportType.SLANDER, groomingReport.getReportType());
+        Assertions.assertEquals(USER_REPORT_CONTENT, groomingReport.getReportContent());
+
+        ReportedReview careReport = reportedReviews.find(ReviewType.CARE, REVIEW_ID);
+        Assertions.assertNotNull(careReport);
+        Assertions.assertEquals(ReportType.BAD_WORD, careReport.getReportType());
+        Assertions.assertEquals(300L, careReport.getReporterId());
+    }
+
+    // 청크가 하나뿐이라 두 작업이 각각 청크 뒤 한 번, 한 바퀴 완료 한 번씩 체크포인트를 저장하면 끝난 것이다
+    private void runJob() {
+        job.start();
+        verify(checkpointPersist, timeout(5_000).times(4)).save(any());
+    }
+
+    private static class InMemoryReportedReviews implements ReportedReviewPersist {
+
+        private final Map<String, ReportedReview> reports = new HashMap<>();
+
+        @Override
+        public synchronized ReportedReview save(ReportedReview reportedReview) {
+            reports.put(key(reportedReview.getReviewType(), reportedReview.getReportedReviewId()), reportedReview);
+            return reportedReview;
+        }
+
+        @Override
+        public synchronized List<ReportedReview> saveAll(List<ReportedReview> reportedReviews) {
+            reportedReviews.forEach(this::save);
+            return reportedReviews;
+        }
+
+        @Override
+        public synchronized List<Long> findReportedReviewIds(ReviewType reviewType, List<Long> reviewIds) {
+            return reviewIds.stream().filter(reviewId -> reports.containsKey(key(reviewType, reviewId))).toList();
+        }
+
+        @Override
+        public Page<ReportedReview> findByReporterId(Long reporterId, ReviewType reviewType, Pageable pageable) {
+            throw new UnsupportedOperationException();
+        }
+
+        synchronized ReportedReview find(ReviewType reviewType, Long reviewId) {
+            return reports.get(key(reviewType, reviewId));
+        }
+
+        private String key(ReviewType reviewType, Long reviewId) {
+            return reviewType + ":" + reviewId;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import ddog.domain.estimate.CareEstimate;
 import ddog.domain.estimate.EstimateStatus;
 import ddog.domain.estimate.Proposal;
 import ddog.domain.pet.Pet;
+import ddog.domain.notification.enums.NotifyType;
 import ddog.domain.user.User;
 import ddog.domain.vet.Vet;
 import ddog.domain.estimate.port.CareEstimatePersist;
@@ -18,6 +19,7 @@ import ddog.vet.presentation.estimate.dto.CreatePendingEstimateReq;
 import ddog.vet.presentation.estimate.dto.EstimateDetail;
 import ddog.vet.presentation.estimate.dto.EstimateInfo;
 import ddog.vet.presentation.estimate.dto.EstimateResp;
+import ddog.notification.application.NotificationOutboxService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -38,6 +40,8 @@ public class EstimateService {
 
     private final CareEstimatePersist careEstimatePersist;
 
+    private final NotificationOutboxService notificationOutboxService;
+
     @Transactional(readOnly = true)
     public EstimateInfo.General findGeneralEstimates(Long accountId, int page, int size) {
         Vet vet = vetPersist.findByAccountId(accountId)
@@ -115,22 +119,13 @@ public class EstimateService {
         CareEstimate pendingEstimate = CareEstimateMapper.createPendingEstimate(request, vet, careEstimate);
         CareEstimate savedEstimate = careEstimatePersist.save(pendingEstimate);
 
+        User user = userPersist.findByAccountId(savedEstimate.getUserId())
+                .orElseThrow(() -> new UserException(UserExceptionType.USER_NOT_FOUND));
+        notificationOutboxService.enqueueAlimTalk(user.getAccountId(), NotifyType.ESTIMATED, user.getUsername(), user.getPhoneNumber());
+
         return EstimateResp.builder()
                 .estimateId(savedEstimate.getEstimateId())
                 .requestResult("대기 진료 견적서 등록 완료")
                 .build();
     }
-
-    public EstimateInfo.EstimateUserInfo findByUserInfoByEstimateId(Long estimateId) {
-        CareEstimate savedCareEstimate = careEstimatePersist.findByEstimateId(estimateId).orElseThrow(() -> new CareEstimateException(CareEstimateExceptionType.CARE_ESTIMATE_NOT_FOUND));
-        Long userId = savedCareEstimate.getUserId();
-        String userName = userPersist.findByAccountId(userId).orElseThrow(()-> new UserException(UserExceptionType.USER_NOT_FOUND)).getUsername();
-        String userPhone = userPersist.findByAccountId(userId).orElseThrow(() -> new UserException(UserExceptionType.USER_NOT_FOUND)).getPhoneNumber();
-
-        return EstimateInfo.EstimateUserInfo.builder()
-                .userId(userId)
-                .userNickname(userName)
-                .userPhone(userPhone)
-                .build();
-    }
 }
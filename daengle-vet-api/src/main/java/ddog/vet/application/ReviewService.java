@@ -3,6 +3,7 @@ package ddog.vet.application;
 import ddog.domain.payment.port.ReservationPersist;
 import ddog.domain.review.CareReview;
 import ddog.domain.review.ReportedReview;
+import ddog.domain.review.enums.ReviewType;
 import ddog.domain.review.port.CareReviewPersist;
 import ddog.domain.review.port.ReportedReviewPersist;
 import ddog.domain.user.User;
@@ -88,7 +89,7 @@ public class ReviewService {
                 .orElseThrow(() -> new VetException(VetExceptionType.VET_NOT_FOUND));
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<ReportedReview> reportedReviews = reportedReviewPersist.findByReporterId(savedVet.getVetId(), pageable);
+        Page<ReportedReview> reportedReviews = reportedReviewPersist.findByReporterId(savedVet.getVetId(), ReviewType.CARE, pageable);
 
         return mappingToReportedReviewListResp(reportedReviews);
     }
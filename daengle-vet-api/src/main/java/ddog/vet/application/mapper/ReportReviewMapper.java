@@ -2,6 +2,7 @@ package ddog.vet.application.mapper;
 
 import ddog.domain.review.CareReview;
 import ddog.domain.review.ReportedReview;
+import ddog.domain.review.enums.ReviewType;
 import ddog.vet.presentation.review.dto.ReportReviewReq;
 
 public class ReportReviewMapper {
@@ -9,6 +10,7 @@ public class ReportReviewMapper {
     public static ReportedReview create(CareReview careReview, ReportReviewReq reportReviewReq) {
         return ReportedReview.builder()
                 .reportedReviewId(reportReviewReq.getReviewId())
+                .reviewType(ReviewType.CARE)
                 .reporterId(reportReviewReq.getVetId())
                 .reviewerId(careReview.getReviewerId())
                 .reportType(reportReviewReq.getReportType())
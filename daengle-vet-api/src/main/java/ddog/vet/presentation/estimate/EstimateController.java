@@ -2,14 +2,12 @@ package ddog.vet.presentation.estimate;
 
 import ddog.auth.dto.PayloadDto;
 import ddog.auth.exception.common.CommonResponseEntity;
-import ddog.notification.application.KakaoNotificationService;
 import ddog.vet.application.EstimateService;
 import ddog.vet.presentation.estimate.dto.CreatePendingEstimateReq;
 import ddog.vet.presentation.estimate.dto.EstimateDetail;
 import ddog.vet.presentation.estimate.dto.EstimateInfo;
 import ddog.vet.presentation.estimate.dto.EstimateResp;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.env.Environment;
 import org.springframework.web.bind.annotation.*;
 
 import static ddog.auth.exception.common.CommonResponseEntity.success;
@@ -20,9 +18,6 @@ import static ddog.auth.exception.common.CommonResponseEntity.success;
 public class EstimateController {
 
     private final EstimateService estimateService;
-    private final KakaoNotificationService kakaoNotificationService;
-
-    private final Environment environment;
 
     /* (신규) 일반 견적서들 리스트 조회 */
     @GetMapping("/general/list")
@@ -53,8 +48,6 @@ public class EstimateController {
     /* 병원 -> 사용자 (대기) 진료 견적서 작성 */
     @PostMapping
     public CommonResponseEntity<EstimateResp> createEstimate(@RequestBody CreatePendingEstimateReq request, PayloadDto payloadDto) {
-        EstimateInfo.EstimateUserInfo savedEstimate = estimateService.findByUserInfoByEstimateId(request.getId());
-        kakaoNotificationService.sendOneTalk(savedEstimate.getUserNickname(), savedEstimate.getUserPhone(), environment.getProperty("templateId.ESTIMATED"));
         return success(estimateService.createPendingEstimate(request, payloadDto.getAccountId()));
     }
 }
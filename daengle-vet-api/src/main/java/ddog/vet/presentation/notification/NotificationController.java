@@ -3,6 +3,8 @@ package ddog.vet.presentation.notification;
 import ddog.auth.dto.PayloadDto;
 import ddog.auth.exception.common.CommonResponseEntity;
 import ddog.notification.application.NotificationService;
+import ddog.notification.application.dto.NotificationCheckReq;
+import ddog.notification.application.dto.NotificationPageResp;
 import ddog.notification.application.dto.NotificationResp;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -21,8 +23,9 @@ public class NotificationController {
     private final NotificationService notificationService;
 
     @GetMapping
-    public SseEmitter connectSseEmitter(PayloadDto payloadDto) {
-        return notificationService.connectClient(payloadDto.getAccountId());
+    public SseEmitter connectSseEmitter(PayloadDto payloadDto,
+                                        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return notificationService.connectClient(payloadDto.getAccountId(), lastEventId);
     }
 
     @GetMapping("/all")
@@ -30,8 +33,26 @@ public class NotificationController {
         return success(notificationService.findAllNotificationsBy(payloadDto.getAccountId()));
     }
 
+    // 최신 순으로 size 개씩, 다음 페이지는 응답의 nextCursor 를 cursor 로 넘긴다
+    @GetMapping("/page")
+    public CommonResponseEntity<NotificationPageResp> findNotificationPage(PayloadDto payloadDto,
+                                                                           @RequestParam(required = false) Long cursor,
+                                                                           @RequestParam(defaultValue = "20") int size) {
+        return success(notificationService.findNotificationsBy(payloadDto.getAccountId(), cursor, size));
+    }
+
+    @GetMapping("/unread-count")
+    public CommonResponseEntity<Map<String,Object>> countUnreadNotifications(PayloadDto payloadDto) {
+        return success(notificationService.countUnreadNotifications(payloadDto.getAccountId()));
+    }
+
     @DeleteMapping("/check")
     public CommonResponseEntity<Map<String,Object>> checkOneNotification(@RequestParam Long notificationId, PayloadDto payloadDto) {
-        return success(notificationService.checkNotificationById(notificationId));
+        return success(notificationService.checkNotificationById(payloadDto.getAccountId(), notificationId));
+    }
+
+    @DeleteMapping("/check/bulk")
+    public CommonResponseEntity<Map<String,Object>> checkNotifications(@RequestBody NotificationCheckReq request, PayloadDto payloadDto) {
+        return success(notificationService.checkNotifications(payloadDto.getAccountId(), request.getNotificationIds()));
     }
 }
\ No newline at end of file